@@ -0,0 +1,109 @@
+package com.minecraft.mod.by.radchuk.gradle
+
+import com.minecraft.mod.by.radchuk.utils.entities.data.MobDefinitionFormat
+import groovy.json.JsonSlurper
+import org.gradle.api.DefaultTask
+import org.gradle.api.GradleException
+import org.gradle.api.file.ConfigurableFileCollection
+import org.gradle.api.file.DirectoryProperty
+import org.gradle.api.provider.Property
+import org.gradle.api.tasks.Input
+import org.gradle.api.tasks.InputFiles
+import org.gradle.api.tasks.OutputDirectory
+import org.gradle.api.tasks.PathSensitive
+import org.gradle.api.tasks.PathSensitivity
+import org.gradle.api.tasks.TaskAction
+
+/**
+ * Сборка индекса определений мобов из JSON-файлов в {@code data/<modid>/mob_index.bin}.
+ * <p>
+ * Формат индекса описан в {@code MobDefinitionIndex}, допустимые значения
+ * берутся из {@link MobDefinitionFormat}. ID моба - имя файла без расширения.
+ */
+abstract class CompileMobDefinitions extends DefaultTask {
+    /**
+     * JSON-файлы определений.
+     */
+    @InputFiles
+    @PathSensitive(PathSensitivity.NAME_ONLY)
+    abstract ConfigurableFileCollection getDefinitions()
+
+    /**
+     * ID мода, задает путь индекса в ресурсах.
+     */
+    @Input
+    abstract Property<String> getModId()
+
+    /**
+     * Папка ресурсов, в которую записывается индекс.
+     */
+    @OutputDirectory
+    abstract DirectoryProperty getOutputDir()
+
+    @TaskAction
+    void compile() {
+        def files = definitions.files.sort { it.name }
+        def index = outputDir.get().file("data/${modId.get()}/mob_index.bin").asFile
+        index.parentFile.mkdirs()
+
+        index.withDataOutputStream { out ->
+            out.writeInt(MobDefinitionFormat.MAGIC)
+            out.writeInt(MobDefinitionFormat.VERSION)
+            out.writeInt(files.size())
+            files.each { source -> write(out, source) }
+        }
+        logger.info("Собран индекс определений мобов: ${files.size()} шт.")
+    }
+
+    protected static void write(DataOutputStream out, File source) {
+        def id = source.name - '.json'
+        def json = new JsonSlurper().parse(source, 'UTF-8')
+        def fail = { String message -> throw new GradleException("${source.name}: ${message}") }
+        def unknown = json.keySet() - MobDefinitionFormat.KEYS
+        if (unknown) fail("неизвестные параметры ${unknown}")
+
+        def model = json.model ?: 'humanoid'
+        if (!(model in MobDefinitionFormat.MODELS)) fail("неизвестная модель ${model}")
+        def category = (json.category ?: 'monster').toUpperCase(Locale.ROOT)
+        if (!(category in MobDefinitionFormat.CATEGORIES)) fail("неизвестная категория ${json.category}")
+        def size = json.size ?: [0.6, 1.95]
+        if (size.size() != 2) fail('size должен содержать ширину и высоту')
+        def base = json.attribute_base ?: 'monster'
+        if (!(base in MobDefinitionFormat.ATTRIBUTE_BASES)) fail("неизвестный базовый набор атрибутов ${base}")
+        def attributes = json.attributes ?: [:]
+        def attackDamage = base in MobDefinitionFormat.ATTACK_DAMAGE_BASES
+            || attributes.keySet().any { MobDefinitionFormat.attributeId(it) == MobDefinitionFormat.ATTACK_DAMAGE }
+        if (!attackDamage && (json.goals ?: []).any { it.type == MobDefinitionFormat.MELEE_ATTACK }) {
+            fail("цели ${MobDefinitionFormat.MELEE_ATTACK} нужен атрибут ${MobDefinitionFormat.ATTACK_DAMAGE}: "
+                + "задайте его в attributes или используйте attribute_base ${MobDefinitionFormat.ATTACK_DAMAGE_BASES.join('/')}")
+        }
+
+        out.writeUTF(id)
+        out.writeUTF(model)
+        out.writeUTF(category)
+        out.writeFloat(size[0] as float)
+        out.writeFloat(size[1] as float)
+        out.writeUTF(json.texture ?: "textures/entity/${id}.png")
+        out.writeUTF(base)
+        out.writeInt((json.tracking_range ?: -1) as int)
+        out.writeInt((json.update_interval ?: -1) as int)
+
+        out.writeInt(attributes.size())
+        attributes.each { name, value ->
+            out.writeUTF(MobDefinitionFormat.attributeId(name))
+            out.writeDouble(value as double)
+        }
+        [goals: MobDefinitionFormat.GOAL_TYPES, targets: MobDefinitionFormat.TARGET_TYPES].each { key, types ->
+            def goals = json[key] ?: []
+            out.writeInt(goals.size())
+            goals.each { goal ->
+                if (!(goal.type in types)) fail("неизвестный тип цели ${goal.type} в ${key}")
+                if (goal.priority == null) fail("не указан приоритет цели ${goal.type}")
+                def value = goal.speed != null ? goal.speed : goal.range
+                out.writeUTF(goal.type)
+                out.writeInt(goal.priority as int)
+                out.writeFloat(value != null ? value as float : Float.NaN)
+            }
+        }
+    }
+}
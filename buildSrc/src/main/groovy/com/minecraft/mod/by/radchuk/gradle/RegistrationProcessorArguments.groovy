@@ -0,0 +1,55 @@
+package com.minecraft.mod.by.radchuk.gradle
+
+import org.gradle.api.file.DirectoryProperty
+import org.gradle.api.file.RegularFileProperty
+import org.gradle.api.provider.Property
+import org.gradle.api.tasks.Input
+import org.gradle.api.tasks.InputDirectory
+import org.gradle.api.tasks.InputFile
+import org.gradle.api.tasks.Optional
+import org.gradle.api.tasks.PathSensitive
+import org.gradle.api.tasks.PathSensitivity
+import org.gradle.process.CommandLineArgumentProvider
+
+/**
+ * Параметры обработчика аннотаций регистрации для {@code compileJava}.
+ * <p>
+ * Обработчику нужны абсолютные пути, но во входы задачи попадают только
+ * содержимое и относительные пути файлов, поэтому ключ кэша сборки
+ * не зависит от расположения проекта на машине.
+ */
+abstract class RegistrationProcessorArguments implements CommandLineArgumentProvider {
+    /**
+     * ID мода ({@code radchuk.modId}).
+     */
+    @Input
+    abstract Property<String> getModId()
+
+    /**
+     * Папка JSON-определений мобов ({@code radchuk.mobDefinitions}).
+     */
+    @InputDirectory
+    @Optional
+    @PathSensitive(PathSensitivity.RELATIVE)
+    abstract DirectoryProperty getMobDefinitions()
+
+    /**
+     * Дополнительные строки en_us.json ({@code radchuk.lang}).
+     */
+    @InputFile
+    @Optional
+    @PathSensitive(PathSensitivity.RELATIVE)
+    abstract RegularFileProperty getLang()
+
+    @Override
+    Iterable<String> asArguments() {
+        List<String> arguments = ["-Aradchuk.modId=${modId.get()}".toString()]
+        if (mobDefinitions.present) {
+            arguments << "-Aradchuk.mobDefinitions=${mobDefinitions.get().asFile.absolutePath}".toString()
+        }
+        if (lang.present) {
+            arguments << "-Aradchuk.lang=${lang.get().asFile.absolutePath}".toString()
+        }
+        return arguments
+    }
+}
@@ -0,0 +1,60 @@
+package com.minecraft.mod.by.radchuk.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Отмечает статическое поле с объектом регистрации предмета.
+ * <p>
+ * По отмеченным полям при компиляции создаются класс регистрации мода,
+ * английские названия предметов в {@code lang/en_us.json} и модели предметов.
+ * Класс, объявляющий поле, должен содержать метод
+ * {@code public static void register(IEventBus)}.
+ * <p>
+ * Пример использования:
+ * <pre>
+ * &#64;ModItem(id = "ruby", name = "Ruby")
+ * public static final RegistryObject&lt;Item&gt; RUBY = ItemFactory.createBasicItem(MOD_ID, "ruby", new Item.Properties());
+ * </pre>
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.FIELD)
+public @interface ModItem {
+    /**
+     * ID предмета, совпадающий с ID при регистрации. Обработчик проверяет, что
+     * он передается строкой в вызов фабрики в инициализаторе поля.
+     *
+     * @return ID предмета
+     */
+    String id();
+
+    /**
+     * Английское название предмета. Если не указано, строится из ID.
+     *
+     * @return название предмета
+     */
+    String name() default "";
+
+    /**
+     * Модель предмета.
+     *
+     * @return вид модели
+     */
+    Model model() default Model.GENERATED;
+
+    /**
+     * Вид создаваемой модели предмета.
+     */
+    enum Model {
+        /** Плоский предмет с текстурой {@code item/<id>} */
+        GENERATED,
+        /** Инструмент в руке с текстурой {@code item/<id>} */
+        HANDHELD,
+        /** Яйцо спавна */
+        SPAWN_EGG,
+        /** Модель не создается */
+        NONE
+    }
+}
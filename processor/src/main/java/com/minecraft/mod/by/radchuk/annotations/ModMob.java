@@ -0,0 +1,34 @@
+package com.minecraft.mod.by.radchuk.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Отмечает статическое поле с объектом регистрации типа моба.
+ * <p>
+ * Классы с мобами регистрируются в созданном классе регистрации раньше
+ * классов с предметами, чтобы яйца спавна видели типы мобов. Английское
+ * название моба добавляется в {@code lang/en_us.json}.
+ * Класс, объявляющий поле, должен содержать метод
+ * {@code public static void register(IEventBus)}.
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.FIELD)
+public @interface ModMob {
+    /**
+     * ID моба, совпадающий с ID при регистрации. Обработчик проверяет, что
+     * он передается строкой в вызов фабрики в инициализаторе поля.
+     *
+     * @return ID моба
+     */
+    String id();
+
+    /**
+     * Английское название моба. Если не указано, строится из ID.
+     *
+     * @return название моба
+     */
+    String name() default "";
+}
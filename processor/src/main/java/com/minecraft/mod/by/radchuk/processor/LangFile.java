@@ -0,0 +1,110 @@
+package com.minecraft.mod.by.radchuk.processor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Чтение файла перевода - плоского JSON-объекта со строковыми значениями.
+ * <p>
+ * Обработчик не зависит от сторонних библиотек, поэтому формат разбирается вручную.
+ */
+final class LangFile {
+    private final String text;
+    private final String source;
+    private int position;
+
+    private LangFile(String text, String source) {
+        this.text = text;
+        this.source = source;
+    }
+
+    /**
+     * Разбирает файл перевода.
+     *
+     * @param text Содержимое файла
+     * @param source Имя файла для сообщений об ошибках
+     * @return Строки перевода в порядке файла
+     * @throws IllegalArgumentException если файл не является плоским JSON-объектом строк
+     */
+    static Map<String, String> parse(String text, String source) {
+        return new LangFile(text, source).object();
+    }
+
+    private Map<String, String> object() {
+        Map<String, String> entries = new LinkedHashMap<>();
+        expect('{');
+        if (peek() == '}') {
+            position++;
+        } else {
+            do {
+                String key = string();
+                expect(':');
+                entries.put(key, string());
+            } while (next() == ',');
+            position--;
+            expect('}');
+        }
+        if (peek() != 0) {
+            throw error("лишние символы после объекта");
+        }
+        return entries;
+    }
+
+    private String string() {
+        expect('"');
+        StringBuilder value = new StringBuilder();
+        while (position < text.length()) {
+            char c = text.charAt(position++);
+            if (c == '"') {
+                return value.toString();
+            }
+            if (c != '\\') {
+                value.append(c);
+                continue;
+            }
+            if (position >= text.length()) {
+                break;
+            }
+            char escaped = text.charAt(position++);
+            switch (escaped) {
+                case 'n' -> value.append('\n');
+                case 't' -> value.append('\t');
+                case 'r' -> value.append('\r');
+                case 'b' -> value.append('\b');
+                case 'f' -> value.append('\f');
+                case 'u' -> {
+                    if (position + 4 > text.length()) {
+                        throw error("неполная escape-последовательность");
+                    }
+                    value.append((char) Integer.parseInt(text.substring(position, position + 4), 16));
+                    position += 4;
+                }
+                default -> value.append(escaped);
+            }
+        }
+        throw error("незакрытая строка");
+    }
+
+    private void expect(char expected) {
+        if (next() != expected) {
+            throw error("ожидался символ '" + expected + "'");
+        }
+    }
+
+    private char next() {
+        char c = peek();
+        position++;
+        return c;
+    }
+
+    private char peek() {
+        while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+            position++;
+        }
+        return position < text.length() ? text.charAt(position) : 0;
+    }
+
+    private IllegalArgumentException error(String reason) {
+        return new IllegalArgumentException("Некорректный файл перевода " + source + ": " + reason + " (позиция " + position + ")");
+    }
+}
@@ -0,0 +1,428 @@
+package com.minecraft.mod.by.radchuk.processor;
+
+import com.minecraft.mod.by.radchuk.annotations.ModItem;
+import com.minecraft.mod.by.radchuk.annotations.ModMob;
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.LiteralTree;
+import com.sun.source.tree.MethodInvocationTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.tree.VariableTree;
+import com.sun.source.util.TreeScanner;
+import com.sun.source.util.Trees;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Обработчик аннотаций {@link ModItem} и {@link ModMob}.
+ * <p>
+ * По отмеченным полям при компиляции создает:
+ * <ul>
+ *   <li>класс регистрации с прямыми вызовами {@code register(IEventBus)} классов,
+ *       объявляющих поля: сначала классы с мобами, затем классы с предметами;</li>
+ *   <li>{@code assets/<modid>/lang/en_us.json} с английскими названиями;</li>
+ *   <li>{@code assets/<modid>/models/item/<id>.json} для предметов.</li>
+ * </ul>
+ * <p>
+ * ID аннотации должен встречаться строковым аргументом вызова фабрики в
+ * инициализаторе поля, например {@code ItemFactory.createSpawnEgg(MOD_ID, "id", ...)},
+ * иначе компиляция завершается ошибкой: так ID аннотации не расходится с ID
+ * регистрации. Если ID в инициализаторе задан не строкой, выводится предупреждение.
+ * <p>
+ * Параметры обработчика:
+ * <ul>
+ *   <li>{@code radchuk.modId} - ID мода (обязательный);</li>
+ *   <li>{@code radchuk.registrationClass} - полное имя создаваемого класса,
+ *       по умолчанию {@code ModRegistration} в общем пакете отмеченных классов;</li>
+ *   <li>{@code radchuk.mobDefinitions} - папка JSON-определений мобов, для каждого
+ *       определения в lang добавляется название, построенное из ID;</li>
+ *   <li>{@code radchuk.lang} - JSON-файл с дополнительными английскими строками
+ *       (например, названиями вкладок {@code itemGroup.*}), его строки заменяют созданные.</li>
+ * </ul>
+ */
+@SupportedAnnotationTypes({
+    "com.minecraft.mod.by.radchuk.annotations.ModItem",
+    "com.minecraft.mod.by.radchuk.annotations.ModMob"
+})
+@SupportedOptions({
+    RegistrationProcessor.MOD_ID_OPTION,
+    RegistrationProcessor.CLASS_OPTION,
+    RegistrationProcessor.MOB_DEFINITIONS_OPTION,
+    RegistrationProcessor.LANG_OPTION
+})
+public class RegistrationProcessor extends AbstractProcessor {
+    static final String MOD_ID_OPTION = "radchuk.modId";
+    static final String CLASS_OPTION = "radchuk.registrationClass";
+    static final String MOB_DEFINITIONS_OPTION = "radchuk.mobDefinitions";
+    static final String LANG_OPTION = "radchuk.lang";
+
+    private static final String EVENT_BUS = "net.minecraftforge.eventbus.api.IEventBus";
+    private static final String DEFAULT_CLASS_NAME = "ModRegistration";
+
+    private boolean generated;
+    private Trees trees;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        try {
+            trees = Trees.instance(processingEnv);
+        } catch (IllegalArgumentException e) {
+            // Не javac: деревья исходников недоступны, ID фабрик не проверяются
+            trees = null;
+        }
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (generated || annotations.isEmpty()) {
+            return false;
+        }
+        Messager messager = processingEnv.getMessager();
+        String modId = processingEnv.getOptions().get(MOD_ID_OPTION);
+        if (modId == null || modId.isEmpty()) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Не задан параметр обработчика " + MOD_ID_OPTION);
+            return false;
+        }
+
+        List<Entry> mobs = collect(roundEnv, ModMob.class, messager);
+        List<Entry> items = collect(roundEnv, ModItem.class, messager);
+        if (!checkUniqueIds(mobs, messager) || !checkUniqueIds(items, messager)
+            || !checkFactoryIds(mobs, messager) || !checkFactoryIds(items, messager)) {
+            return false;
+        }
+
+        // Классы с мобами регистрируются первыми, затем остальные классы с предметами
+        Set<TypeElement> owners = new LinkedHashSet<>();
+        mobs.stream().map(Entry::owner).sorted(Comparator.comparing(RegistrationProcessor::nameOf)).forEach(owners::add);
+        items.stream().map(Entry::owner).sorted(Comparator.comparing(RegistrationProcessor::nameOf)).forEach(owners::add);
+        for (TypeElement owner : owners) {
+            if (!hasRegisterMethod(owner)) {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                    "Класс должен объявлять public static void register(IEventBus)", owner);
+                return false;
+            }
+        }
+
+        Element[] originating = owners.toArray(new Element[0]);
+        try {
+            writeRegistrationClass(modId, owners, mobs.size(), items.size(), originating);
+            writeLang(modId, mobs, items, originating);
+            writeModels(modId, items, originating);
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Не удалось записать файлы регистрации: " + e.getMessage());
+        } catch (IllegalArgumentException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, e.getMessage());
+        }
+        generated = true;
+        return false;
+    }
+
+    private List<Entry> collect(RoundEnvironment roundEnv, Class<? extends java.lang.annotation.Annotation> annotation,
+                                Messager messager) {
+        List<Entry> entries = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(roundEnv.getElementsAnnotatedWith(annotation))) {
+            Set<Modifier> modifiers = field.getModifiers();
+            if (!modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.PRIVATE)) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "Поле регистрации должно быть статическим и не приватным", field);
+                continue;
+            }
+            if (!field.asType().toString().startsWith("net.minecraftforge.registries.RegistryObject")) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "Поле регистрации должно иметь тип RegistryObject", field);
+                continue;
+            }
+            TypeElement owner = (TypeElement) field.getEnclosingElement();
+            if (annotation == ModItem.class) {
+                ModItem item = field.getAnnotation(ModItem.class);
+                entries.add(new Entry(owner, field, item.id(), item.name(), item.model()));
+            } else {
+                ModMob mob = field.getAnnotation(ModMob.class);
+                entries.add(new Entry(owner, field, mob.id(), mob.name(), ModItem.Model.NONE));
+            }
+        }
+        return entries;
+    }
+
+    private static boolean checkUniqueIds(List<Entry> entries, Messager messager) {
+        Map<String, Entry> byId = new TreeMap<>();
+        boolean unique = true;
+        for (Entry entry : entries) {
+            if (byId.putIfAbsent(entry.id(), entry) != null) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "Повторяющийся ID регистрации: " + entry.id(), entry.field());
+                unique = false;
+            }
+        }
+        return unique;
+    }
+
+    /**
+     * Проверяет, что ID аннотации передается строкой в вызов фабрики в инициализаторе поля.
+     */
+    private boolean checkFactoryIds(List<Entry> entries, Messager messager) {
+        if (trees == null) {
+            return true;
+        }
+        boolean matched = true;
+        for (Entry entry : entries) {
+            Tree tree = trees.getTree(entry.field());
+            if (!(tree instanceof VariableTree variable) || variable.getInitializer() == null) {
+                continue;
+            }
+            List<String> literals = new ArrayList<>();
+            new TreeScanner<Void, Void>() {
+                @Override
+                public Void visitMethodInvocation(MethodInvocationTree node, Void unused) {
+                    for (ExpressionTree argument : node.getArguments()) {
+                        if (argument instanceof LiteralTree literal && literal.getValue() instanceof String value) {
+                            literals.add(value);
+                        }
+                    }
+                    return super.visitMethodInvocation(node, unused);
+                }
+            }.scan(variable.getInitializer(), null);
+            if (literals.isEmpty()) {
+                messager.printMessage(Diagnostic.Kind.WARNING,
+                    "ID " + entry.id() + " не проверен: в вызове фабрики нет строковых аргументов", entry.field());
+            } else if (!literals.contains(entry.id())) {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                    "ID аннотации " + entry.id() + " не совпадает с ID в вызове фабрики " + literals, entry.field());
+                matched = false;
+            }
+        }
+        return matched;
+    }
+
+    private static boolean hasRegisterMethod(TypeElement owner) {
+        for (ExecutableElement method : ElementFilter.methodsIn(owner.getEnclosedElements())) {
+            Set<Modifier> modifiers = method.getModifiers();
+            if (method.getSimpleName().contentEquals("register")
+                && modifiers.contains(Modifier.STATIC) && !modifiers.contains(Modifier.PRIVATE)
+                && method.getParameters().size() == 1
+                && method.getParameters().get(0).asType().toString().equals(EVENT_BUS)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void writeRegistrationClass(String modId, Set<TypeElement> owners, int mobCount, int itemCount,
+                                        Element[] originating) throws IOException {
+        String className = processingEnv.getOptions().get(CLASS_OPTION);
+        if (className == null || className.isEmpty()) {
+            String commonPackage = commonPackage(owners);
+            className = commonPackage.isEmpty() ? DEFAULT_CLASS_NAME : commonPackage + "." + DEFAULT_CLASS_NAME;
+        }
+        int dot = className.lastIndexOf('.');
+        String packageName = dot < 0 ? "" : className.substring(0, dot);
+        String simpleName = className.substring(dot + 1);
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n")
+            .append(" * Регистрация объектов мода. Создан обработчиком аннотаций, не редактировать.\n")
+            .append(" */\n")
+            .append("@javax.annotation.processing.Generated(\"").append(RegistrationProcessor.class.getName()).append("\")\n")
+            .append("public final class ").append(simpleName).append(" {\n")
+            .append("    /** ID мода */\n")
+            .append("    public static final String MOD_ID = \"").append(modId).append("\";\n\n")
+            .append("    /** Количество мобов, отмеченных аннотацией ModMob */\n")
+            .append("    public static final int MOB_COUNT = ").append(mobCount).append(";\n\n")
+            .append("    /** Количество предметов, отмеченных аннотацией ModItem */\n")
+            .append("    public static final int ITEM_COUNT = ").append(itemCount).append(";\n\n")
+            .append("    private ").append(simpleName).append("() {}\n\n")
+            .append("    /**\n")
+            .append("     * Регистрирует всех мобов и все предметы мода.\n")
+            .append("     *\n")
+            .append("     * @param modEventBus Шина событий мода\n")
+            .append("     */\n")
+            .append("    public static void register(").append(EVENT_BUS).append(" modEventBus) {\n");
+        for (TypeElement owner : owners) {
+            source.append("        ").append(nameOf(owner)).append(".register(modEventBus);\n");
+        }
+        source.append("    }\n")
+            .append("}\n");
+
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(className, originating);
+        try (Writer writer = file.openWriter()) {
+            writer.write(source.toString());
+        }
+    }
+
+    private void writeLang(String modId, List<Entry> mobs, List<Entry> items, Element[] originating) throws IOException {
+        Map<String, String> lang = new TreeMap<>();
+        for (Entry mob : mobs) {
+            lang.put("entity." + modId + "." + mob.id(), mob.displayName());
+        }
+        for (Entry item : items) {
+            lang.put("item." + modId + "." + item.id(), item.displayName());
+        }
+        String definitions = processingEnv.getOptions().get(MOB_DEFINITIONS_OPTION);
+        if (definitions != null && !definitions.isEmpty()) {
+            for (String id : mobDefinitionIds(Paths.get(definitions))) {
+                lang.putIfAbsent("entity." + modId + "." + id, displayName(id));
+            }
+        }
+        String extra = processingEnv.getOptions().get(LANG_OPTION);
+        if (extra != null && !extra.isEmpty() && Files.exists(Paths.get(extra))) {
+            lang.putAll(LangFile.parse(Files.readString(Paths.get(extra), StandardCharsets.UTF_8), extra));
+        }
+
+        StringBuilder json = new StringBuilder("{\n");
+        int index = 0;
+        for (Map.Entry<String, String> entry : lang.entrySet()) {
+            json.append("    \"").append(escape(entry.getKey())).append("\": \"").append(escape(entry.getValue())).append('"');
+            json.append(++index < lang.size() ? ",\n" : "\n");
+        }
+        json.append("}\n");
+        writeResource("assets/" + modId + "/lang/en_us.json", json.toString(), originating);
+    }
+
+    private void writeModels(String modId, List<Entry> items, Element[] originating) throws IOException {
+        for (Entry item : items) {
+            String json = switch (item.model()) {
+                case GENERATED -> textureModel("minecraft:item/generated", modId, item.id());
+                case HANDHELD -> textureModel("minecraft:item/handheld", modId, item.id());
+                case SPAWN_EGG -> "{\n    \"parent\": \"minecraft:item/template_spawn_egg\"\n}\n";
+                case NONE -> null;
+            };
+            if (json != null) {
+                writeResource("assets/" + modId + "/models/item/" + item.id() + ".json", json, originating);
+            }
+        }
+    }
+
+    private static List<String> mobDefinitionIds(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                .filter(name -> name.endsWith(".json"))
+                .map(name -> name.substring(0, name.length() - ".json".length()))
+                .sorted()
+                .toList();
+        }
+    }
+
+    private static String textureModel(String parent, String modId, String id) {
+        return "{\n"
+            + "    \"parent\": \"" + parent + "\",\n"
+            + "    \"textures\": {\n"
+            + "        \"layer0\": \"" + modId + ":item/" + id + "\"\n"
+            + "    }\n"
+            + "}\n";
+    }
+
+    private void writeResource(String path, String content, Element[] originating) throws IOException {
+        FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", path, originating);
+        try (Writer writer = file.openWriter()) {
+            writer.write(content);
+        }
+    }
+
+    private String commonPackage(Set<TypeElement> owners) {
+        String common = null;
+        for (TypeElement owner : owners) {
+            String name = processingEnv.getElementUtils().getPackageOf(owner).getQualifiedName().toString();
+            if (common == null) {
+                common = name;
+                continue;
+            }
+            while (!name.equals(common) && !name.startsWith(common + ".")) {
+                int dot = common.lastIndexOf('.');
+                common = dot < 0 ? "" : common.substring(0, dot);
+            }
+        }
+        return common == null ? "" : common;
+    }
+
+    private static String nameOf(TypeElement type) {
+        return type.getQualifiedName().toString();
+    }
+
+    private static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> escaped.append("\\\"");
+                case '\\' -> escaped.append("\\\\");
+                case '\n' -> escaped.append("\\n");
+                case '\t' -> escaped.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        escaped.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        escaped.append(c);
+                    }
+                }
+            }
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * Отмеченное поле регистрации.
+     */
+    private record Entry(TypeElement owner, VariableElement field, String id, String name, ModItem.Model model) {
+        /**
+         * Название из аннотации или построенное из ID.
+         */
+        String displayName() {
+            return name.isEmpty() ? RegistrationProcessor.displayName(id) : name;
+        }
+    }
+
+    /**
+     * Название, построенное из ID: {@code custom_human_mob} - {@code Custom Human Mob}.
+     */
+    private static String displayName(String id) {
+        StringBuilder words = new StringBuilder();
+        for (String word : id.split("_")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            if (!words.isEmpty()) {
+                words.append(' ');
+            }
+            words.append(Character.toUpperCase(word.charAt(0))).append(word.substring(1));
+        }
+        return words.toString();
+    }
+}
@@ -1,8 +1,9 @@
 package com.minecraft.mod.by.radchuk;
 
 import com.minecraft.mod.by.radchuk.common.MinecraftModByRadchukConfiguration;
-import com.minecraft.mod.by.radchuk.registry.ModMobs;
 import com.minecraft.mod.by.radchuk.registry.ModItems;
+import com.minecraft.mod.by.radchuk.registry.ModRegistration;
+import com.minecraft.mod.by.radchuk.utils.registry.StartupReport;
 import com.minecraft.mod.by.radchuk.utils.tabs.ModTabsRegistry;
 import net.minecraft.world.item.Items;
 import net.minecraftforge.common.MinecraftForge;
@@ -64,33 +65,46 @@ public class MinecraftModByRadchuk {
         // Получаем шину событий мода
         IEventBus modEventBus = FMLJavaModLoadingContext.get().getModEventBus();
 
-        // Регистрация обработчиков событий жизненного цикла мода
-        modEventBus.addListener(this::setup);
-        modEventBus.addListener(this::clientSetup);
-        modEventBus.addListener(this::serverSetup);
-
-        // Инициализация мобов с использованием нашей новой фабрики
-        ModMobs.register(modEventBus);
-
-        // Регистрируем предметы ПОСЛЕ сущностей
-        // (важно для предметов, зависящих от сущностей, например, яиц спавна)
-        ModItems.register(modEventBus);
-
-        // Создание вкладок с помощью утилитарного модуля
-        ModTabsRegistry.registerTabWithItems(
-            MinecraftModByRadchukConfiguration.MOD_ID, // ID мода
-            "mod_items_tab", // ID вкладки
-            () -> Items.CHEST, // Иконка - сундук
-            // Все предметы в одной вкладке
-            ModItems.CUSTOM_MOB_SPAWN_EGG
-        );
-
-        // Регистрация всех вкладок мода
-        ModTabsRegistry.registerTabsForMod(MinecraftModByRadchukConfiguration.MOD_ID, modEventBus);
-
-        // Регистрация мода на шине событий Forge
-        MinecraftForge.EVENT_BUS.register(this);
-
+        // Этапы запуска выводятся одной сводкой после завершения загрузки
+        StartupReport report = StartupReport.get(MinecraftModByRadchukConfiguration.MOD_ID);
+        report.attach(modEventBus);
+        try (StartupReport.Phase construct = report.begin("MinecraftModByRadchuk.<init>")) {
+            // Регистрация обработчиков событий жизненного цикла мода
+            modEventBus.addListener(this::setup);
+            modEventBus.addListener(this::clientSetup);
+            modEventBus.addListener(this::serverSetup);
+
+            // Регистрация мобов и предметов, созданная обработчиком аннотаций:
+            // мобы регистрируются ПЕРЕД предметами (важно для яиц спавна).
+            // Время этапа включает инициализацию классов ModMobs и ModItems
+            try (StartupReport.Phase phase = report.begin("ModRegistration.register")) {
+                ModRegistration.register(modEventBus);
+            }
+
+            try (StartupReport.Phase phase = report.begin("ModTabsRegistry")) {
+                // Создание вкладок с помощью утилитарного модуля
+                ModTabsRegistry.registerTabWithItems(
+                    MinecraftModByRadchukConfiguration.MOD_ID, // ID мода
+                    "mod_items_tab", // ID вкладки
+                    () -> Items.CHEST, // Иконка - сундук
+                    // Все предметы в одной вкладке
+                    ModItems.CUSTOM_MOB_SPAWN_EGG,
+                    ModItems.CUSTOM_MOB_WAVE_SPAWN_EGG
+                );
+                // Вкладка с поиском по всем предметам мода
+                ModTabsRegistry.registerSearchTab(
+                    MinecraftModByRadchukConfiguration.MOD_ID,
+                    "mod_search_tab",
+                    () -> Items.COMPASS
+                );
+
+                // Регистрация всех вкладок мода
+                ModTabsRegistry.registerTabsForMod(MinecraftModByRadchukConfiguration.MOD_ID, modEventBus);
+            }
+
+            // Регистрация мода на шине событий Forge
+            MinecraftForge.EVENT_BUS.register(this);
+        }
         LOGGER.info("Мод инициализирован!");
     }
 
@@ -1,8 +1,12 @@
 package com.minecraft.mod.by.radchuk.custom_entities;
 
+import com.minecraft.mod.by.radchuk.utils.entities.ai.IndexedLookAtPlayerGoal;
+import com.minecraft.mod.by.radchuk.utils.entities.ai.IndexedNearestPlayerTargetGoal;
+import com.minecraft.mod.by.radchuk.utils.entities.navigation.MobPathNavigation;
+import com.minecraft.mod.by.radchuk.utils.entities.profiling.MobProfiler;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.ai.goal.*;
-import net.minecraft.world.entity.ai.goal.target.NearestAttackableTargetGoal;
+import net.minecraft.world.entity.ai.navigation.PathNavigation;
 import net.minecraft.world.entity.monster.Monster;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
@@ -63,6 +67,8 @@ public class CustomHumanMob extends Monster {
      *   <li>Случайный осмотр окружения</li>
      *   <li>Выбор ближайшего игрока как цели для атаки</li>
      * </ul>
+     * Поиск игроков выполняется через общий индекс игроков мира,
+     * а не отдельным перебором для каждого моба.
      */
     @Override
     protected void registerGoals() {
@@ -70,11 +76,25 @@ public class CustomHumanMob extends Monster {
         this.goalSelector.addGoal(0, new FloatGoal(this)); // Плавать, если в воде (высший приоритет)
         this.goalSelector.addGoal(1, new MeleeAttackGoal(this, 1.0D, true)); // Атака в ближнем бою со скоростью 1.0
         this.goalSelector.addGoal(1, new WaterAvoidingRandomStrollGoal(this, 1.0D)); // Случайно бродить, избегая воды
-        this.goalSelector.addGoal(2, new LookAtPlayerGoal(this, Player.class, 8.0F)); // Смотреть на игрока в радиусе 8 блоков
+        this.goalSelector.addGoal(2, new IndexedLookAtPlayerGoal(this, 8.0F)); // Смотреть на игрока в радиусе 8 блоков
         this.goalSelector.addGoal(3, new RandomLookAroundGoal(this)); // Случайно осматриваться
 
         // Цели выбора целей для атаки
-        this.targetSelector.addGoal(1, new NearestAttackableTargetGoal<>(this, Player.class, true)); // Атаковать ближайшего игрока
+        this.targetSelector.addGoal(1, new IndexedNearestPlayerTargetGoal(this, true)); // Атаковать ближайшего игрока
+    }
+
+    /**
+     * Создает навигацию моба.
+     * <p>
+     * Навигация выбирается по настройкам типа в фабрике мобов: при включенном
+     * асинхронном поиске пути пути считаются вне серверного потока.
+     *
+     * @param level мир, в котором находится сущность
+     * @return навигация моба
+     */
+    @Override
+    protected @NotNull PathNavigation createNavigation(@NotNull Level level) {
+        return MobPathNavigation.create(this, level);
     }
 
     /**
@@ -98,12 +118,15 @@ public class CustomHumanMob extends Monster {
      * использоваться для добавления дополнительной логики поведения,
      * которая должна выполняться постоянно.
      * <p>
-     * В текущей реализации просто вызывает родительский метод, но может
+     * Время тика замеряется {@link MobProfiler}, если сбор измерений включен.
+     * В остальном просто вызывает родительский метод, но может
      * быть расширен для добавления специфического поведения.
      */
     @Override
     public void tick() {
+        long start = MobProfiler.tickStart();
         super.tick();
+        MobProfiler.tickEnd(this, start);
         // Здесь можно добавить дополнительную логику, выполняемую каждый тик
         // Например: проверка окружения, создание частиц, специальные действия и т.д.
     }
@@ -1,8 +1,10 @@
 package com.minecraft.mod.by.radchuk.registry;
 
+import com.minecraft.mod.by.radchuk.annotations.ModItem;
 import com.minecraft.mod.by.radchuk.common.MinecraftModByRadchukConfiguration;
 import com.minecraft.mod.by.radchuk.utils.items.ItemFactory;
 import com.minecraft.mod.by.radchuk.utils.items.ItemRegistry;
+import com.minecraft.mod.by.radchuk.utils.registry.StartupReport;
 import net.minecraft.world.item.*;
 import net.minecraftforge.eventbus.api.IEventBus;
 import net.minecraftforge.registries.RegistryObject;
@@ -29,6 +31,7 @@ public class ModItems {
      * Этот предмет позволяет игрокам создавать экземпляры моба CustomHumanMob
      * в игровом мире. Цвета яйца настроены на белый (основной) и черный (вторичный).
      */
+    @ModItem(id = "custom_human_mob_spawn_egg", name = "Human Spawn Egg", model = ModItem.Model.SPAWN_EGG)
     public static final RegistryObject<Item> CUSTOM_MOB_SPAWN_EGG = ItemFactory.createSpawnEgg(
         MinecraftModByRadchukConfiguration.MOD_ID,
         "custom_human_mob_spawn_egg",
@@ -37,21 +40,38 @@ public class ModItems {
         0x000000   // Вторичный цвет (черный)
     );
 
+    /**
+     * Яйцо пакетного спавна для пользовательского гуманоидного моба.
+     * <p>
+     * Создает сразу 16 мобов CustomHumanMob вокруг места использования.
+     */
+    @ModItem(id = "custom_human_mob_wave_spawn_egg", name = "Human Squad Spawn Egg", model = ModItem.Model.SPAWN_EGG)
+    public static final RegistryObject<Item> CUSTOM_MOB_WAVE_SPAWN_EGG = ItemFactory.createBatchSpawnEgg(
+        MinecraftModByRadchukConfiguration.MOD_ID,
+        "custom_human_mob_wave_spawn_egg",
+        ModMobs.CUSTOM_MOB_HUMAN,
+        0x000000,  // Основной цвет (черный)
+        0xffffff,  // Вторичный цвет (белый)
+        16         // Мобов за одно использование
+    );
+
     /**
      * Регистрирует все предметы мода в системе Forge.
      * <p>
-     * Этот метод должен вызываться во время инициализации мода для регистрации
-     * всех пользовательских предметов. Он использует ItemRegistry для автоматической
+     * Вызывается из созданного при компиляции класса {@code ModRegistration}
+     * после регистрации мобов. Он использует ItemRegistry для автоматической
      * регистрации всех предметов, определенных в этом классе.
      *
      * @param eventBus Шина событий мода, используемая для регистрации
      */
     public static void register(IEventBus eventBus) {
-        LOGGER.info("Начало регистрации предметов мода");
+        LOGGER.debug("Начало регистрации предметов мода");
 
         // Регистрируем предметы мода на шине событий
-        ItemRegistry.registerItemsForMod(MinecraftModByRadchukConfiguration.MOD_ID, eventBus);
+        try (StartupReport.Phase phase = StartupReport.get(MinecraftModByRadchukConfiguration.MOD_ID).begin("ModItems.register")) {
+            ItemRegistry.registerItemsForMod(MinecraftModByRadchukConfiguration.MOD_ID, eventBus);
+        }
 
-        LOGGER.info("Регистрация предметов мода завершена");
+        LOGGER.debug("Регистрация предметов мода завершена");
     }
 }
@@ -1,9 +1,15 @@
 package com.minecraft.mod.by.radchuk.registry;
 
+import com.minecraft.mod.by.radchuk.annotations.ModMob;
 import com.minecraft.mod.by.radchuk.common.MinecraftModByRadchukConfiguration;
 import com.minecraft.mod.by.radchuk.custom_entities.CustomHumanMob;
 import com.minecraft.mod.by.radchuk.utils.entities.AttributesBuilder;
 import com.minecraft.mod.by.radchuk.utils.entities.MobFactory;
+import com.minecraft.mod.by.radchuk.utils.entities.ai.AiLodPolicy;
+import com.minecraft.mod.by.radchuk.utils.entities.data.DataDrivenMob;
+import com.minecraft.mod.by.radchuk.utils.entities.types.ModelLodPolicy;
+import com.minecraft.mod.by.radchuk.utils.entities.types.PoseCacheQuality;
+import com.minecraft.mod.by.radchuk.utils.registry.StartupReport;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.MobCategory;
 import net.minecraftforge.eventbus.api.IEventBus;
@@ -11,6 +17,8 @@ import net.minecraftforge.registries.RegistryObject;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.Map;
+
 /**
  * Класс для регистрации мобов (существ) в моде.
  * <p>
@@ -25,40 +33,56 @@ public class ModMobs {
     /** Логгер для вывода информации о процессе регистрации мобов */
     private static final Logger LOGGER = LogManager.getLogger();
 
+    /** Фабрика мобов мода, текстуры мобов собираются в общий атлас */
+    private static final MobFactory FACTORY = MobFactory.getInstance(MinecraftModByRadchukConfiguration.MOD_ID)
+        .textureAtlas();
+
+    /** Мобы из определений src/main/mobs по их ID, атрибуты и цели настраиваются пакетами данных */
+    public static final Map<String, RegistryObject<EntityType<DataDrivenMob>>> DATA_DRIVEN_MOBS =
+        FACTORY.registerDefinitions();
+
     /** Объект регистрации для пользовательского гуманоидного моба */
-    public static RegistryObject<EntityType<CustomHumanMob>> CUSTOM_MOB_HUMAN;
+    @ModMob(id = "custom_human_mob", name = "Human")
+    public static final RegistryObject<EntityType<CustomHumanMob>> CUSTOM_MOB_HUMAN = FACTORY.createHumanoidMonster(
+            "custom_human_mob",
+            CustomHumanMob::new,
+            MobCategory.MONSTER
+        )
+        .size(0.6F, 1.95F)  // Стандартный размер для гуманоидного моба (как у игрока)
+        .texture("textures/entity/custom_human_mob.png")  // Путь к текстуре моба
+        .attributes(AttributesBuilder.mob()  // Используем базовый класс Mob
+            .health(25.0D)  // Устанавливаем здоровье моба
+            .damage(4.0D)   // Устанавливаем базовый урон
+            .speed(0.3D))   // Устанавливаем скорость передвижения
+        .goalEvaluationInterval(4)  // Проверять запуск целей раз в 4 тика
+        .aiLod(new AiLodPolicy.Builder().build())  // Упрощать ИИ вдали от игроков
+        .asyncPathfinding()  // Искать пути вне серверного потока
+        .pathCache()  // Переиспользовать пути к одним и тем же целям
+        .hibernation(8, 5)  // Усыплять мобов, рядом с которыми 5 минут нет игроков
+        .profiling()  // Доступен в /radchuk perf
+        .trackingRange(8)  // Отслеживать клиентами на 8 чанков
+        .updateInterval(3)  // Рассылать изменения раз в 3 тика
+        .adaptiveTracking(4)  // Стоящие мобы обновляются в 4 раза реже
+        .batchedRendering()  // Рисовать толпы одним проходом
+        .modelLod(new ModelLodPolicy.Builder().build())  // Упрощать модель с 24 блоков, вдали - один параллелепипед
+        .poseCache(PoseCacheQuality.MEDIUM)  // Переиспользовать позы ходьбы и удара
+        .build();
 
     /**
      * Регистрирует всех мобов мода в системе Forge.
      * <p>
-     * Этот метод должен вызываться во время инициализации мода для регистрации
-     * всех пользовательских мобов. Он создает экземпляры мобов с заданными
-     * параметрами и регистрирует их в системе Forge.
+     * Мобы создаются при инициализации класса, а этот метод подключает
+     * фабрику к шине событий. Вызывается из созданного при компиляции
+     * класса {@code ModRegistration} раньше регистрации предметов.
      *
      * @param modEventBus Шина событий мода, используемая для регистрации
      */
     public static void register(IEventBus modEventBus) {
-        LOGGER.info("Registering mod entities");
-
-        // Получаем фабрику для нашего мода
-        MobFactory factory = MobFactory.getInstance(MinecraftModByRadchukConfiguration.MOD_ID);
-
-        // Регистрируем гуманоидного моба
-        CUSTOM_MOB_HUMAN = factory.createHumanoidMonster(
-                "custom_human_mob",
-                CustomHumanMob::new,
-                MobCategory.MONSTER
-            )
-            .size(0.6F, 1.95F)  // Стандартный размер для гуманоидного моба (как у игрока)
-            .texture("textures/entity/custom_human_mob.png")  // Путь к текстуре моба
-            .attributes(() -> AttributesBuilder.mob()  // Используем базовый класс Mob
-                .health(25.0D)  // Устанавливаем здоровье моба
-                .damage(4.0D)   // Устанавливаем базовый урон
-                .speed(0.3D)    // Устанавливаем скорость передвижения
-                .build())
-            .build();
+        LOGGER.debug("Registering mod entities");
 
         // Регистрируем фабрику в системе событий
-        factory.register(modEventBus);
+        try (StartupReport.Phase phase = StartupReport.get(MinecraftModByRadchukConfiguration.MOD_ID).begin("ModMobs.register")) {
+            FACTORY.register(modEventBus);
+        }
     }
 }
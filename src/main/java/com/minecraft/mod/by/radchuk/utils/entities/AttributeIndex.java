@@ -0,0 +1,62 @@
+package com.minecraft.mod.by.radchuk.utils.entities;
+
+import net.minecraft.world.entity.ai.attributes.Attribute;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Плотная нумерация атрибутов для хранения их значений в массивах.
+ * <p>
+ * Номер выдается атрибуту при первом обращении и не меняется до конца работы
+ * игры, поэтому поддерживаются любые зарегистрированные атрибуты, включая
+ * атрибуты других модов. Чтение номера уже известного атрибута не блокируется
+ * записью: таблица заменяется целиком при каждом добавлении.
+ */
+final class AttributeIndex {
+    private static volatile Map<Attribute, Integer> indices = new IdentityHashMap<>();
+    private static volatile Attribute[] attributes = new Attribute[0];
+
+    /**
+     * Приватный конструктор для предотвращения создания экземпляров класса.
+     */
+    private AttributeIndex() {}
+
+    /**
+     * Возвращает номер атрибута, назначая его при необходимости.
+     *
+     * @param attribute Атрибут
+     * @return Номер атрибута
+     */
+    static int indexOf(Attribute attribute) {
+        Integer index = indices.get(attribute);
+        return index != null ? index : assign(attribute);
+    }
+
+    /**
+     * Возвращает атрибут по номеру.
+     *
+     * @param index Номер, ранее выданный {@link #indexOf(Attribute)}
+     * @return Атрибут
+     */
+    static Attribute get(int index) {
+        return attributes[index];
+    }
+
+    private static synchronized int assign(Attribute attribute) {
+        Integer existing = indices.get(attribute);
+        if (existing != null) {
+            return existing;
+        }
+        int index = attributes.length;
+        Map<Attribute, Integer> nextIndices = new IdentityHashMap<>(indices);
+        nextIndices.put(attribute, index);
+        Attribute[] nextAttributes = Arrays.copyOf(attributes, index + 1);
+        nextAttributes[index] = attribute;
+        // Сначала публикуем массив, чтобы номер из таблицы всегда был в нем
+        attributes = nextAttributes;
+        indices = nextIndices;
+        return index;
+    }
+}
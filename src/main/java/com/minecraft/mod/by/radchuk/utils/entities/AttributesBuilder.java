@@ -2,6 +2,8 @@ package com.minecraft.mod.by.radchuk.utils.entities;
 
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.ai.attributes.Attribute;
+import net.minecraft.world.entity.ai.attributes.AttributeMap;
 import net.minecraft.world.entity.ai.attributes.AttributeSupplier;
 import net.minecraft.world.entity.ai.attributes.Attributes;
 import net.minecraft.world.entity.animal.Animal;
@@ -9,6 +11,9 @@ import net.minecraft.world.entity.monster.Monster;
 import net.minecraft.world.entity.npc.Villager;
 import net.minecraft.world.entity.player.Player;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 /**
@@ -27,34 +32,49 @@ import java.util.function.Supplier;
  *     .armor(2.0D)
  *     .build();
  * </pre>
+ * <p>
+ * Метод {@link #template()} возвращает готовый неизменяемый набор атрибутов.
+ * Наборы кэшируются: одинаково настроенные билдеры с одной базой возвращают
+ * один и тот же экземпляр, даже если используются разными типами мобов.
+ * <p>
+ * Кроме основных атрибутов, через {@link #set(Attribute, double)} можно задать
+ * любой зарегистрированный атрибут, в том числе из других модов. Значения
+ * хранятся в массиве без упаковки, а сборка проходит только по заданным атрибутам.
  */
 public class AttributesBuilder {
-    // Базовый поставщик атрибутов
-    private Supplier<AttributeSupplier.Builder> baseSupplier;
+    /**
+     * Кэш готовых наборов атрибутов по базе и установленным значениям.
+     */
+    private static final Map<TemplateKey, AttributeSupplier> TEMPLATES = new ConcurrentHashMap<>();
 
-    // Значения атрибутов
-    private Double health = null;
-    private Double damage = null;
-    private Double speed = null;
-    private Double armor = null;
-    private Double knockbackResistance = null;
-    private Double attackSpeed = null;
-    private Double followRange = null;
-    private Double luck = null;
+    // Базовый поставщик атрибутов и ключ, по которому база сравнивается в кэше
+    private final Supplier<AttributeSupplier.Builder> baseSupplier;
+    private final Object baseKey;
+
+    // Значения атрибутов по номерам AttributeIndex и битовая маска заданных номеров
+    private double[] values = new double[16];
+    private long[] present = new long[1];
 
     /**
      * Создает билдер с базовыми атрибутами моба.
      */
     public AttributesBuilder() {
-        this.baseSupplier = Mob::createMobAttributes;
+        this("mob", Mob::createMobAttributes);
     }
 
     /**
      * Создает билдер с указанным базовым поставщиком атрибутов.
+     * Наборы атрибутов с такой базой совпадают в кэше только при использовании
+     * одного и того же экземпляра поставщика.
      *
      * @param baseSupplier Поставщик базовых атрибутов
      */
     public AttributesBuilder(Supplier<AttributeSupplier.Builder> baseSupplier) {
+        this(baseSupplier, baseSupplier);
+    }
+
+    private AttributesBuilder(Object baseKey, Supplier<AttributeSupplier.Builder> baseSupplier) {
+        this.baseKey = baseKey;
         this.baseSupplier = baseSupplier;
     }
 
@@ -64,7 +84,7 @@ public class AttributesBuilder {
      * @return Новый билдер атрибутов для моба
      */
     public static AttributesBuilder mob() {
-        return new AttributesBuilder(Mob::createMobAttributes);
+        return new AttributesBuilder("mob", Mob::createMobAttributes);
     }
 
     /**
@@ -73,7 +93,7 @@ public class AttributesBuilder {
      * @return Новый билдер атрибутов для монстра
      */
     public static AttributesBuilder monster() {
-        return new AttributesBuilder(Monster::createMonsterAttributes);
+        return new AttributesBuilder("monster", Monster::createMonsterAttributes);
     }
 
     /**
@@ -82,7 +102,7 @@ public class AttributesBuilder {
      * @return Новый билдер атрибутов для животного
      */
     public static AttributesBuilder animal() {
-        return new AttributesBuilder(Animal::createMobAttributes);
+        return new AttributesBuilder("animal", Animal::createMobAttributes);
     }
 
     /**
@@ -91,7 +111,7 @@ public class AttributesBuilder {
      * @return Новый билдер атрибутов для живого существа
      */
     public static AttributesBuilder living() {
-        return new AttributesBuilder(LivingEntity::createLivingAttributes);
+        return new AttributesBuilder("living", LivingEntity::createLivingAttributes);
     }
 
     /**
@@ -100,7 +120,7 @@ public class AttributesBuilder {
      * @return Новый билдер атрибутов для жителя
      */
     public static AttributesBuilder villager() {
-        return new AttributesBuilder(Villager::createAttributes);
+        return new AttributesBuilder("villager", Villager::createAttributes);
     }
 
     /**
@@ -109,7 +129,7 @@ public class AttributesBuilder {
      * @return Новый билдер атрибутов для игрока
      */
     public static AttributesBuilder player() {
-        return new AttributesBuilder(Player::createAttributes);
+        return new AttributesBuilder("player", Player::createAttributes);
     }
 
     /**
@@ -119,8 +139,7 @@ public class AttributesBuilder {
      * @return Этот билдер для цепочки вызовов
      */
     public AttributesBuilder health(double health) {
-        this.health = health;
-        return this;
+        return set(Attributes.MAX_HEALTH, health);
     }
 
     /**
@@ -130,8 +149,7 @@ public class AttributesBuilder {
      * @return Этот билдер для цепочки вызовов
      */
     public AttributesBuilder damage(double damage) {
-        this.damage = damage;
-        return this;
+        return set(Attributes.ATTACK_DAMAGE, damage);
     }
 
     /**
@@ -141,8 +159,7 @@ public class AttributesBuilder {
      * @return Этот билдер для цепочки вызовов
      */
     public AttributesBuilder speed(double speed) {
-        this.speed = speed;
-        return this;
+        return set(Attributes.MOVEMENT_SPEED, speed);
     }
 
     /**
@@ -152,8 +169,7 @@ public class AttributesBuilder {
      * @return Этот билдер для цепочки вызовов
      */
     public AttributesBuilder armor(double armor) {
-        this.armor = armor;
-        return this;
+        return set(Attributes.ARMOR, armor);
     }
 
     /**
@@ -163,8 +179,7 @@ public class AttributesBuilder {
      * @return Этот билдер для цепочки вызовов
      */
     public AttributesBuilder knockbackResistance(double knockbackResistance) {
-        this.knockbackResistance = knockbackResistance;
-        return this;
+        return set(Attributes.KNOCKBACK_RESISTANCE, knockbackResistance);
     }
 
     /**
@@ -174,8 +189,7 @@ public class AttributesBuilder {
      * @return Этот билдер для цепочки вызовов
      */
     public AttributesBuilder attackSpeed(double attackSpeed) {
-        this.attackSpeed = attackSpeed;
-        return this;
+        return set(Attributes.ATTACK_SPEED, attackSpeed);
     }
 
     /**
@@ -185,8 +199,7 @@ public class AttributesBuilder {
      * @return Этот билдер для цепочки вызовов
      */
     public AttributesBuilder followRange(double followRange) {
-        this.followRange = followRange;
-        return this;
+        return set(Attributes.FOLLOW_RANGE, followRange);
     }
 
     /**
@@ -196,45 +209,96 @@ public class AttributesBuilder {
      * @return Этот билдер для цепочки вызовов
      */
     public AttributesBuilder luck(double luck) {
-        this.luck = luck;
+        return set(Attributes.LUCK, luck);
+    }
+
+    /**
+     * Устанавливает значение любого зарегистрированного атрибута.
+     *
+     * @param attribute Атрибут
+     * @param value Базовое значение атрибута
+     * @return Этот билдер для цепочки вызовов
+     */
+    public AttributesBuilder set(Attribute attribute, double value) {
+        int index = AttributeIndex.indexOf(attribute);
+        if (index >= values.length) {
+            values = Arrays.copyOf(values, Math.max(values.length * 2, index + 1));
+        }
+        if ((index >> 6) >= present.length) {
+            present = Arrays.copyOf(present, (index >> 6) + 1);
+        }
+        values[index] = value;
+        present[index >> 6] |= 1L << index;
         return this;
     }
 
+    /**
+     * Применяет все установленные значения к билдеру атрибутов.
+     *
+     * @param builder Билдер атрибутов Minecraft
+     * @return Переданный билдер
+     */
+    public AttributeSupplier.Builder applyTo(AttributeSupplier.Builder builder) {
+        for (int word = 0; word < present.length; word++) {
+            long bits = present[word];
+            while (bits != 0L) {
+                int index = (word << 6) + Long.numberOfTrailingZeros(bits);
+                builder.add(AttributeIndex.get(index), values[index]);
+                bits &= bits - 1L;
+            }
+        }
+        return builder;
+    }
+
     /**
      * Создает билдер атрибутов с применением всех установленных значений.
      *
      * @return Готовый билдер атрибутов для регистрации
      */
     public AttributeSupplier.Builder build() {
-        AttributeSupplier.Builder builder = baseSupplier.get();
+        return applyTo(baseSupplier.get());
+    }
 
-        // Применяем только те атрибуты, которые были установлены
-        if (health != null) {
-            builder.add(Attributes.MAX_HEALTH, health);
-        }
-        if (damage != null) {
-            builder.add(Attributes.ATTACK_DAMAGE, damage);
-        }
-        if (speed != null) {
-            builder.add(Attributes.MOVEMENT_SPEED, speed);
-        }
-        if (armor != null) {
-            builder.add(Attributes.ARMOR, armor);
-        }
-        if (knockbackResistance != null) {
-            builder.add(Attributes.KNOCKBACK_RESISTANCE, knockbackResistance);
-        }
-        if (attackSpeed != null) {
-            builder.add(Attributes.ATTACK_SPEED, attackSpeed);
-        }
-        if (followRange != null) {
-            builder.add(Attributes.FOLLOW_RANGE, followRange);
+    /**
+     * Возвращает неизменяемый набор атрибутов с применением всех установленных значений.
+     * <p>
+     * Набор создается один раз для каждой комбинации базы и значений,
+     * повторные вызовы возвращают тот же экземпляр.
+     *
+     * @return Готовый набор атрибутов для регистрации
+     */
+    public AttributeSupplier template() {
+        return TEMPLATES.computeIfAbsent(key(), key -> build().build());
+    }
+
+    /**
+     * Создает карту атрибутов сущности по готовому набору без его пересборки.
+     * Экземпляры атрибутов в карте создаются по мере обращения к ним.
+     *
+     * @return Новая карта атрибутов
+     */
+    public AttributeMap createMap() {
+        return new AttributeMap(template());
+    }
+
+    private TemplateKey key() {
+        int count = 0;
+        for (long bits : present) {
+            count += Long.bitCount(bits);
         }
-        if (luck != null) {
-            builder.add(Attributes.LUCK, luck);
+        int[] indices = new int[count];
+        double[] setValues = new double[count];
+        int position = 0;
+        for (int word = 0; word < present.length; word++) {
+            long bits = present[word];
+            while (bits != 0L) {
+                int index = (word << 6) + Long.numberOfTrailingZeros(bits);
+                indices[position] = index;
+                setValues[position++] = values[index];
+                bits &= bits - 1L;
+            }
         }
-
-        return builder;
+        return new TemplateKey(baseKey, indices, setValues);
     }
 
     /**
@@ -244,9 +308,49 @@ public class AttributesBuilder {
      * @return Готовый билдер атрибутов с базовыми значениями
      */
     public static AttributeSupplier.Builder createDefaultAttributes() {
+        return defaultAttributes().build();
+    }
+
+    /**
+     * Создает билдер базовых атрибутов для любого моба.
+     * Устанавливает здоровье 20.0 и скорость 0.25.
+     *
+     * @return Билдер атрибутов с базовыми значениями
+     */
+    public static AttributesBuilder defaultAttributes() {
         return mob()
             .health(20.0D)
-            .speed(0.25D)
-            .build();
+            .speed(0.25D);
+    }
+
+    /**
+     * Ключ набора атрибутов в кэше: база и заданные атрибуты в порядке номеров.
+     */
+    private static final class TemplateKey {
+        private final Object base;
+        private final int[] indices;
+        private final double[] values;
+        private final int hash;
+
+        TemplateKey(Object base, int[] indices, double[] values) {
+            this.base = base;
+            this.indices = indices;
+            this.values = values;
+            this.hash = 31 * (31 * base.hashCode() + Arrays.hashCode(indices)) + Arrays.hashCode(values);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || other instanceof TemplateKey key
+                && hash == key.hash
+                && base.equals(key.base)
+                && Arrays.equals(indices, key.indices)
+                && Arrays.equals(values, key.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
     }
 }
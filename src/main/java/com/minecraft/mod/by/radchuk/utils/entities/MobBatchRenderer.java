@@ -0,0 +1,85 @@
+package com.minecraft.mod.by.radchuk.utils.entities;
+
+import com.mojang.blaze3d.vertex.PoseStack;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import net.minecraftforge.client.event.RenderLevelStageEvent;
+import net.minecraftforge.common.MinecraftForge;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Пакетный рендер мобов {@link SimpleMobRenderer}.
+ * <p>
+ * Во время прохода сущностей мира рендереры с пакетным режимом не рисуют мобов
+ * сразу, а сохраняют их позы. После прохода ({@link RenderLevelStageEvent.Stage#AFTER_ENTITIES})
+ * каждый рендерер выводит всех своих мобов в один общий буфер за один проход.
+ * Вне прохода мира (например, в окне инвентаря) мобы рисуются как обычно.
+ * <p>
+ * Работает только в потоке рендера.
+ */
+@OnlyIn(Dist.CLIENT)
+public final class MobBatchRenderer {
+    private static final AtomicBoolean REGISTERED = new AtomicBoolean();
+    private static final Set<SimpleMobRenderer<?>> PENDING = new LinkedHashSet<>();
+    private static final PoseStack POSE_STACK = new PoseStack();
+    private static boolean collecting;
+
+    /**
+     * Приватный конструктор для предотвращения создания экземпляров класса.
+     */
+    private MobBatchRenderer() {}
+
+    /**
+     * Подписывает пакетный рендер на этапы рендера мира.
+     * Повторные вызовы игнорируются.
+     */
+    public static void register() {
+        if (REGISTERED.compareAndSet(false, true)) {
+            MinecraftForge.EVENT_BUS.addListener(MobBatchRenderer::onRenderLevelStage);
+        }
+    }
+
+    /**
+     * Идет ли сейчас проход сущностей мира, мобов которого можно отложить.
+     *
+     * @return true, если позы мобов можно накапливать
+     */
+    static boolean isCollecting() {
+        return collecting;
+    }
+
+    /**
+     * Отмечает рендерер, у которого есть отложенные мобы.
+     *
+     * @param renderer Рендерер
+     */
+    static void enqueue(SimpleMobRenderer<?> renderer) {
+        PENDING.add(renderer);
+    }
+
+    private static void onRenderLevelStage(RenderLevelStageEvent event) {
+        if (event.getStage() == RenderLevelStageEvent.Stage.AFTER_CUTOUT_BLOCKS) {
+            // Сущности мира рисуются сразу после непрозрачных блоков
+            collecting = true;
+        } else if (event.getStage() == RenderLevelStageEvent.Stage.AFTER_ENTITIES) {
+            collecting = false;
+            flush();
+        }
+    }
+
+    private static void flush() {
+        if (PENDING.isEmpty()) {
+            return;
+        }
+        MultiBufferSource.BufferSource buffers = Minecraft.getInstance().renderBuffers().bufferSource();
+        for (SimpleMobRenderer<?> renderer : PENDING) {
+            renderer.renderBatch(buffers, POSE_STACK);
+        }
+        PENDING.clear();
+    }
+}
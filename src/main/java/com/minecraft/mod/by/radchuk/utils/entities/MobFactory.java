@@ -1,29 +1,54 @@
 package com.minecraft.mod.by.radchuk.utils.entities;
 
+import com.minecraft.mod.by.radchuk.utils.entities.ai.AiLodPolicy;
+import com.minecraft.mod.by.radchuk.utils.entities.ai.MobAiEvents;
+import com.minecraft.mod.by.radchuk.utils.entities.ai.MobAiSettings;
+import com.minecraft.mod.by.radchuk.utils.entities.atlas.MobTextureAtlas;
+import com.minecraft.mod.by.radchuk.utils.entities.atlas.MobTextureAtlasLoader;
+import com.minecraft.mod.by.radchuk.utils.entities.data.DataDrivenMob;
+import com.minecraft.mod.by.radchuk.utils.entities.data.MobDefinition;
+import com.minecraft.mod.by.radchuk.utils.entities.data.MobDefinitionIndex;
+import com.minecraft.mod.by.radchuk.utils.entities.data.MobDefinitions;
+import com.minecraft.mod.by.radchuk.utils.entities.hibernation.MobHibernation;
+import com.minecraft.mod.by.radchuk.utils.entities.spawn.MobBatchSpawner;
 import com.minecraft.mod.by.radchuk.utils.entities.types.AnimalMobModel;
 import com.minecraft.mod.by.radchuk.utils.entities.types.HumanoidMobModel;
+import com.minecraft.mod.by.radchuk.utils.entities.types.ModelLod;
+import com.minecraft.mod.by.radchuk.utils.entities.types.ModelLodPolicy;
+import com.minecraft.mod.by.radchuk.utils.entities.types.PoseCacheQuality;
+import com.minecraft.mod.by.radchuk.utils.entities.types.PoseCachedModel;
+import com.minecraft.mod.by.radchuk.utils.registry.StagedRegister;
+import com.minecraft.mod.by.radchuk.utils.registry.StartupReport;
 import net.minecraft.client.model.EntityModel;
 import net.minecraft.client.model.geom.ModelLayerLocation;
+import net.minecraft.client.model.geom.builders.CubeDeformation;
 import net.minecraft.client.model.geom.builders.LayerDefinition;
 import net.minecraft.client.renderer.entity.EntityRendererProvider;
+import net.minecraft.core.BlockPos;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.MobCategory;
+import net.minecraft.world.entity.MobSpawnType;
 import net.minecraft.world.entity.ai.attributes.AttributeSupplier;
 import net.minecraft.world.entity.monster.Monster;
 import net.minecraft.world.level.Level;
 import net.minecraftforge.client.event.EntityRenderersEvent;
+import net.minecraftforge.client.event.RegisterClientReloadListenersEvent;
 import net.minecraftforge.event.entity.EntityAttributeCreationEvent;
 import net.minecraftforge.eventbus.api.IEventBus;
-import net.minecraftforge.registries.DeferredRegister;
+import net.minecraftforge.fml.event.lifecycle.FMLCommonSetupEvent;
 import net.minecraftforge.registries.ForgeRegistries;
 import net.minecraftforge.registries.RegistryObject;
 
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -36,6 +61,9 @@ import java.util.function.Supplier;
  * Поддерживает создание стандартных типов мобов (гуманоиды, животные)
  * и уникальных мобов с пользовательскими моделями.
  * <p>
+ * Мобов можно создавать из нескольких потоков: типы сущностей накапливаются
+ * в {@link StagedRegister} и регистрируются в порядке имен.
+ * <p>
  * Пример использования:
  * <pre>
  * // Получение экземпляра фабрики
@@ -68,11 +96,13 @@ import java.util.function.Supplier;
  * </pre>
  */
 public class MobFactory {
-    private static final Map<String, MobFactory> INSTANCES = new HashMap<>();
+    private static final Map<String, MobFactory> INSTANCES = new ConcurrentHashMap<>();
     private final String modId;
-    private final DeferredRegister<EntityType<?>> entityTypeRegistry;
-    // Списки для хранения данных о мобах
-    private final List<MobRegistration<?>> mobRegistrations = new ArrayList<>();
+    private final StagedRegister<EntityType<?>> entityTypeRegistry;
+    // Данные о мобах по имени: порядок обхода не зависит от порядка создания
+    private final Map<String, MobRegistration<?>> mobRegistrations = new ConcurrentSkipListMap<>();
+    // Общая текстура мобов, null - у каждого моба своя текстура
+    private volatile MobTextureAtlas textureAtlas;
 
     /**
      * Получить экземпляр фабрики для указанного мода
@@ -94,7 +124,27 @@ public class MobFactory {
      */
     private MobFactory(String modId) {
         this.modId = modId;
-        this.entityTypeRegistry = DeferredRegister.create(ForgeRegistries.ENTITY_TYPES, modId);
+        this.entityTypeRegistry = StagedRegister.create(ForgeRegistries.ENTITY_TYPES, modId);
+    }
+
+    /**
+     * Включает общую текстуру для мобов фабрики.
+     * <p>
+     * Текстуры гуманоидов и животных со стандартными моделями собираются
+     * в один атлас {@link MobTextureAtlas}, а их модели строятся с UV-координатами
+     * в атласе. Толпа мобов разных типов тогда рисуется с одной текстурой
+     * без переключений между ними. Уникальные мобы и мобы со своим
+     * определением слоя используют свои текстуры.
+     * <p>
+     * Действует на мобов, созданных после вызова.
+     *
+     * @return Эта фабрика для цепочки вызовов
+     */
+    public MobFactory textureAtlas() {
+        if (textureAtlas == null) {
+            textureAtlas = new MobTextureAtlas(new ResourceLocation(modId, "textures/entity/mob_atlas.png"));
+        }
+        return this;
     }
 
     /**
@@ -109,6 +159,31 @@ public class MobFactory {
         modEventBus.addListener(this::onRegisterAttributes);
         modEventBus.addListener(this::onRegisterRenderers);
         modEventBus.addListener(this::onRegisterLayerDefinitions);
+        modEventBus.addListener(this::onRegisterClientReloadListeners);
+        modEventBus.addListener(this::onCommonSetup);
+        // Игровые обработчики ИИ общие для всех фабрик
+        MobAiEvents.register();
+    }
+
+    /**
+     * Создает группу мобов за один проход.
+     * <p>
+     * Позиции группируются по чанкам, каждый чанк загружается один раз,
+     * а мобы добавляются в мир после создания и настройки всей группы.
+     *
+     * @param level Серверный мир
+     * @param entityType Тип моба
+     * @param positions Позиции спавна (по одному мобу на позицию)
+     * @param spawnType Причина спавна
+     * @param <T> Тип сущности
+     * @return Мобы, успешно добавленные в мир
+     */
+    public static <T extends Mob> List<T> spawnBatch(
+        ServerLevel level,
+        EntityType<T> entityType,
+        Collection<BlockPos> positions,
+        MobSpawnType spawnType) {
+        return MobBatchSpawner.spawn(level, entityType, positions, spawnType);
     }
 
     /**
@@ -171,12 +246,56 @@ public class MobFactory {
         return new MobBuilder<>(this, name, entityConstructor, category, MobType.UNIQUE);
     }
 
+    /**
+     * Создает мобов по определениям из индекса мода {@link MobDefinitionIndex}.
+     * <p>
+     * Индекс собирается при сборке из {@code src/main/mobs/*.json}, поэтому при
+     * запуске JSON не разбирается. Каждый моб получает класс {@link DataDrivenMob};
+     * его атрибуты и цели можно переопределить пакетом данных без перезапуска
+     * (см. {@link MobDefinitions}).
+     *
+     * @return Объекты регистрации типов сущностей по ID мобов
+     */
+    public Map<String, RegistryObject<EntityType<DataDrivenMob>>> registerDefinitions() {
+        Map<String, RegistryObject<EntityType<DataDrivenMob>>> entityTypes = new LinkedHashMap<>();
+        for (MobDefinition definition : MobDefinitionIndex.load(modId)) {
+            MobBuilder<DataDrivenMob> builder = new MobBuilder<DataDrivenMob>(
+                    this, definition.getId(), DataDrivenMob::new, definition.getCategory(), definition.getMobType())
+                .size(definition.getWidth(), definition.getHeight())
+                .texture(definition.getTexture())
+                .lazyAttributes(definition::createAttributes);
+            if (definition.getTrackingRange() != MobDefinition.UNSET) {
+                builder.trackingRange(definition.getTrackingRange());
+            }
+            if (definition.getUpdateInterval() != MobDefinition.UNSET) {
+                builder.updateInterval(definition.getUpdateInterval());
+            }
+            entityTypes.put(definition.getId(), builder.build());
+            MobDefinitions.add(new ResourceLocation(modId, definition.getId()), definition);
+        }
+        MobDefinitions.register();
+        return entityTypes;
+    }
+
     /**
      * Регистрирует атрибуты для всех мобов
      */
     private void onRegisterAttributes(EntityAttributeCreationEvent event) {
-        for (MobRegistration<?> registration : mobRegistrations) {
-            registration.registerAttributes(event);
+        try (StartupReport.Phase phase = StartupReport.get(modId).begin("EntityAttributeCreationEvent")) {
+            for (MobRegistration<?> registration : mobRegistrations.values()) {
+                registration.registerAttributes(event);
+            }
+        }
+    }
+
+    /**
+     * Привязывает настройки ИИ к зарегистрированным типам сущностей
+     */
+    private void onCommonSetup(FMLCommonSetupEvent event) {
+        try (StartupReport.Phase phase = StartupReport.get(modId).begin("FMLCommonSetupEvent")) {
+            for (MobRegistration<?> registration : mobRegistrations.values()) {
+                registration.bindAiSettings();
+            }
         }
     }
 
@@ -184,8 +303,10 @@ public class MobFactory {
      * Регистрирует рендереры для всех мобов
      */
     private void onRegisterRenderers(EntityRenderersEvent.RegisterRenderers event) {
-        for (MobRegistration<?> registration : mobRegistrations) {
-            registration.registerRenderer(event);
+        try (StartupReport.Phase phase = StartupReport.get(modId).begin("RegisterRenderers")) {
+            for (MobRegistration<?> registration : mobRegistrations.values()) {
+                registration.registerRenderer(event);
+            }
         }
     }
 
@@ -193,8 +314,20 @@ public class MobFactory {
      * Регистрирует определения слоев для всех мобов
      */
     private void onRegisterLayerDefinitions(EntityRenderersEvent.RegisterLayerDefinitions event) {
-        for (MobRegistration<?> registration : mobRegistrations) {
-            registration.registerLayerDefinition(event);
+        try (StartupReport.Phase phase = StartupReport.get(modId).begin("RegisterLayerDefinitions")) {
+            for (MobRegistration<?> registration : mobRegistrations.values()) {
+                registration.registerLayerDefinition(event);
+            }
+        }
+    }
+
+    /**
+     * Подключает сборку атласа текстур к загрузке ресурсов
+     */
+    private void onRegisterClientReloadListeners(RegisterClientReloadListenersEvent event) {
+        MobTextureAtlas atlas = textureAtlas;
+        if (atlas != null) {
+            event.registerReloadListener(new MobTextureAtlasLoader(atlas));
         }
     }
 
@@ -205,20 +338,30 @@ public class MobFactory {
         private final RegistryObject<EntityType<T>> entityType;
         private final ModelLayerLocation modelLayer;
         private final ResourceLocation texture;
-        private final Supplier<AttributeSupplier.Builder> attributesSupplier;
+        private final Supplier<AttributeSupplier> attributesSupplier;
         private final Supplier<LayerDefinition> layerDefinitionSupplier;
         private final Function<EntityRendererProvider.Context, EntityModel<T>> modelSupplier;
         private final float shadowRadius;
+        private final boolean batchedRendering;
+        private final ModelLodPolicy modelLod;
+        private final List<LodLayer<T>> lodLayers;
+        private final PoseCacheQuality poseCache;
+        private final MobAiSettings aiSettings;
 
         MobRegistration(
             RegistryObject<EntityType<T>> entityType,
             MobType mobType,
             ModelLayerLocation modelLayer,
             ResourceLocation texture,
-            Supplier<AttributeSupplier.Builder> attributesSupplier,
+            Supplier<AttributeSupplier> attributesSupplier,
             Supplier<LayerDefinition> layerDefinitionSupplier,
             Function<EntityRendererProvider.Context, EntityModel<T>> modelSupplier,
-            float shadowRadius) {
+            float shadowRadius,
+            boolean batchedRendering,
+            ModelLodPolicy modelLod,
+            List<LodLayer<T>> lodLayers,
+            PoseCacheQuality poseCache,
+            MobAiSettings aiSettings) {
             this.entityType = entityType;
             this.modelLayer = modelLayer;
             this.texture = texture;
@@ -226,22 +369,61 @@ public class MobFactory {
             this.layerDefinitionSupplier = layerDefinitionSupplier;
             this.modelSupplier = modelSupplier;
             this.shadowRadius = shadowRadius;
+            this.batchedRendering = batchedRendering;
+            this.modelLod = modelLod;
+            this.lodLayers = lodLayers;
+            this.poseCache = poseCache;
+            this.aiSettings = aiSettings;
+        }
+
+        void bindAiSettings() {
+            MobAiSettings.bind(entityType.get(), aiSettings);
+            if (aiSettings.isHibernationEnabled()) {
+                MobHibernation.registerType(aiSettings);
+            }
         }
 
         void registerAttributes(EntityAttributeCreationEvent event) {
-            event.put(entityType.get(), attributesSupplier.get().build());
+            event.put(entityType.get(), attributesSupplier.get());
         }
 
         void registerRenderer(EntityRenderersEvent.RegisterRenderers event) {
-            event.registerEntityRenderer(entityType.get(),
-                context -> new SimpleMobRenderer<>(context, modelSupplier.apply(context), shadowRadius, texture));
+            event.registerEntityRenderer(entityType.get(), context -> {
+                SimpleMobRenderer<T> renderer = new SimpleMobRenderer<>(context, model(context, modelSupplier),
+                    shadowRadius, texture, batchedRendering);
+                if (modelLod != null && !lodLayers.isEmpty()) {
+                    renderer.withLod(modelLod, model(context, lodLayers.get(0).model()), model(context, lodLayers.get(1).model()));
+                }
+                return renderer;
+            });
+        }
+
+        private EntityModel<T> model(EntityRendererProvider.Context context,
+                                     Function<EntityRendererProvider.Context, EntityModel<T>> supplier) {
+            EntityModel<T> model = supplier.apply(context);
+            if (model instanceof PoseCachedModel cached) {
+                cached.setPoseCacheQuality(poseCache);
+            }
+            return model;
         }
 
         void registerLayerDefinition(EntityRenderersEvent.RegisterLayerDefinitions event) {
             event.registerLayerDefinition(modelLayer, layerDefinitionSupplier);
+            for (LodLayer<T> lodLayer : lodLayers) {
+                event.registerLayerDefinition(lodLayer.location(), lodLayer.definition());
+            }
         }
     }
 
+    /**
+     * Слой модели упрощенного уровня детализации
+     */
+    private record LodLayer<T extends Mob>(
+        ModelLayerLocation location,
+        Supplier<LayerDefinition> definition,
+        Function<EntityRendererProvider.Context, EntityModel<T>> model) {
+    }
+
     /**
      * Типы мобов, поддерживаемые фабрикой
      */
@@ -263,9 +445,18 @@ public class MobFactory {
         private float height = 1.95F;
         private float shadowRadius = 0.5F;
         private ResourceLocation texture;
-        private Supplier<AttributeSupplier.Builder> attributesSupplier;
+        private Supplier<AttributeSupplier> attributesSupplier;
         private Supplier<LayerDefinition> layerDefinitionSupplier;
         private Function<EntityRendererProvider.Context, EntityModel<T>> modelSupplier;
+        private boolean customLayerDefinition;
+        private boolean customModel;
+        private boolean batchedRendering;
+        private ModelLodPolicy modelLod;
+        private PoseCacheQuality poseCache = PoseCacheQuality.OFF;
+        private final MobAiSettings.Builder aiSettings = new MobAiSettings.Builder();
+        private Integer clientTrackingRange;
+        private Integer updateInterval;
+        private Boolean velocityUpdates;
 
         MobBuilder(MobFactory factory, String name, BiFunction<EntityType<T>, Level, T> entityConstructor,
                    MobCategory category, MobType mobType) {
@@ -302,22 +493,20 @@ public class MobFactory {
             // Устанавливаем атрибуты по умолчанию в зависимости от типа моба
             switch (mobType) {
                 case ANIMAL:
-                    this.attributesSupplier = () -> AttributesBuilder.animal()
+                    attributes(AttributesBuilder.animal()
                         .health(10.0D)
-                        .speed(0.25D)
-                        .build();
+                        .speed(0.25D));
                     break;
                 case UNIQUE:
-                    this.attributesSupplier = () -> AttributesBuilder.mob()
+                    attributes(AttributesBuilder.mob()
                         .health(30.0D)
                         .damage(5.0D)
                         .speed(0.3D)
                         .armor(2.0D)
-                        .knockbackResistance(0.5D)
-                        .build();
+                        .knockbackResistance(0.5D));
                     break;
                 default:
-                    this.attributesSupplier = AttributesBuilder::createDefaultAttributes;
+                    attributes(AttributesBuilder.defaultAttributes());
             }
         }
 
@@ -352,7 +541,34 @@ public class MobFactory {
          * @return Этот строитель для цепочки вызовов
          */
         public MobBuilder<T> attributes(Supplier<AttributeSupplier.Builder> attributesSupplier) {
-            this.attributesSupplier = attributesSupplier;
+            this.attributesSupplier = () -> attributesSupplier.get().build();
+            return this;
+        }
+
+        /**
+         * Устанавливает атрибуты моба из билдера атрибутов.
+         * Моб получает общий кэшированный набор атрибутов: типы мобов
+         * с одинаковыми атрибутами используют один экземпляр набора.
+         *
+         * @param attributes Билдер атрибутов
+         * @return Этот строитель для цепочки вызовов
+         */
+        public MobBuilder<T> attributes(AttributesBuilder attributes) {
+            this.attributesSupplier = attributes::template;
+            return this;
+        }
+
+        /**
+         * Устанавливает атрибуты моба из билдера, создаваемого при регистрации атрибутов.
+         * Подходит, когда атрибуты еще не зарегистрированы при создании моба.
+         * Моб получает общий кэшированный набор атрибутов, как и
+         * {@link #attributes(AttributesBuilder)}.
+         *
+         * @param attributes Поставщик билдера атрибутов
+         * @return Этот строитель для цепочки вызовов
+         */
+        public MobBuilder<T> lazyAttributes(Supplier<AttributesBuilder> attributes) {
+            this.attributesSupplier = () -> attributes.get().template();
             return this;
         }
 
@@ -364,6 +580,7 @@ public class MobFactory {
          */
         public MobBuilder<T> layerDefinition(Supplier<LayerDefinition> layerDefinitionSupplier) {
             this.layerDefinitionSupplier = layerDefinitionSupplier;
+            this.customLayerDefinition = true;
             return this;
         }
 
@@ -376,6 +593,7 @@ public class MobFactory {
          */
         public MobBuilder<T> modelSupplier(Function<EntityRendererProvider.Context, EntityModel<T>> modelSupplier) {
             this.modelSupplier = modelSupplier;
+            this.customModel = true;
             return this;
         }
 
@@ -390,6 +608,179 @@ public class MobFactory {
             return this;
         }
 
+        /**
+         * Устанавливает интервал между проверками запуска целей моба.
+         * Проверки распределяются по тикам с учетом общего бюджета
+         * {@link com.minecraft.mod.by.radchuk.utils.entities.ai.GoalScheduler}.
+         * Запущенные цели выполняются каждый тик.
+         *
+         * @param ticks Интервал в тиках (1 - стандартное поведение)
+         * @return Этот строитель для цепочки вызовов
+         */
+        public MobBuilder<T> goalEvaluationInterval(int ticks) {
+            this.aiSettings.goalEvaluationInterval(ticks);
+            return this;
+        }
+
+        /**
+         * Включает уровни детализации ИИ в зависимости от расстояния до игроков:
+         * полный ИИ рядом с игроками, сокращенный набор целей в среднем кольце
+         * и замороженный ИИ за внешним радиусом.
+         *
+         * @param lodPolicy Политика LOD
+         * @return Этот строитель для цепочки вызовов
+         */
+        public MobBuilder<T> aiLod(AiLodPolicy lodPolicy) {
+            this.aiSettings.lodPolicy(lodPolicy);
+            return this;
+        }
+
+        /**
+         * Включает асинхронный поиск пути: пути ищутся в рабочих потоках по копии
+         * нужных секций чанков, а моб идет по старому пути, пока новый не готов.
+         * <p>
+         * Класс моба должен создавать навигацию через
+         * {@link com.minecraft.mod.by.radchuk.utils.entities.navigation.MobPathNavigation#create}.
+         *
+         * @return Этот строитель для цепочки вызовов
+         */
+        public MobBuilder<T> asyncPathfinding() {
+            this.aiSettings.asyncPathfinding(true);
+            return this;
+        }
+
+        /**
+         * Включает кэш путей: пути мобов этого типа из одной области к одной цели
+         * переиспользуются, пока в секциях чанков на пути не изменятся блоки.
+         * <p>
+         * Класс моба должен создавать навигацию через
+         * {@link com.minecraft.mod.by.radchuk.utils.entities.navigation.MobPathNavigation#create}.
+         *
+         * @return Этот строитель для цепочки вызовов
+         */
+        public MobBuilder<T> pathCache() {
+            this.aiSettings.pathCache(true);
+            return this;
+        }
+
+        /**
+         * Включает спячку: постоянный моб, рядом с которым долго нет игроков,
+         * сохраняется в компактную запись своего чанка и удаляется из мира,
+         * а при приближении игрока восстанавливается.
+         *
+         * @param chunkRadius Радиус в чанках, в котором игрок не дает мобу уснуть и будит его
+         * @param idleMinutes Время без игроков рядом в минутах до засыпания
+         * @return Этот строитель для цепочки вызовов
+         */
+        public MobBuilder<T> hibernation(int chunkRadius, int idleMinutes) {
+            this.aiSettings.hibernation(chunkRadius, idleMinutes * 60 * 20);
+            return this;
+        }
+
+        /**
+         * Включает профилирование: время вызовов целей и поиска пути мобов
+         * этого типа замеряется и выводится командой {@code /radchuk perf}.
+         * Сбор включается командой {@code /radchuk perf start}, до этого
+         * накладные расходы сводятся к проверке одного флага.
+         * <p>
+         * Время тика замеряется, если класс моба вызывает
+         * {@link com.minecraft.mod.by.radchuk.utils.entities.profiling.MobProfiler#tickStart()}
+         * и {@link com.minecraft.mod.by.radchuk.utils.entities.profiling.MobProfiler#tickEnd}.
+         *
+         * @return Этот строитель для цепочки вызовов
+         */
+        public MobBuilder<T> profiling() {
+            this.aiSettings.profiling(true);
+            return this;
+        }
+
+        /**
+         * Устанавливает дальность отслеживания моба клиентами
+         *
+         * @param chunks Дальность в чанках
+         * @return Этот строитель для цепочки вызовов
+         */
+        public MobBuilder<T> trackingRange(int chunks) {
+            this.clientTrackingRange = chunks;
+            return this;
+        }
+
+        /**
+         * Устанавливает интервал рассылки изменений моба клиентам
+         *
+         * @param ticks Интервал в тиках
+         * @return Этот строитель для цепочки вызовов
+         */
+        public MobBuilder<T> updateInterval(int ticks) {
+            this.updateInterval = ticks;
+            return this;
+        }
+
+        /**
+         * Устанавливает, отправляется ли клиентам скорость моба
+         *
+         * @param velocityUpdates true для отправки скорости вместе с движением
+         * @return Этот строитель для цепочки вызовов
+         */
+        public MobBuilder<T> velocityUpdates(boolean velocityUpdates) {
+            this.velocityUpdates = velocityUpdates;
+            return this;
+        }
+
+        /**
+         * Включает адаптивное отслеживание: пока моб стоит без цели, его изменения
+         * рассылаются клиентам в заданное число раз реже, а вдали от игроков любой
+         * моб обновляется еще в два раза реже. Меняется только интервал рассылки,
+         * состояние моба на сервере остается точным.
+         *
+         * @param multiplier Во сколько раз расширяется интервал обновлений стоящего моба
+         * @return Этот строитель для цепочки вызовов
+         */
+        public MobBuilder<T> adaptiveTracking(int multiplier) {
+            this.aiSettings.adaptiveTracking(multiplier);
+            return this;
+        }
+
+        /**
+         * Включает пакетный рендер: видимые мобы этого типа рисуются в общий
+         * буфер одним проходом после рендера сущностей мира.
+         * Полезно для больших толп мобов одного типа.
+         *
+         * @return Этот строитель для цепочки вызовов
+         * @see SimpleMobRenderer
+         */
+        public MobBuilder<T> batchedRendering() {
+            this.batchedRendering = true;
+            return this;
+        }
+
+        /**
+         * Включает смену модели по расстоянию до камеры: вблизи полная модель,
+         * дальше упрощенная без внешних слоев с объединенными конечностями,
+         * вдали - один параллелепипед. Действует для гуманоидов и животных
+         * со стандартными моделями.
+         *
+         * @param policy Расстояния смены моделей
+         * @return Этот строитель для цепочки вызовов
+         */
+        public MobBuilder<T> modelLod(ModelLodPolicy policy) {
+            this.modelLod = policy;
+            return this;
+        }
+
+        /**
+         * Включает кэш поз модели: позы частей при ходьбе и ударе вычисляются
+         * один раз для каждого шага квантования и дальше переиспользуются.
+         * Действует для моделей, реализующих {@link PoseCachedModel}.
+         *
+         * @param quality Точность квантования
+         * @return Этот строитель для цепочки вызовов
+         */
+        public MobBuilder<T> poseCache(PoseCacheQuality quality) {
+            this.poseCache = quality;
+            return this;
+        }
+
         /**
          * Завершает создание моба и регистрирует его
          *
@@ -410,33 +801,112 @@ public class MobFactory {
             }
 
             // Создаем тип сущности
-            RegistryObject<EntityType<T>> entityType = entityTypeRegistry.register(
+            RegistryObject<EntityType<T>> entityType = entityTypeRegistry.stage(
                 name,
-                () -> EntityType.Builder.<T>of(
-                        entityConstructor::apply,
-                        category
-                    )
-                    .sized(width, height)
-                    .build(new ResourceLocation(modId, name).toString())
+                () -> {
+                    EntityType.Builder<T> builder = EntityType.Builder.<T>of(
+                            entityConstructor::apply,
+                            category
+                        )
+                        .sized(width, height);
+                    // Параметры отслеживания задаются только явно, иначе остаются значения Minecraft
+                    if (clientTrackingRange != null) {
+                        builder.clientTrackingRange(clientTrackingRange);
+                    }
+                    if (updateInterval != null) {
+                        builder.updateInterval(updateInterval);
+                    }
+                    if (velocityUpdates != null) {
+                        builder.setShouldReceiveVelocityUpdates(velocityUpdates);
+                    }
+                    return builder.build(new ResourceLocation(modId, name).toString());
+                }
             );
 
             // Создаем слой модели
             ModelLayerLocation modelLayer = new ModelLayerLocation(
                 new ResourceLocation(modId, name), "main");
 
+            // Стандартные модели с атласом берут текстуру из своей ячейки общей текстуры
+            boolean standardLayer = mobType != MobType.UNIQUE && !customLayerDefinition;
+            ResourceLocation rendererTexture = texture;
+            Supplier<LayerDefinition> layerDefinition = layerDefinitionSupplier;
+            MobTextureAtlas atlas = standardLayer ? textureAtlas : null;
+            if (atlas != null) {
+                atlas.add(name, texture);
+                rendererTexture = atlas.location();
+                layerDefinition = standardLayer(atlas, ModelLod.FULL);
+            }
+
+            // Упрощенные модели строятся тем же классом, что и стандартная модель
+            List<LodLayer<T>> lodLayers = List.of();
+            if (modelLod != null && standardLayer && !customModel) {
+                lodLayers = List.of(lodLayer(atlas, ModelLod.REDUCED), lodLayer(atlas, ModelLod.IMPOSTOR));
+            }
+
             // Регистрируем моба
-            mobRegistrations.add(new MobRegistration<>(
+            mobRegistrations.put(name, new MobRegistration<>(
                 entityType,
                 mobType,
                 modelLayer,
-                texture,
+                rendererTexture,
                 attributesSupplier,
-                layerDefinitionSupplier,
+                layerDefinition,
                 modelSupplier,
-                shadowRadius
+                shadowRadius,
+                batchedRendering,
+                lodLayers.isEmpty() ? null : modelLod,
+                lodLayers,
+                poseCache,
+                aiSettings.build()
             ));
 
             return entityType;
         }
+
+        /**
+         * Создает поставщика определения стандартного слоя модели
+         *
+         * @param atlas Атлас текстур или null, если у моба своя текстура
+         * @param lod Уровень детализации
+         * @return Поставщик определения слоя
+         */
+        private Supplier<LayerDefinition> standardLayer(MobTextureAtlas atlas, ModelLod lod) {
+            return () -> {
+                int u = 0;
+                int v = 0;
+                int width = MobTextureAtlas.CELL;
+                int height = MobTextureAtlas.CELL;
+                if (atlas != null) {
+                    MobTextureAtlas.Layout layout = atlas.layout();
+                    MobTextureAtlas.Slot slot = layout.slot(name);
+                    u = slot.u();
+                    v = slot.v();
+                    width = layout.width();
+                    height = layout.height();
+                }
+                return mobType == MobType.HUMANOID
+                    ? HumanoidMobModel.createLodLayer(CubeDeformation.NONE, u, v, width, height, lod)
+                    : AnimalMobModel.createLodLayer(CubeDeformation.NONE, u, v, width, height, lod);
+            };
+        }
+
+        /**
+         * Создает слой упрощенной модели
+         *
+         * @param atlas Атлас текстур или null, если у моба своя текстура
+         * @param lod Уровень детализации
+         * @return Слой модели
+         */
+        private LodLayer<T> lodLayer(MobTextureAtlas atlas, ModelLod lod) {
+            ModelLayerLocation location = new ModelLayerLocation(
+                new ResourceLocation(modId, name), "lod_" + lod.name().toLowerCase(Locale.ROOT));
+            return new LodLayer<>(
+                location,
+                standardLayer(atlas, lod),
+                context -> mobType == MobType.HUMANOID
+                    ? new HumanoidMobModel<>(context.bakeLayer(location))
+                    : new AnimalMobModel<>(context.bakeLayer(location)));
+        }
     }
 }
@@ -1,11 +1,26 @@
 package com.minecraft.mod.by.radchuk.utils.entities;
 
+import com.minecraft.mod.by.radchuk.utils.entities.types.ModelLod;
+import com.minecraft.mod.by.radchuk.utils.entities.types.ModelLodPolicy;
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import net.minecraft.client.Minecraft;
 import net.minecraft.client.model.EntityModel;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.RenderType;
 import net.minecraft.client.renderer.entity.EntityRendererProvider;
+import net.minecraft.client.renderer.entity.LivingEntityRenderer;
 import net.minecraft.client.renderer.entity.MobRenderer;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.util.Mth;
 import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.Pose;
 import org.jetbrains.annotations.NotNull;
+import org.joml.Matrix3f;
+import org.joml.Matrix4f;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Простой рендерер для мобов с одной текстурой.
@@ -14,6 +29,16 @@ import org.jetbrains.annotations.NotNull;
  * которые используют только одну текстуру. Упрощает создание рендереров
  * для простых мобов, не требующих сложной логики отображения.
  * <p>
+ * В пакетном режиме мобы, видимые в мире, не рисуются по одному: рендерер
+ * вычисляет их позы и выводит всех мобов типа в общий буфер одним проходом
+ * после рендера сущностей (см. {@link MobBatchRenderer}). Мобы с предметами
+ * в руках, эффектами, слоями, подсветкой, именем, поводком, а также сидящие,
+ * спящие и невидимые рисуются обычным путем. Для отложенных мобов не вызываются
+ * события {@code RenderLivingEvent}.
+ * <p>
+ * С политикой {@link ModelLodPolicy} рендерер каждый кадр выбирает модель
+ * по расстоянию до камеры (см. {@link #withLod(ModelLodPolicy, EntityModel, EntityModel)}).
+ * <p>
  * Пример использования:
  * <pre>
  * public class MyMobRenderer extends SimpleMobRenderer&lt;MyMob&gt; {
@@ -38,6 +63,23 @@ public class SimpleMobRenderer<T extends Mob> extends MobRenderer<T, EntityModel
      */
     private final ResourceLocation texture;
 
+    /**
+     * Включен ли пакетный режим.
+     */
+    private final boolean batched;
+
+    /**
+     * Отложенные мобы текущего кадра. Объекты переиспользуются между кадрами.
+     */
+    private final List<Instance<T>> instances = new ArrayList<>();
+    private int pending;
+
+    /**
+     * Модели по уровням детализации в порядке {@link ModelLod}, пусто без LOD.
+     */
+    private final List<EntityModel<T>> lodModels = new ArrayList<>();
+    private ModelLodPolicy lodPolicy;
+
     /**
      * Создает новый простой рендерер для моба.
      *
@@ -48,8 +90,156 @@ public class SimpleMobRenderer<T extends Mob> extends MobRenderer<T, EntityModel
      */
     public SimpleMobRenderer(EntityRendererProvider.Context context, EntityModel<T> model,
                              float shadowRadius, ResourceLocation texture) {
+        this(context, model, shadowRadius, texture, false);
+    }
+
+    /**
+     * Создает новый простой рендерер для моба.
+     *
+     * @param context Контекст рендерера сущности, предоставляемый Forge
+     * @param model Модель моба, используемая для рендеринга
+     * @param shadowRadius Радиус тени моба
+     * @param texture Ресурс текстуры для моба
+     * @param batched true для пакетного режима
+     */
+    public SimpleMobRenderer(EntityRendererProvider.Context context, EntityModel<T> model,
+                             float shadowRadius, ResourceLocation texture, boolean batched) {
         super(context, model, shadowRadius);
         this.texture = texture;
+        this.batched = batched;
+        if (batched) {
+            MobBatchRenderer.register();
+        }
+    }
+
+    /**
+     * Включает смену моделей по расстоянию до камеры.
+     * Модели должны использовать ту же текстуру, что и основная модель.
+     *
+     * @param policy Политика уровней детализации
+     * @param reduced Упрощенная модель
+     * @param impostor Дальняя модель из одного параллелепипеда
+     * @return Этот рендерер
+     */
+    public SimpleMobRenderer<T> withLod(ModelLodPolicy policy, EntityModel<T> reduced, EntityModel<T> impostor) {
+        this.lodModels.clear();
+        this.lodModels.addAll(List.of(this.model, reduced, impostor));
+        this.lodPolicy = policy;
+        return this;
+    }
+
+    @Override
+    public void render(@NotNull T entity, float entityYaw, float partialTick, @NotNull PoseStack poseStack,
+                       @NotNull MultiBufferSource buffers, int packedLight) {
+        if (lodPolicy != null) {
+            ModelLod lod = lodPolicy.select(this.entityRenderDispatcher.distanceToSqr(entity));
+            this.model = lodModels.get(lod.ordinal());
+        }
+        if (!batched || !MobBatchRenderer.isCollecting() || !canBatch(entity)) {
+            super.render(entity, entityYaw, partialTick, poseStack, buffers, packedLight);
+            return;
+        }
+
+        // Те же вычисления позы, что в LivingEntityRenderer#render, без вывода модели
+        float bodyRot = Mth.rotLerp(partialTick, entity.yBodyRotO, entity.yBodyRot);
+        float headRot = Mth.rotLerp(partialTick, entity.yHeadRotO, entity.yHeadRot);
+        float netHeadYaw = headRot - bodyRot;
+        float headPitch = Mth.lerp(partialTick, entity.xRotO, entity.getXRot());
+        if (LivingEntityRenderer.isEntityUpsideDown(entity)) {
+            headPitch *= -1.0F;
+            netHeadYaw *= -1.0F;
+        }
+        float bob = this.getBob(entity, partialTick);
+
+        poseStack.pushPose();
+        this.setupRotations(entity, poseStack, bob, bodyRot, partialTick);
+        poseStack.scale(-1.0F, -1.0F, 1.0F);
+        this.scale(entity, poseStack, partialTick);
+        poseStack.translate(0.0F, -1.501F, 0.0F);
+
+        float limbSpeed = 0.0F;
+        float limbPosition = 0.0F;
+        if (entity.isAlive()) {
+            limbSpeed = Math.min(entity.walkAnimation.speed(partialTick), 1.0F);
+            limbPosition = entity.walkAnimation.position(partialTick);
+            if (entity.isBaby()) {
+                limbPosition *= 3.0F;
+            }
+        }
+
+        if (pending == instances.size()) {
+            instances.add(new Instance<>());
+        }
+        Instance<T> instance = instances.get(pending++);
+        instance.entity = entity;
+        instance.model = this.model;
+        instance.partialTick = partialTick;
+        instance.pose.set(poseStack.last().pose());
+        instance.normal.set(poseStack.last().normal());
+        instance.packedLight = packedLight;
+        instance.overlay = getOverlayCoords(entity, this.getWhiteOverlayProgress(entity, partialTick));
+        instance.attackTime = this.getAttackAnim(entity, partialTick);
+        instance.limbPosition = limbPosition;
+        instance.limbSpeed = limbSpeed;
+        instance.bob = bob;
+        instance.netHeadYaw = netHeadYaw;
+        instance.headPitch = headPitch;
+        poseStack.popPose();
+
+        MobBatchRenderer.enqueue(this);
+    }
+
+    /**
+     * Можно ли отложить моба: его вид полностью задается моделью и позой.
+     *
+     * @param entity Моб
+     * @return true, если моба можно нарисовать в пакете
+     */
+    protected boolean canBatch(T entity) {
+        return this.layers.isEmpty()
+            && entity.getMainHandItem().isEmpty()
+            && entity.getOffhandItem().isEmpty()
+            && entity.getActiveEffects().isEmpty()
+            && !entity.isPassenger()
+            && !entity.hasPose(Pose.SLEEPING)
+            && entity.getLeashHolder() == null
+            && this.isBodyVisible(entity)
+            && !this.shouldShowName(entity)
+            && !Minecraft.getInstance().shouldEntityAppearGlowing(entity);
+    }
+
+    /**
+     * Выводит отложенных мобов в общий буфер одним проходом.
+     *
+     * @param buffers Источник буферов мира
+     * @param poseStack Стек поз для вывода
+     */
+    void renderBatch(MultiBufferSource.BufferSource buffers, PoseStack poseStack) {
+        if (pending == 0) {
+            return;
+        }
+        // У моделей всех уровней детализации одна текстура и один тип рендера
+        RenderType renderType = this.model.renderType(texture);
+        VertexConsumer consumer = buffers.getBuffer(renderType);
+        for (int i = 0; i < pending; i++) {
+            Instance<T> instance = instances.get(i);
+            EntityModel<T> model = instance.model;
+            model.attackTime = instance.attackTime;
+            model.riding = false;
+            model.young = instance.entity.isBaby();
+            model.prepareMobModel(instance.entity, instance.limbPosition, instance.limbSpeed, instance.partialTick);
+            model.setupAnim(instance.entity, instance.limbPosition, instance.limbSpeed, instance.bob,
+                instance.netHeadYaw, instance.headPitch);
+            poseStack.last().pose().set(instance.pose);
+            poseStack.last().normal().set(instance.normal);
+            model.renderToBuffer(poseStack, consumer, instance.packedLight, instance.overlay,
+                1.0F, 1.0F, 1.0F, 1.0F);
+            // Ссылки на моба и модель не удерживаются до следующего кадра
+            instance.entity = null;
+            instance.model = null;
+        }
+        pending = 0;
+        buffers.endBatch(renderType);
     }
 
     /**
@@ -63,4 +253,23 @@ public class SimpleMobRenderer<T extends Mob> extends MobRenderer<T, EntityModel
     public @NotNull ResourceLocation getTextureLocation(@NotNull T entity) {
         return texture;
     }
+
+    /**
+     * Поза и параметры анимации отложенного моба.
+     */
+    private static final class Instance<T extends Mob> {
+        private final Matrix4f pose = new Matrix4f();
+        private final Matrix3f normal = new Matrix3f();
+        private T entity;
+        private EntityModel<T> model;
+        private float partialTick;
+        private int packedLight;
+        private int overlay;
+        private float attackTime;
+        private float limbPosition;
+        private float limbSpeed;
+        private float bob;
+        private float netHeadYaw;
+        private float headPitch;
+    }
 }
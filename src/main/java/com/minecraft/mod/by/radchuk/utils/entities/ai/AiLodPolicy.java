@@ -0,0 +1,213 @@
+package com.minecraft.mod.by.radchuk.utils.entities.ai;
+
+import net.minecraft.world.entity.ai.goal.FloatGoal;
+import net.minecraft.world.entity.ai.goal.Goal;
+import net.minecraft.world.entity.ai.goal.MeleeAttackGoal;
+import net.minecraft.world.entity.ai.goal.target.TargetGoal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Политика уровней детализации (LOD) ИИ моба.
+ * <p>
+ * Рядом с игроками моб использует полный ИИ ({@link AiLodTier#FULL}),
+ * в среднем кольце - только основные цели с пониженной частотой проверки
+ * ({@link AiLodTier#REDUCED}), а за внешним радиусом ИИ замораживается
+ * ({@link AiLodTier#FROZEN}). Смена уровня происходит с гистерезисом,
+ * поэтому моб на границе кольца не переключается каждую проверку.
+ * <p>
+ * Пример использования:
+ * <pre>
+ * AiLodPolicy policy = new AiLodPolicy.Builder()
+ *     .fullRadius(24.0D)
+ *     .frozenRadius(80.0D)
+ *     .keepInReduced(PanicGoal.class)
+ *     .build();
+ * </pre>
+ */
+public final class AiLodPolicy {
+    private final double fullRadius;
+    private final double frozenRadius;
+    private final double hysteresis;
+    private final int reducedIntervalMultiplier;
+    private final int checkInterval;
+    private final List<Class<? extends Goal>> keptInReduced;
+
+    private AiLodPolicy(Builder builder) {
+        this.fullRadius = builder.fullRadius;
+        this.frozenRadius = builder.frozenRadius;
+        this.hysteresis = builder.hysteresis;
+        this.reducedIntervalMultiplier = builder.reducedIntervalMultiplier;
+        this.checkInterval = builder.checkInterval;
+        this.keptInReduced = List.copyOf(builder.keptInReduced);
+    }
+
+    /**
+     * Определяет новый уровень с учетом гистерезиса.
+     *
+     * @param current Текущий уровень
+     * @param distance Расстояние до ближайшего игрока
+     * @return Новый уровень
+     */
+    public AiLodTier nextTier(AiLodTier current, double distance) {
+        // Приближаемся к игрокам - уровень повышается, только если граница пройдена с запасом
+        AiLodTier closer = classify(distance + hysteresis);
+        if (closer.ordinal() < current.ordinal()) {
+            return closer;
+        }
+        // Удаляемся - аналогично с запасом в другую сторону
+        AiLodTier further = classify(distance - hysteresis);
+        if (further.ordinal() > current.ordinal()) {
+            return further;
+        }
+        return current;
+    }
+
+    private AiLodTier classify(double distance) {
+        if (distance <= fullRadius) {
+            return AiLodTier.FULL;
+        }
+        return distance <= frozenRadius ? AiLodTier.REDUCED : AiLodTier.FROZEN;
+    }
+
+    /**
+     * Проверяет, остается ли цель активной на уровне {@link AiLodTier#REDUCED}.
+     *
+     * @param goalClass Класс цели
+     * @return true, если цель относится к основным
+     */
+    public boolean keepsInReduced(Class<? extends Goal> goalClass) {
+        for (Class<? extends Goal> kept : keptInReduced) {
+            if (kept.isAssignableFrom(goalClass)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Радиус, за которым уровень не нужно уточнять точнее, чем "заморожен".
+     *
+     * @return Радиус поиска игроков в блоках
+     */
+    public double searchRadius() {
+        return frozenRadius + hysteresis;
+    }
+
+    /**
+     * Множитель интервала проверки целей на уровне {@link AiLodTier#REDUCED}.
+     *
+     * @return Множитель интервала
+     */
+    public int getReducedIntervalMultiplier() {
+        return reducedIntervalMultiplier;
+    }
+
+    /**
+     * Интервал пересчета уровня в тиках.
+     *
+     * @return Интервал в тиках
+     */
+    public int getCheckInterval() {
+        return checkInterval;
+    }
+
+    /**
+     * Builder для создания политики LOD.
+     */
+    public static class Builder {
+        private double fullRadius = 32.0D;
+        private double frozenRadius = 96.0D;
+        private double hysteresis = 4.0D;
+        private int reducedIntervalMultiplier = 4;
+        private int checkInterval = 20;
+        private final List<Class<? extends Goal>> keptInReduced = new ArrayList<>(
+            List.of(FloatGoal.class, MeleeAttackGoal.class, TargetGoal.class));
+
+        /**
+         * Устанавливает радиус полного ИИ.
+         *
+         * @param fullRadius радиус в блоках
+         * @return этот Builder
+         */
+        public Builder fullRadius(double fullRadius) {
+            this.fullRadius = fullRadius;
+            return this;
+        }
+
+        /**
+         * Устанавливает радиус, за которым ИИ замораживается.
+         *
+         * @param frozenRadius радиус в блоках
+         * @return этот Builder
+         */
+        public Builder frozenRadius(double frozenRadius) {
+            this.frozenRadius = frozenRadius;
+            return this;
+        }
+
+        /**
+         * Устанавливает ширину зоны гистерезиса на границах колец.
+         *
+         * @param hysteresis запас в блоках
+         * @return этот Builder
+         */
+        public Builder hysteresis(double hysteresis) {
+            this.hysteresis = hysteresis;
+            return this;
+        }
+
+        /**
+         * Устанавливает множитель интервала проверки целей в среднем кольце.
+         *
+         * @param multiplier множитель (не меньше 1)
+         * @return этот Builder
+         */
+        public Builder reducedIntervalMultiplier(int multiplier) {
+            this.reducedIntervalMultiplier = multiplier;
+            return this;
+        }
+
+        /**
+         * Устанавливает интервал пересчета уровня.
+         *
+         * @param ticks интервал в тиках
+         * @return этот Builder
+         */
+        public Builder checkInterval(int ticks) {
+            this.checkInterval = ticks;
+            return this;
+        }
+
+        /**
+         * Добавляет классы целей, которые остаются активными в среднем кольце.
+         * По умолчанию это плавание, ближний бой и выбор цели.
+         *
+         * @param goalClasses классы целей
+         * @return этот Builder
+         */
+        @SafeVarargs
+        public final Builder keepInReduced(Class<? extends Goal>... goalClasses) {
+            this.keptInReduced.addAll(List.of(goalClasses));
+            return this;
+        }
+
+        /**
+         * Создает политику LOD.
+         *
+         * @return новая политика
+         * @throws IllegalStateException если параметры несовместимы
+         */
+        public AiLodPolicy build() {
+            if (fullRadius <= 0 || frozenRadius <= fullRadius) {
+                throw new IllegalStateException("Радиус заморозки (" + frozenRadius +
+                    ") должен быть больше радиуса полного ИИ (" + fullRadius + ")");
+            }
+            if (hysteresis < 0 || reducedIntervalMultiplier < 1 || checkInterval < 1) {
+                throw new IllegalStateException("Некорректные параметры политики LOD");
+            }
+            return new AiLodPolicy(this);
+        }
+    }
+}
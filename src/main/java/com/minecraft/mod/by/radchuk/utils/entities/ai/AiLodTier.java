@@ -0,0 +1,20 @@
+package com.minecraft.mod.by.radchuk.utils.entities.ai;
+
+/**
+ * Уровни детализации ИИ моба в зависимости от расстояния до ближайшего игрока.
+ * Порядок констант важен: чем дальше от игроков, тем больше порядковый номер.
+ */
+public enum AiLodTier {
+    /**
+     * Полный набор целей с обычной частотой проверки.
+     */
+    FULL,
+    /**
+     * Только основные цели и пониженная частота проверки.
+     */
+    REDUCED,
+    /**
+     * ИИ заморожен, сущность обрабатывает только физику.
+     */
+    FROZEN
+}
@@ -0,0 +1,83 @@
+package com.minecraft.mod.by.radchuk.utils.entities.ai;
+
+import net.minecraft.world.entity.ai.goal.Goal;
+
+/**
+ * Базовый класс оберток над целями мобов.
+ * <p>
+ * Передает все вызовы исходной цели и копирует ее флаги. Наследники
+ * переопределяют только те методы, поведение которых они меняют.
+ * Обертки могут вкладываться друг в друга, исходная цель всегда
+ * доступна через {@link #unwrap(Goal)}.
+ */
+public abstract class DelegatingGoal extends Goal {
+    protected final Goal delegate;
+
+    /**
+     * Создает обертку для цели.
+     *
+     * @param delegate Исходная цель
+     */
+    protected DelegatingGoal(Goal delegate) {
+        this.delegate = delegate;
+        this.setFlags(delegate.getFlags());
+    }
+
+    /**
+     * Возвращает непосредственно обернутую цель.
+     *
+     * @return Обернутая цель
+     */
+    public Goal getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Снимает все обертки с цели.
+     *
+     * @param goal Цель, возможно обернутая
+     * @return Исходная цель
+     */
+    public static Goal unwrap(Goal goal) {
+        Goal current = goal;
+        while (current instanceof DelegatingGoal wrapper) {
+            current = wrapper.delegate;
+        }
+        return current;
+    }
+
+    @Override
+    public boolean canUse() {
+        return delegate.canUse();
+    }
+
+    @Override
+    public boolean canContinueToUse() {
+        return delegate.canContinueToUse();
+    }
+
+    @Override
+    public boolean isInterruptable() {
+        return delegate.isInterruptable();
+    }
+
+    @Override
+    public void start() {
+        delegate.start();
+    }
+
+    @Override
+    public void stop() {
+        delegate.stop();
+    }
+
+    @Override
+    public boolean requiresUpdateEveryTick() {
+        return delegate.requiresUpdateEveryTick();
+    }
+
+    @Override
+    public void tick() {
+        delegate.tick();
+    }
+}
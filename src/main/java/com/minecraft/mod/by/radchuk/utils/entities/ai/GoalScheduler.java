@@ -0,0 +1,127 @@
+package com.minecraft.mod.by.radchuk.utils.entities.ai;
+
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.ai.goal.GoalSelector;
+import net.minecraft.world.entity.ai.goal.WrappedGoal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Планировщик проверки целей мобов.
+ * <p>
+ * Распределяет проверки запуска целей мобов, созданных фабрикой, по разным тикам
+ * (фаза определяется идентификатором сущности) и ограничивает суммарное время
+ * таких проверок общим бюджетом на тик. Запущенные цели продолжают
+ * выполняться каждый тик.
+ * <p>
+ * Планировщик работает только на серверном потоке, поэтому его состояние
+ * не синхронизируется.
+ * <p>
+ * Пример настройки:
+ * <pre>
+ * factory.createHumanoidMonster("my_mob", MyMob::new, MobCategory.MONSTER)
+ *     .goalEvaluationInterval(4)
+ *     .build();
+ *
+ * // Не более 1 мс на проверки целей за тик
+ * GoalScheduler.setTickBudgetNanos(1_000_000L);
+ * </pre>
+ */
+public final class GoalScheduler {
+    /**
+     * Бюджет по умолчанию - 2 миллисекунды на тик.
+     */
+    public static final long DEFAULT_TICK_BUDGET_NANOS = 2_000_000L;
+
+    private static long tickBudgetNanos = DEFAULT_TICK_BUDGET_NANOS;
+    private static long spentNanos;
+    private static long currentTick;
+
+    /**
+     * Приватный конструктор для предотвращения создания экземпляров класса.
+     */
+    private GoalScheduler() {}
+
+    /**
+     * Устанавливает общий бюджет времени на проверку целей за один тик.
+     *
+     * @param nanos Бюджет в наносекундах
+     */
+    public static void setTickBudgetNanos(long nanos) {
+        if (nanos <= 0) {
+            throw new IllegalArgumentException("Бюджет тика должен быть положительным: " + nanos);
+        }
+        tickBudgetNanos = nanos;
+    }
+
+    /**
+     * Возвращает общий бюджет времени на проверку целей за один тик.
+     *
+     * @return Бюджет в наносекундах
+     */
+    public static long getTickBudgetNanos() {
+        return tickBudgetNanos;
+    }
+
+    /**
+     * Номер текущего серверного тика с точки зрения планировщика.
+     *
+     * @return Номер тика
+     */
+    public static long currentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Начинает новый тик: сбрасывает израсходованный бюджет.
+     */
+    static void startTick() {
+        currentTick++;
+        spentNanos = 0L;
+    }
+
+    /**
+     * Проверяет, остался ли бюджет в текущем тике.
+     *
+     * @return true, если проверки целей еще разрешены
+     */
+    static boolean hasBudget() {
+        return spentNanos < tickBudgetNanos;
+    }
+
+    /**
+     * Учитывает время, потраченное на проверку цели.
+     *
+     * @param nanos Потраченное время в наносекундах
+     */
+    static void charge(long nanos) {
+        spentNanos += nanos;
+    }
+
+    /**
+     * Оборачивает все цели моба в {@link ScheduledGoal}.
+     * Повторный вызов для того же моба ничего не меняет.
+     *
+     * @param mob Моб
+     * @param settings Настройки ИИ типа моба
+     */
+    public static void install(Mob mob, MobAiSettings settings) {
+        MobAiState state = new MobAiState(mob, settings);
+        wrapGoals(state, mob.goalSelector);
+        wrapGoals(state, mob.targetSelector);
+    }
+
+    private static void wrapGoals(MobAiState state, GoalSelector selector) {
+        // Копируем список, так как будем изменять набор целей
+        List<WrappedGoal> goals = new ArrayList<>(selector.getAvailableGoals());
+        for (WrappedGoal wrapped : goals) {
+            if (wrapped.getGoal() instanceof ScheduledGoal) {
+                continue;
+            }
+            // Порядок добавления сохраняется, поэтому цели с равным приоритетом не меняются местами
+            selector.removeGoal(wrapped.getGoal());
+            selector.addGoal(wrapped.getPriority(), new ScheduledGoal(state, wrapped.getGoal()));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.minecraft.mod.by.radchuk.utils.entities.ai;
+
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.ai.goal.LookAtPlayerGoal;
+import net.minecraft.world.entity.player.Player;
+
+/**
+ * Цель наблюдения за ближайшим игроком через {@link PlayerSpatialIndex}.
+ * <p>
+ * Полностью повторяет поведение {@link LookAtPlayerGoal} для игроков,
+ * но ищет игрока в общем индексе мира.
+ * <p>
+ * Пример использования:
+ * <pre>
+ * this.goalSelector.addGoal(2, new IndexedLookAtPlayerGoal(this, 8.0F));
+ * </pre>
+ */
+public class IndexedLookAtPlayerGoal extends LookAtPlayerGoal {
+
+    /**
+     * Создает цель с вероятностью срабатывания по умолчанию.
+     *
+     * @param mob Моб, который будет смотреть на игрока
+     * @param lookDistance Дальность наблюдения в блоках
+     */
+    public IndexedLookAtPlayerGoal(Mob mob, float lookDistance) {
+        super(mob, Player.class, lookDistance);
+    }
+
+    /**
+     * Создает цель.
+     *
+     * @param mob Моб, который будет смотреть на игрока
+     * @param lookDistance Дальность наблюдения в блоках
+     * @param probability Вероятность начать наблюдение при проверке
+     */
+    public IndexedLookAtPlayerGoal(Mob mob, float lookDistance, float probability) {
+        super(mob, Player.class, lookDistance, probability);
+    }
+
+    @Override
+    public boolean canUse() {
+        if (this.mob.getRandom().nextFloat() >= this.probability) {
+            return false;
+        }
+        if (this.mob.getTarget() != null) {
+            this.lookAt = this.mob.getTarget();
+        } else if (this.mob.level() instanceof ServerLevel level) {
+            this.lookAt = PlayerSpatialIndex.get(level).nearest(
+                this.mob.getX(), this.mob.getEyeY(), this.mob.getZ(), this.lookDistance,
+                player -> this.lookAtContext.test(this.mob, player));
+        } else {
+            this.lookAt = null;
+        }
+        return this.lookAt != null;
+    }
+}
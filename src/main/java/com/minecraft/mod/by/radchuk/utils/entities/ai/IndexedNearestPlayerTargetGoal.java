@@ -0,0 +1,85 @@
+package com.minecraft.mod.by.radchuk.utils.entities.ai;
+
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.ai.goal.Goal;
+import net.minecraft.world.entity.ai.goal.target.TargetGoal;
+import net.minecraft.world.entity.ai.targeting.TargetingConditions;
+import net.minecraft.world.entity.player.Player;
+
+import java.util.EnumSet;
+
+/**
+ * Цель выбора ближайшего игрока для атаки через {@link PlayerSpatialIndex}.
+ * <p>
+ * Замена {@link net.minecraft.world.entity.ai.goal.target.NearestAttackableTargetGoal}
+ * для цели типа {@link Player}: вместо перебора всех игроков мира каждой проверкой
+ * моб просматривает только ячейки индекса в пределах дальности следования.
+ * <p>
+ * Пример использования:
+ * <pre>
+ * this.targetSelector.addGoal(1, new IndexedNearestPlayerTargetGoal(this, true));
+ * </pre>
+ */
+public class IndexedNearestPlayerTargetGoal extends TargetGoal {
+    private static final int DEFAULT_RANDOM_INTERVAL = 10;
+
+    private final int randomInterval;
+    private final TargetingConditions targetConditions;
+    private Player target;
+
+    /**
+     * Создает цель с интервалом случайной проверки по умолчанию.
+     *
+     * @param mob Моб, выбирающий цель
+     * @param mustSee Должен ли моб видеть цель, чтобы продолжать ее преследовать
+     */
+    public IndexedNearestPlayerTargetGoal(Mob mob, boolean mustSee) {
+        this(mob, DEFAULT_RANDOM_INTERVAL, mustSee, false);
+    }
+
+    /**
+     * Создает цель.
+     *
+     * @param mob Моб, выбирающий цель
+     * @param randomInterval Средний интервал между попытками поиска цели в тиках
+     * @param mustSee Должен ли моб видеть цель, чтобы продолжать ее преследовать
+     * @param mustReach Должен ли моб иметь возможность дойти до цели
+     */
+    public IndexedNearestPlayerTargetGoal(Mob mob, int randomInterval, boolean mustSee, boolean mustReach) {
+        super(mob, mustSee, mustReach);
+        this.randomInterval = reducedTickDelay(randomInterval);
+        this.setFlags(EnumSet.of(Goal.Flag.TARGET));
+        this.targetConditions = TargetingConditions.forCombat().range(this.getFollowDistance());
+    }
+
+    @Override
+    public boolean canUse() {
+        if (this.randomInterval > 0 && this.mob.getRandom().nextInt(this.randomInterval) != 0) {
+            return false;
+        }
+        this.findTarget();
+        return this.target != null;
+    }
+
+    /**
+     * Ищет ближайшего подходящего игрока в индексе мира.
+     */
+    protected void findTarget() {
+        this.target = null;
+        if (!(this.mob.level() instanceof ServerLevel level)) {
+            return;
+        }
+        double range = this.getFollowDistance();
+        this.targetConditions.range(range);
+        this.target = PlayerSpatialIndex.get(level).nearest(
+            this.mob.getX(), this.mob.getEyeY(), this.mob.getZ(), range,
+            player -> this.targetConditions.test(this.mob, player));
+    }
+
+    @Override
+    public void start() {
+        this.mob.setTarget(this.target);
+        super.start();
+    }
+}
@@ -0,0 +1,122 @@
+package com.minecraft.mod.by.radchuk.utils.entities.ai;
+
+import com.minecraft.mod.by.radchuk.utils.entities.hibernation.MobHibernation;
+import com.minecraft.mod.by.radchuk.utils.entities.navigation.PathCache;
+import com.minecraft.mod.by.radchuk.utils.entities.profiling.MobProfiler;
+import com.minecraft.mod.by.radchuk.utils.entities.profiling.PerfCommand;
+import com.minecraft.mod.by.radchuk.utils.entities.tracking.AdaptiveTracking;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Mob;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.RegisterCommandsEvent;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.EntityJoinLevelEvent;
+import net.minecraftforge.event.entity.EntityLeaveLevelEvent;
+import net.minecraftforge.event.level.BlockEvent;
+import net.minecraftforge.event.level.LevelEvent;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Обработчики игровых событий для подсистемы ИИ мобов.
+ * <p>
+ * Регистрируются на шине событий Forge один раз, сколько бы фабрик
+ * мобов ни было создано.
+ */
+public final class MobAiEvents {
+    private static final AtomicBoolean REGISTERED = new AtomicBoolean();
+
+    /**
+     * Приватный конструктор для предотвращения создания экземпляров класса.
+     */
+    private MobAiEvents() {}
+
+    /**
+     * Регистрирует обработчики на шине событий Forge.
+     * Повторные вызовы игнорируются.
+     */
+    public static void register() {
+        if (REGISTERED.compareAndSet(false, true)) {
+            MinecraftForge.EVENT_BUS.addListener(MobAiEvents::onServerTick);
+            MinecraftForge.EVENT_BUS.addListener(MobAiEvents::onLevelTick);
+            MinecraftForge.EVENT_BUS.addListener(MobAiEvents::onEntityJoinLevel);
+            MinecraftForge.EVENT_BUS.addListener(MobAiEvents::onEntityLeaveLevel);
+            MinecraftForge.EVENT_BUS.addListener(MobAiEvents::onLevelUnload);
+            MinecraftForge.EVENT_BUS.addListener(MobAiEvents::onNeighborNotify);
+            MinecraftForge.EVENT_BUS.addListener(MobAiEvents::onRegisterCommands);
+        }
+    }
+
+    private static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase == TickEvent.Phase.START) {
+            GoalScheduler.startTick();
+        }
+    }
+
+    private static void onLevelTick(TickEvent.LevelTickEvent event) {
+        if (event.phase == TickEvent.Phase.END && event.level instanceof ServerLevel level) {
+            MobHibernation.tick(level);
+            AdaptiveTracking.tick(level);
+        }
+    }
+
+    private static void onRegisterCommands(RegisterCommandsEvent event) {
+        PerfCommand.register(event.getDispatcher());
+    }
+
+    private static void onLevelUnload(LevelEvent.Unload event) {
+        if (!event.getLevel().isClientSide()) {
+            PlayerSpatialIndex.remove(event.getLevel());
+            PathCache.remove(event.getLevel());
+            MobHibernation.remove(event.getLevel());
+            AdaptiveTracking.remove(event.getLevel());
+        }
+    }
+
+    private static void onNeighborNotify(BlockEvent.NeighborNotifyEvent event) {
+        if (!event.getLevel().isClientSide()) {
+            PathCache.onBlockChanged(event.getLevel(), event.getPos());
+        }
+    }
+
+    /**
+     * Оборачивает цели моба согласно настройкам его типа.
+     * Вызывается при входе моба в мир, а также после пересоздания всех его целей.
+     *
+     * @param mob Моб
+     * @param settings Настройки ИИ типа моба
+     */
+    public static void installGoalWrappers(Mob mob, MobAiSettings settings) {
+        // Профилирующие обертки ставятся первыми, чтобы замерять только сами цели
+        if (settings.isProfiling()) {
+            MobProfiler.install(mob);
+        }
+        if (settings.isGoalSchedulingEnabled() || settings.getLodPolicy() != null) {
+            GoalScheduler.install(mob, settings);
+        }
+    }
+
+    private static void onEntityJoinLevel(EntityJoinLevelEvent event) {
+        if (event.getLevel().isClientSide() || !(event.getEntity() instanceof Mob mob)) {
+            return;
+        }
+        MobAiSettings settings = MobAiSettings.get(mob.getType());
+        if (settings == null) {
+            return;
+        }
+        installGoalWrappers(mob, settings);
+        if (settings.isHibernationEnabled() && event.getLevel() instanceof ServerLevel level) {
+            MobHibernation.track(level, mob, settings);
+        }
+        if (settings.isAdaptiveTracking() && event.getLevel() instanceof ServerLevel level) {
+            AdaptiveTracking.track(level, mob, settings.getAdaptiveTrackingMultiplier());
+        }
+    }
+
+    private static void onEntityLeaveLevel(EntityLeaveLevelEvent event) {
+        if (!event.getLevel().isClientSide()) {
+            MobHibernation.untrack(event.getLevel(), event.getEntity());
+            AdaptiveTracking.untrack(event.getLevel(), event.getEntity());
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.minecraft.mod.by.radchuk.utils.entities.ai;
+
+import net.minecraft.world.entity.EntityType;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Настройки поведения ИИ для типа сущности, созданного через
+ * {@link com.minecraft.mod.by.radchuk.utils.entities.MobFactory}.
+ * <p>
+ * Экземпляр создается строителем моба и привязывается к типу сущности
+ * после завершения регистрации. Во время игры настройки ищутся по типу
+ * сущности, поэтому классам мобов не нужно знать о фабрике.
+ */
+public final class MobAiSettings {
+    /**
+     * Настройки по типам сущностей.
+     */
+    private static final Map<EntityType<?>, MobAiSettings> BY_TYPE = new ConcurrentHashMap<>();
+
+    private final int goalEvaluationInterval;
+    @Nullable
+    private final AiLodPolicy lodPolicy;
+    private final boolean asyncPathfinding;
+    private final boolean pathCache;
+    private final int hibernationChunkRadius;
+    private final int hibernationIdleTicks;
+    private final boolean profiling;
+    private final int adaptiveTrackingMultiplier;
+
+    private MobAiSettings(Builder builder) {
+        this.goalEvaluationInterval = builder.goalEvaluationInterval;
+        this.lodPolicy = builder.lodPolicy;
+        this.asyncPathfinding = builder.asyncPathfinding;
+        this.pathCache = builder.pathCache;
+        this.hibernationChunkRadius = builder.hibernationChunkRadius;
+        this.hibernationIdleTicks = builder.hibernationIdleTicks;
+        this.profiling = builder.profiling;
+        this.adaptiveTrackingMultiplier = builder.adaptiveTrackingMultiplier;
+    }
+
+    /**
+     * Привязывает настройки к типу сущности.
+     *
+     * @param type Тип сущности
+     * @param settings Настройки ИИ
+     */
+    public static void bind(EntityType<?> type, MobAiSettings settings) {
+        BY_TYPE.put(type, settings);
+    }
+
+    /**
+     * Возвращает настройки для типа сущности.
+     *
+     * @param type Тип сущности
+     * @return Настройки или null, если тип создан не фабрикой
+     */
+    public static @Nullable MobAiSettings get(EntityType<?> type) {
+        return BY_TYPE.get(type);
+    }
+
+    /**
+     * Интервал (в тиках) между проверками запуска целей.
+     * Значение 1 означает стандартное поведение Minecraft без планировщика.
+     *
+     * @return Интервал проверки целей
+     */
+    public int getGoalEvaluationInterval() {
+        return goalEvaluationInterval;
+    }
+
+    /**
+     * Включен ли планировщик целей для этого типа.
+     *
+     * @return true, если проверки целей распределяются по тикам
+     */
+    public boolean isGoalSchedulingEnabled() {
+        return goalEvaluationInterval > 1;
+    }
+
+    /**
+     * Политика уровней детализации ИИ.
+     *
+     * @return Политика или null, если LOD отключен
+     */
+    public @Nullable AiLodPolicy getLodPolicy() {
+        return lodPolicy;
+    }
+
+    /**
+     * Ищутся ли пути мобов этого типа вне серверного потока.
+     *
+     * @return true, если включен асинхронный поиск пути
+     */
+    public boolean isAsyncPathfinding() {
+        return asyncPathfinding;
+    }
+
+    /**
+     * Используется ли общий кэш путей мира.
+     *
+     * @return true, если включен кэш путей
+     */
+    public boolean isPathCacheEnabled() {
+        return pathCache;
+    }
+
+    /**
+     * Включена ли спячка постоянных мобов этого типа.
+     *
+     * @return true, если простаивающие мобы выгружаются в хранилище спячки
+     */
+    public boolean isHibernationEnabled() {
+        return hibernationChunkRadius > 0;
+    }
+
+    /**
+     * Радиус (в чанках), в пределах которого игрок не дает мобу уснуть
+     * и будит уже спящих мобов.
+     *
+     * @return Радиус спячки в чанках
+     */
+    public int getHibernationChunkRadius() {
+        return hibernationChunkRadius;
+    }
+
+    /**
+     * Сколько тиков моб должен простоять без игроков рядом, прежде чем уснуть.
+     *
+     * @return Время простоя в тиках
+     */
+    public int getHibernationIdleTicks() {
+        return hibernationIdleTicks;
+    }
+
+    /**
+     * Профилируются ли мобы этого типа.
+     *
+     * @return true, если цели, тик и поиск пути замеряются профилировщиком
+     */
+    public boolean isProfiling() {
+        return profiling;
+    }
+
+    /**
+     * Включено ли адаптивное отслеживание для мобов этого типа.
+     *
+     * @return true, если интервал рассылки изменений стоящих и дальних мобов расширяется
+     */
+    public boolean isAdaptiveTracking() {
+        return adaptiveTrackingMultiplier > 1;
+    }
+
+    /**
+     * Во сколько раз расширяется интервал обновлений для стоящего моба.
+     *
+     * @return Множитель интервала
+     */
+    public int getAdaptiveTrackingMultiplier() {
+        return adaptiveTrackingMultiplier;
+    }
+
+    /**
+     * Builder для создания настроек ИИ.
+     */
+    public static class Builder {
+        private int goalEvaluationInterval = 1;
+        private AiLodPolicy lodPolicy;
+        private boolean asyncPathfinding = false;
+        private boolean pathCache = false;
+        private int hibernationChunkRadius = 0;
+        private int hibernationIdleTicks = 0;
+        private boolean profiling = false;
+        private int adaptiveTrackingMultiplier = 1;
+
+        /**
+         * Устанавливает интервал проверки целей.
+         *
+         * @param ticks Интервал в тиках (не меньше 1)
+         * @return этот Builder
+         */
+        public Builder goalEvaluationInterval(int ticks) {
+            if (ticks < 1) {
+                throw new IllegalArgumentException("Интервал проверки целей должен быть не меньше 1: " + ticks);
+            }
+            this.goalEvaluationInterval = ticks;
+            return this;
+        }
+
+        /**
+         * Устанавливает политику уровней детализации ИИ.
+         *
+         * @param lodPolicy Политика LOD или null для отключения
+         * @return этот Builder
+         */
+        public Builder lodPolicy(@Nullable AiLodPolicy lodPolicy) {
+            this.lodPolicy = lodPolicy;
+            return this;
+        }
+
+        /**
+         * Включает или отключает асинхронный поиск пути.
+         *
+         * @param asyncPathfinding true для поиска пути в рабочих потоках
+         * @return этот Builder
+         */
+        public Builder asyncPathfinding(boolean asyncPathfinding) {
+            this.asyncPathfinding = asyncPathfinding;
+            return this;
+        }
+
+        /**
+         * Включает или отключает кэш путей.
+         *
+         * @param pathCache true для использования кэша путей мира
+         * @return этот Builder
+         */
+        public Builder pathCache(boolean pathCache) {
+            this.pathCache = pathCache;
+            return this;
+        }
+
+        /**
+         * Включает спячку постоянных мобов.
+         *
+         * @param chunkRadius Радиус отсутствия игроков в чанках (не меньше 1)
+         * @param idleTicks Время простоя в тиках до засыпания (не меньше 1)
+         * @return этот Builder
+         */
+        public Builder hibernation(int chunkRadius, int idleTicks) {
+            if (chunkRadius < 1 || idleTicks < 1) {
+                throw new IllegalArgumentException(
+                    "Радиус и время спячки должны быть не меньше 1: " + chunkRadius + ", " + idleTicks);
+            }
+            this.hibernationChunkRadius = chunkRadius;
+            this.hibernationIdleTicks = idleTicks;
+            return this;
+        }
+
+        /**
+         * Включает или отключает профилирование.
+         *
+         * @param profiling true для замера времени целей, тика и поиска пути
+         * @return этот Builder
+         */
+        public Builder profiling(boolean profiling) {
+            this.profiling = profiling;
+            return this;
+        }
+
+        /**
+         * Устанавливает множитель интервала обновлений для стоящих мобов.
+         *
+         * @param multiplier Множитель (1 отключает адаптивное отслеживание)
+         * @return этот Builder
+         */
+        public Builder adaptiveTracking(int multiplier) {
+            if (multiplier < 1) {
+                throw new IllegalArgumentException("Множитель интервала должен быть не меньше 1: " + multiplier);
+            }
+            this.adaptiveTrackingMultiplier = multiplier;
+            return this;
+        }
+
+        /**
+         * Создает настройки ИИ.
+         *
+         * @return новые настройки
+         */
+        public MobAiSettings build() {
+            return new MobAiSettings(this);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.minecraft.mod.by.radchuk.utils.entities.ai;
+
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Mob;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Состояние ИИ отдельного моба, общее для всех его обернутых целей.
+ * <p>
+ * Хранит интервал проверки целей и текущий уровень детализации ИИ.
+ * Уровень пересчитывается лениво - при обращении к нему не чаще,
+ * чем раз в {@link AiLodPolicy#getCheckInterval()} тиков.
+ */
+public class MobAiState {
+    private final Mob mob;
+    private final int goalEvaluationInterval;
+    @Nullable
+    private final AiLodPolicy lodPolicy;
+    private AiLodTier tier = AiLodTier.FULL;
+    private long nextTierCheckTick;
+
+    /**
+     * Создает состояние ИИ моба.
+     *
+     * @param mob Моб
+     * @param settings Настройки ИИ типа моба
+     */
+    public MobAiState(Mob mob, MobAiSettings settings) {
+        this.mob = mob;
+        this.goalEvaluationInterval = settings.getGoalEvaluationInterval();
+        this.lodPolicy = settings.getLodPolicy();
+    }
+
+    /**
+     * Возвращает моба, которому принадлежит состояние.
+     *
+     * @return Моб
+     */
+    public Mob getMob() {
+        return mob;
+    }
+
+    /**
+     * Возвращает политику LOD.
+     *
+     * @return Политика или null, если LOD отключен
+     */
+    public @Nullable AiLodPolicy getLodPolicy() {
+        return lodPolicy;
+    }
+
+    /**
+     * Возвращает актуальный уровень детализации ИИ.
+     *
+     * @return Текущий уровень
+     */
+    public AiLodTier getTier() {
+        if (lodPolicy == null) {
+            return AiLodTier.FULL;
+        }
+        long tick = GoalScheduler.currentTick();
+        if (tick >= nextTierCheckTick) {
+            nextTierCheckTick = tick + lodPolicy.getCheckInterval();
+            updateTier();
+        }
+        return tier;
+    }
+
+    /**
+     * Интервал проверки целей с учетом текущего уровня.
+     *
+     * @return Интервал в тиках
+     */
+    public int getEffectiveInterval() {
+        if (getTier() == AiLodTier.REDUCED) {
+            return goalEvaluationInterval * lodPolicy.getReducedIntervalMultiplier();
+        }
+        return goalEvaluationInterval;
+    }
+
+    /**
+     * Базовый интервал проверки целей.
+     *
+     * @return Интервал в тиках
+     */
+    public int getGoalEvaluationInterval() {
+        return goalEvaluationInterval;
+    }
+
+    private void updateTier() {
+        if (!(mob.level() instanceof ServerLevel level)) {
+            return;
+        }
+        double distanceSqr = PlayerSpatialIndex.get(level)
+            .nearestDistanceSqr(mob.getX(), mob.getY(), mob.getZ(), lodPolicy.searchRadius());
+        double distance = distanceSqr == Double.MAX_VALUE ? Double.MAX_VALUE : Math.sqrt(distanceSqr);
+
+        AiLodTier next = lodPolicy.nextTier(tier, distance);
+        if (next == AiLodTier.FROZEN && tier != AiLodTier.FROZEN) {
+            // Замороженный моб не должен продолжать идти по старому пути
+            mob.getNavigation().stop();
+        }
+        tier = next;
+    }
+}
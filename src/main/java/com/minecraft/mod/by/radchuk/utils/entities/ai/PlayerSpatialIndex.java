@@ -0,0 +1,147 @@
+package com.minecraft.mod.by.radchuk.utils.entities.ai;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.LevelAccessor;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Пространственный индекс игроков для одного серверного мира.
+ * <p>
+ * Игроки раскладываются по ячейкам сетки в плоскости XZ. Индекс перестраивается
+ * не чаще одного раза за тик мира - при первом обращении в новом тике, поэтому
+ * сотни мобов используют один общий снимок вместо собственного перебора игроков.
+ * <p>
+ * Индекс используется только на серверном потоке.
+ * <p>
+ * Пример использования:
+ * <pre>
+ * Player nearest = PlayerSpatialIndex.get(serverLevel)
+ *     .nearest(mob.getX(), mob.getEyeY(), mob.getZ(), 16.0D, player -> !player.isSpectator());
+ * </pre>
+ */
+public final class PlayerSpatialIndex {
+    /**
+     * Размер ячейки сетки в блоках.
+     */
+    private static final int CELL_SHIFT = 4;
+
+    private static final Map<ServerLevel, PlayerSpatialIndex> INDICES = new IdentityHashMap<>();
+
+    private final ServerLevel level;
+    private final Long2ObjectOpenHashMap<List<ServerPlayer>> cells = new Long2ObjectOpenHashMap<>();
+    private long builtAtGameTime = Long.MIN_VALUE;
+
+    private PlayerSpatialIndex(ServerLevel level) {
+        this.level = level;
+    }
+
+    /**
+     * Возвращает актуальный индекс игроков мира.
+     *
+     * @param level Серверный мир
+     * @return Индекс, перестроенный для текущего тика
+     */
+    public static PlayerSpatialIndex get(ServerLevel level) {
+        PlayerSpatialIndex index = INDICES.computeIfAbsent(level, PlayerSpatialIndex::new);
+        index.refresh();
+        return index;
+    }
+
+    /**
+     * Удаляет индекс выгружаемого мира.
+     *
+     * @param level Выгружаемый мир
+     */
+    static void remove(LevelAccessor level) {
+        INDICES.remove(level);
+    }
+
+    private void refresh() {
+        long gameTime = level.getGameTime();
+        if (gameTime == builtAtGameTime) {
+            return;
+        }
+        builtAtGameTime = gameTime;
+        cells.clear();
+        for (ServerPlayer player : level.players()) {
+            long key = cellKey(player.getBlockX() >> CELL_SHIFT, player.getBlockZ() >> CELL_SHIFT);
+            cells.computeIfAbsent(key, k -> new ArrayList<>(2)).add(player);
+        }
+    }
+
+    /**
+     * Находит ближайшего к точке игрока, удовлетворяющего условию.
+     *
+     * @param x Координата X точки
+     * @param y Координата Y точки
+     * @param z Координата Z точки
+     * @param range Радиус поиска в блоках
+     * @param filter Дополнительное условие отбора
+     * @return Ближайший игрок или null
+     */
+    public @Nullable ServerPlayer nearest(double x, double y, double z, double range, Predicate<? super ServerPlayer> filter) {
+        if (cells.isEmpty()) {
+            return null;
+        }
+        double rangeSqr = range * range;
+        double bestDistance = Double.MAX_VALUE;
+        ServerPlayer best = null;
+
+        int minCellX = ((int) Math.floor(x - range)) >> CELL_SHIFT;
+        int maxCellX = ((int) Math.floor(x + range)) >> CELL_SHIFT;
+        int minCellZ = ((int) Math.floor(z - range)) >> CELL_SHIFT;
+        int maxCellZ = ((int) Math.floor(z + range)) >> CELL_SHIFT;
+
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                List<ServerPlayer> players = cells.get(cellKey(cellX, cellZ));
+                if (players == null) {
+                    continue;
+                }
+                for (ServerPlayer player : players) {
+                    double distance = player.distanceToSqr(x, y, z);
+                    if (distance <= rangeSqr && distance < bestDistance && filter.test(player)) {
+                        bestDistance = distance;
+                        best = player;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Возвращает квадрат расстояния до ближайшего игрока в радиусе.
+     *
+     * @param x Координата X точки
+     * @param y Координата Y точки
+     * @param z Координата Z точки
+     * @param range Радиус поиска в блоках
+     * @return Квадрат расстояния или {@link Double#MAX_VALUE}, если игроков в радиусе нет
+     */
+    public double nearestDistanceSqr(double x, double y, double z, double range) {
+        ServerPlayer player = nearest(x, y, z, range, p -> !p.isSpectator());
+        return player == null ? Double.MAX_VALUE : player.distanceToSqr(x, y, z);
+    }
+
+    /**
+     * Проверяет, есть ли в мире игроки.
+     *
+     * @return true, если в индексе нет ни одного игрока
+     */
+    public boolean isEmpty() {
+        return cells.isEmpty();
+    }
+
+    private static long cellKey(int cellX, int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+}
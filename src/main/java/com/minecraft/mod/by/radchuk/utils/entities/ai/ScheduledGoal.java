@@ -0,0 +1,83 @@
+package com.minecraft.mod.by.radchuk.utils.entities.ai;
+
+import net.minecraft.world.entity.ai.goal.Goal;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Обертка над целью, ограничивающая частоту проверки ее запуска.
+ * <p>
+ * Проверка {@link Goal#canUse()} выполняется не чаще одного раза за интервал
+ * и только пока в текущем тике не исчерпан общий бюджет {@link GoalScheduler}.
+ * Уже запущенная цель обслуживается каждый тик без ограничений, поэтому
+ * реакция в бою не ухудшается.
+ * <p>
+ * Если для моба задана политика LOD, обертка также учитывает уровень детализации:
+ * на уровне {@link AiLodTier#REDUCED} работают только основные цели с увеличенным
+ * интервалом, а на уровне {@link AiLodTier#FROZEN} ни одна цель не запускается
+ * и не продолжается.
+ */
+public class ScheduledGoal extends DelegatingGoal {
+    private final MobAiState state;
+    private final boolean keptInReduced;
+    private long nextEvaluationTick;
+    private boolean deferred;
+
+    /**
+     * Создает обертку для цели.
+     *
+     * @param state Состояние ИИ моба, которому принадлежит цель
+     * @param delegate Исходная цель
+     */
+    public ScheduledGoal(MobAiState state, Goal delegate) {
+        super(delegate);
+        this.state = state;
+        AiLodPolicy policy = state.getLodPolicy();
+        this.keptInReduced = policy == null || policy.keepsInReduced(unwrap(delegate).getClass());
+        // Смещаем фазу по идентификатору сущности, чтобы мобы не проверяли цели в одном тике
+        this.nextEvaluationTick = GoalScheduler.currentTick()
+            + Math.floorMod(state.getMob().getId(), state.getGoalEvaluationInterval());
+    }
+
+    @Override
+    public boolean canUse() {
+        if (!isAllowedByTier()) {
+            return false;
+        }
+        long tick = GoalScheduler.currentTick();
+        if (!deferred && tick < nextEvaluationTick) {
+            return false;
+        }
+        if (!GoalScheduler.hasBudget()) {
+            // Бюджет тика исчерпан - проверим цель в следующем тике
+            deferred = true;
+            return false;
+        }
+        deferred = false;
+        nextEvaluationTick = tick + state.getEffectiveInterval();
+
+        long start = System.nanoTime();
+        try {
+            return delegate.canUse();
+        } finally {
+            GoalScheduler.charge(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public boolean canContinueToUse() {
+        return isAllowedByTier() && delegate.canContinueToUse();
+    }
+
+    private boolean isAllowedByTier() {
+        return switch (state.getTier()) {
+            case FULL -> true;
+            case REDUCED -> keptInReduced;
+            case FROZEN -> false;
+        };
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "Scheduled[" + delegate + "]";
+    }
+}
@@ -0,0 +1,133 @@
+package com.minecraft.mod.by.radchuk.utils.entities.atlas;
+
+import net.minecraft.resources.ResourceLocation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Общая текстура мобов фабрики.
+ * <p>
+ * Текстуры мобов со стандартными моделями размером 64x64 укладываются в сетку
+ * ячеек 64x64, до {@value #MAX_COLUMNS} ячеек в строке. Модели таких мобов
+ * строятся со смещенными UV-координатами и размером всей текстуры, поэтому
+ * все мобы рисуются с одной текстурой и попадают в один буфер рендера.
+ * <p>
+ * Раскладка фиксируется при первом обращении к {@link #layout()} - при построении
+ * моделей, когда все мобы уже созданы. Ячейки выдаются в порядке имен мобов,
+ * поэтому раскладка не зависит от порядка создания.
+ * Сама текстура собирается на клиенте при загрузке ресурсов (см. {@link MobTextureAtlasLoader}).
+ */
+public final class MobTextureAtlas {
+    /**
+     * Размер ячейки атласа в пикселях, совпадает с размером текстур стандартных моделей.
+     */
+    public static final int CELL = 64;
+
+    /**
+     * Наибольшее количество ячеек в строке атласа.
+     */
+    public static final int MAX_COLUMNS = 16;
+
+    private final ResourceLocation location;
+    private final Map<String, ResourceLocation> textures = new ConcurrentSkipListMap<>();
+    private volatile Layout layout;
+
+    /**
+     * Создает пустой атлас.
+     *
+     * @param location Расположение, под которым будет зарегистрирована собранная текстура
+     */
+    public MobTextureAtlas(ResourceLocation location) {
+        this.location = location;
+    }
+
+    /**
+     * Добавляет текстуру моба в атлас.
+     *
+     * @param name Имя моба
+     * @param texture Текстура моба размером 64x64
+     * @throws IllegalStateException если раскладка атласа уже зафиксирована
+     */
+    public void add(String name, ResourceLocation texture) {
+        if (layout != null) {
+            throw new IllegalStateException("Раскладка атласа " + location + " уже зафиксирована: " + name);
+        }
+        textures.put(name, texture);
+    }
+
+    /**
+     * Расположение собранной текстуры атласа.
+     *
+     * @return Расположение текстуры
+     */
+    public ResourceLocation location() {
+        return location;
+    }
+
+    /**
+     * Возвращает раскладку атласа, фиксируя ее при первом вызове.
+     *
+     * @return Раскладка атласа
+     */
+    public Layout layout() {
+        Layout current = layout;
+        if (current == null) {
+            synchronized (this) {
+                current = layout;
+                if (current == null) {
+                    current = Layout.of(textures);
+                    layout = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Ячейка атласа.
+     *
+     * @param texture Исходная текстура моба
+     * @param u Смещение ячейки по горизонтали в пикселях
+     * @param v Смещение ячейки по вертикали в пикселях
+     */
+    public record Slot(ResourceLocation texture, int u, int v) {}
+
+    /**
+     * Зафиксированная раскладка атласа.
+     *
+     * @param width Ширина атласа в пикселях
+     * @param height Высота атласа в пикселях
+     * @param slots Ячейки по именам мобов
+     */
+    public record Layout(int width, int height, Map<String, Slot> slots) {
+        private static Layout of(Map<String, ResourceLocation> textures) {
+            int count = textures.size();
+            int columns = Math.max(1, Math.min(count, MAX_COLUMNS));
+            int rows = Math.max(1, (count + columns - 1) / columns);
+            Map<String, Slot> slots = new LinkedHashMap<>();
+            int index = 0;
+            for (Map.Entry<String, ResourceLocation> entry : textures.entrySet()) {
+                slots.put(entry.getKey(), new Slot(entry.getValue(), (index % columns) * CELL, (index / columns) * CELL));
+                index++;
+            }
+            return new Layout(columns * CELL, rows * CELL, Map.copyOf(slots));
+        }
+
+        /**
+         * Возвращает ячейку моба.
+         *
+         * @param name Имя моба
+         * @return Ячейка
+         * @throws IllegalArgumentException если моб не добавлен в атлас
+         */
+        public Slot slot(String name) {
+            Slot slot = slots.get(name);
+            if (slot == null) {
+                throw new IllegalArgumentException("Моб " + name + " не добавлен в атлас");
+            }
+            return slot;
+        }
+    }
+}
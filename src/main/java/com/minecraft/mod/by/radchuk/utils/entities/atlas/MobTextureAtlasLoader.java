@@ -0,0 +1,85 @@
+package com.minecraft.mod.by.radchuk.utils.entities.atlas;
+
+import com.mojang.blaze3d.platform.NativeImage;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.texture.DynamicTexture;
+import net.minecraft.server.packs.resources.Resource;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.server.packs.resources.SimplePreparableReloadListener;
+import net.minecraft.util.profiling.ProfilerFiller;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Сборка текстуры {@link MobTextureAtlas} при загрузке ресурсов.
+ * <p>
+ * Текстуры мобов читаются и копируются в свои ячейки в фоновом потоке
+ * перезагрузки, в основном потоке готовое изображение загружается в
+ * {@link DynamicTexture}. Текстура другого размера масштабируется до ячейки,
+ * как ее растянула бы отдельная модель 64x64; на месте отсутствующей
+ * остается прозрачная ячейка.
+ */
+@OnlyIn(Dist.CLIENT)
+public class MobTextureAtlasLoader extends SimplePreparableReloadListener<NativeImage> {
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    private final MobTextureAtlas atlas;
+
+    /**
+     * Создает загрузчик атласа.
+     *
+     * @param atlas Атлас мобов
+     */
+    public MobTextureAtlasLoader(MobTextureAtlas atlas) {
+        this.atlas = atlas;
+    }
+
+    @Override
+    protected @NotNull NativeImage prepare(@NotNull ResourceManager resourceManager, @NotNull ProfilerFiller profiler) {
+        MobTextureAtlas.Layout layout = atlas.layout();
+        NativeImage image = new NativeImage(layout.width(), layout.height(), true);
+        for (Map.Entry<String, MobTextureAtlas.Slot> entry : layout.slots().entrySet()) {
+            MobTextureAtlas.Slot slot = entry.getValue();
+            Optional<Resource> resource = resourceManager.getResource(slot.texture());
+            if (resource.isEmpty()) {
+                LOGGER.warn("Текстура {} моба {} не найдена", slot.texture(), entry.getKey());
+                continue;
+            }
+            try (InputStream stream = resource.get().open(); NativeImage texture = NativeImage.read(stream)) {
+                if (texture.getWidth() != MobTextureAtlas.CELL || texture.getHeight() != MobTextureAtlas.CELL) {
+                    LOGGER.debug("Текстура {} моба {} размером {}x{} масштабирована до {}x{}", slot.texture(), entry.getKey(),
+                        texture.getWidth(), texture.getHeight(), MobTextureAtlas.CELL, MobTextureAtlas.CELL);
+                }
+                copy(texture, image, slot);
+            } catch (IOException e) {
+                LOGGER.warn("Не удалось прочитать текстуру {} моба {}: {}", slot.texture(), entry.getKey(), e.getMessage());
+            }
+        }
+        return image;
+    }
+
+    @Override
+    protected void apply(@NotNull NativeImage image, @NotNull ResourceManager resourceManager, @NotNull ProfilerFiller profiler) {
+        // Прежняя текстура атласа закрывается менеджером текстур при замене
+        Minecraft.getInstance().getTextureManager().register(atlas.location(), new DynamicTexture(image));
+    }
+
+    private static void copy(NativeImage source, NativeImage target, MobTextureAtlas.Slot slot) {
+        int cell = MobTextureAtlas.CELL;
+        for (int y = 0; y < cell; y++) {
+            int sourceY = y * source.getHeight() / cell;
+            for (int x = 0; x < cell; x++) {
+                int sourceX = x * source.getWidth() / cell;
+                target.setPixelRGBA(slot.u() + x, slot.v() + y, source.getPixelRGBA(sourceX, sourceY));
+            }
+        }
+    }
+}
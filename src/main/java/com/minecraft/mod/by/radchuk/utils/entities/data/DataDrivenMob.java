@@ -0,0 +1,159 @@
+package com.minecraft.mod.by.radchuk.utils.entities.data;
+
+import com.minecraft.mod.by.radchuk.utils.entities.ai.MobAiEvents;
+import com.minecraft.mod.by.radchuk.utils.entities.ai.MobAiSettings;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.sounds.SoundSource;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.MobCategory;
+import net.minecraft.world.entity.ai.attributes.Attribute;
+import net.minecraft.world.entity.ai.attributes.AttributeInstance;
+import net.minecraft.world.entity.ai.goal.Goal;
+import net.minecraft.world.entity.ai.goal.GoalSelector;
+import net.minecraft.world.entity.ai.goal.WrappedGoal;
+import net.minecraft.world.entity.monster.Monster;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelReader;
+import net.minecraftforge.registries.ForgeRegistries;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Map;
+
+/**
+ * Моб, поведение и атрибуты которого задаются определением из индекса.
+ * <p>
+ * Цели создаются по текущим параметрам {@link MobDefinitions#tuning(EntityType)}
+ * при создании моба. Атрибуты применяются при входе в мир поверх значений,
+ * сохраненных в NBT, поэтому изменения из пакетов данных действуют и на
+ * загруженных из мира мобов.
+ * <p>
+ * Поведение монстра (мешает спать, звуки в канале враждебных существ,
+ * исчезновение при бездействии на свету, поиск темных мест) действует
+ * только для категории {@link MobCategory#MONSTER}, остальные категории
+ * ведут себя как обычные существа.
+ */
+public class DataDrivenMob extends Monster {
+    /**
+     * Параметры, по которым созданы текущие цели.
+     * Без инициализатора: значение задается в {@link #registerGoals()},
+     * который вызывается из конструктора родителя.
+     */
+    @Nullable
+    private MobTuning goalsTuning;
+
+    /**
+     * Создает моба.
+     *
+     * @param entityType тип сущности
+     * @param level мир
+     */
+    public DataDrivenMob(EntityType<? extends Monster> entityType, Level level) {
+        super(entityType, level);
+    }
+
+    @Override
+    protected void registerGoals() {
+        MobTuning tuning = MobDefinitions.tuning(this.getType());
+        this.goalsTuning = tuning;
+        if (tuning == null) {
+            return;
+        }
+        for (GoalSpec spec : tuning.getGoals()) {
+            Goal goal = MobGoals.createGoal(this, spec);
+            if (goal != null) {
+                this.goalSelector.addGoal(spec.priority(), goal);
+            }
+        }
+        for (GoalSpec spec : tuning.getTargets()) {
+            Goal goal = MobGoals.createTarget(this, spec);
+            if (goal != null) {
+                this.targetSelector.addGoal(spec.priority(), goal);
+            }
+        }
+    }
+
+    @Override
+    public void onAddedToWorld() {
+        super.onAddedToWorld();
+        if (!this.level().isClientSide) {
+            applyTuning();
+        }
+    }
+
+    /**
+     * Применяет текущие параметры типа: базовые значения атрибутов,
+     * а если цели изменились - пересоздает цели вместе с их обертками.
+     */
+    public void applyTuning() {
+        MobTuning tuning = MobDefinitions.tuning(this.getType());
+        if (tuning == null) {
+            return;
+        }
+        for (Map.Entry<ResourceLocation, Double> value : tuning.getAttributes().entrySet()) {
+            Attribute attribute = ForgeRegistries.ATTRIBUTES.getValue(value.getKey());
+            AttributeInstance instance = attribute != null ? this.getAttribute(attribute) : null;
+            if (instance != null && instance.getBaseValue() != value.getValue()) {
+                instance.setBaseValue(value.getValue());
+            }
+        }
+        if (this.getHealth() > this.getMaxHealth()) {
+            this.setHealth(this.getMaxHealth());
+        }
+
+        if (tuning != this.goalsTuning) {
+            clearGoals(this.goalSelector);
+            clearGoals(this.targetSelector);
+            registerGoals();
+            MobAiSettings settings = MobAiSettings.get(this.getType());
+            if (settings != null) {
+                MobAiEvents.installGoalWrappers(this, settings);
+            }
+        }
+    }
+
+    private static void clearGoals(GoalSelector selector) {
+        // removeGoal останавливает выполняемую цель и освобождает ее флаги,
+        // поэтому новые цели не блокируются старыми. Копируем список, так как изменяем набор целей
+        for (WrappedGoal wrapped : new ArrayList<>(selector.getAvailableGoals())) {
+            selector.removeGoal(wrapped.getGoal());
+        }
+    }
+
+    private boolean isHostile() {
+        return this.getType().getCategory() == MobCategory.MONSTER;
+    }
+
+    @Override
+    protected boolean shouldDespawnInPeaceful() {
+        // Мирные существа из определений не исчезают на мирной сложности
+        return isHostile();
+    }
+
+    @Override
+    public boolean isPreventingPlayerRest(@NotNull Player player) {
+        return isHostile() && super.isPreventingPlayerRest(player);
+    }
+
+    @Override
+    public @NotNull SoundSource getSoundSource() {
+        return isHostile() ? super.getSoundSource() : SoundSource.NEUTRAL;
+    }
+
+    @Override
+    protected void updateNoActionTime() {
+        // Счетчик бездействия монстра растет быстрее на свету, из-за чего монстры исчезают днем
+        if (isHostile()) {
+            super.updateNoActionTime();
+        }
+    }
+
+    @Override
+    public float getWalkTargetValue(@NotNull BlockPos pos, @NotNull LevelReader level) {
+        // Монстры предпочитают темные места, остальные существа - любые
+        return isHostile() ? super.getWalkTargetValue(pos, level) : 0.0F;
+    }
+}
@@ -0,0 +1,20 @@
+package com.minecraft.mod.by.radchuk.utils.entities.data;
+
+/**
+ * Описание цели поведения в определении моба.
+ *
+ * @param type Тип цели (см. {@link MobGoals})
+ * @param priority Приоритет цели (меньшее число = более высокий приоритет)
+ * @param value Параметр цели: скорость или дальность; {@link Float#NaN} - значение по умолчанию
+ */
+public record GoalSpec(String type, int priority, float value) {
+    /**
+     * Возвращает параметр цели или значение по умолчанию, если параметр не задан.
+     *
+     * @param defaultValue Значение по умолчанию
+     * @return Параметр цели
+     */
+    public float valueOr(float defaultValue) {
+        return Float.isNaN(value) ? defaultValue : value;
+    }
+}
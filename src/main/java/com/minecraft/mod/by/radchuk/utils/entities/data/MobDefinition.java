@@ -0,0 +1,165 @@
+package com.minecraft.mod.by.radchuk.utils.entities.data;
+
+import com.minecraft.mod.by.radchuk.utils.entities.AttributesBuilder;
+import com.minecraft.mod.by.radchuk.utils.entities.MobFactory;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.entity.MobCategory;
+import net.minecraft.world.entity.ai.attributes.Attribute;
+import net.minecraftforge.registries.ForgeRegistries;
+
+import java.util.Map;
+
+/**
+ * Определение моба, прочитанное из индекса {@link MobDefinitionIndex}.
+ * <p>
+ * Структурные параметры (модель, категория, размер, текстура, отслеживание)
+ * используются при регистрации типа сущности и меняются только с перезапуском.
+ * Атрибуты и цели задают начальный набор {@link MobTuning}, который можно
+ * переопределить пакетом данных.
+ */
+public final class MobDefinition {
+    /**
+     * Значение целого параметра, оставляющее значение Minecraft.
+     */
+    public static final int UNSET = -1;
+
+    private final String id;
+    private final MobFactory.MobType mobType;
+    private final MobCategory category;
+    private final float width;
+    private final float height;
+    private final String texture;
+    private final String attributeBase;
+    private final int trackingRange;
+    private final int updateInterval;
+    private final MobTuning tuning;
+
+    MobDefinition(String id, MobFactory.MobType mobType, MobCategory category, float width, float height,
+                  String texture, String attributeBase, int trackingRange, int updateInterval, MobTuning tuning) {
+        this.id = id;
+        this.mobType = mobType;
+        this.category = category;
+        this.width = width;
+        this.height = height;
+        this.texture = texture;
+        this.attributeBase = attributeBase;
+        this.trackingRange = trackingRange;
+        this.updateInterval = updateInterval;
+        this.tuning = tuning;
+    }
+
+    /**
+     * ID моба в пределах мода.
+     *
+     * @return ID моба
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Тип модели моба.
+     *
+     * @return Тип моба фабрики
+     */
+    public MobFactory.MobType getMobType() {
+        return mobType;
+    }
+
+    /**
+     * Категория моба.
+     *
+     * @return Категория
+     */
+    public MobCategory getCategory() {
+        return category;
+    }
+
+    /**
+     * Ширина моба.
+     *
+     * @return Ширина в блоках
+     */
+    public float getWidth() {
+        return width;
+    }
+
+    /**
+     * Высота моба.
+     *
+     * @return Высота в блоках
+     */
+    public float getHeight() {
+        return height;
+    }
+
+    /**
+     * Путь к текстуре относительно assets/modid/.
+     *
+     * @return Путь к текстуре
+     */
+    public String getTexture() {
+        return texture;
+    }
+
+    /**
+     * Дальность отслеживания клиентами.
+     *
+     * @return Дальность в чанках или {@link #UNSET}
+     */
+    public int getTrackingRange() {
+        return trackingRange;
+    }
+
+    /**
+     * Интервал рассылки изменений клиентам.
+     *
+     * @return Интервал в тиках или {@link #UNSET}
+     */
+    public int getUpdateInterval() {
+        return updateInterval;
+    }
+
+    /**
+     * Начальные атрибуты и цели из индекса.
+     *
+     * @return Параметры без переопределений пакетов данных
+     */
+    public MobTuning getTuning() {
+        return tuning;
+    }
+
+    /**
+     * Проверяет, есть ли в наборе атрибутов типа урон атаки, без которого
+     * не работает цель {@link MobDefinitionFormat#MELEE_ATTACK}.
+     *
+     * @return true, если урон атаки есть в базовом наборе или задан в индексе
+     */
+    public boolean hasAttackDamage() {
+        return MobDefinitionFormat.ATTACK_DAMAGE_BASES.contains(attributeBase)
+            || tuning.getAttributes().containsKey(new ResourceLocation(MobDefinitionFormat.ATTACK_DAMAGE));
+    }
+
+    /**
+     * Создает билдер атрибутов из базового набора и значений индекса.
+     * Вызывается при регистрации атрибутов, когда атрибуты всех модов уже зарегистрированы.
+     *
+     * @return Билдер атрибутов
+     * @throws IllegalStateException если атрибут из определения не зарегистрирован
+     */
+    public AttributesBuilder createAttributes() {
+        AttributesBuilder attributes = switch (attributeBase) {
+            case "mob" -> AttributesBuilder.mob();
+            case "animal" -> AttributesBuilder.animal();
+            default -> AttributesBuilder.monster();
+        };
+        for (Map.Entry<ResourceLocation, Double> value : tuning.getAttributes().entrySet()) {
+            Attribute attribute = ForgeRegistries.ATTRIBUTES.getValue(value.getKey());
+            if (attribute == null) {
+                throw new IllegalStateException("Неизвестный атрибут " + value.getKey() + " в определении моба " + id);
+            }
+            attributes.set(attribute, value.getValue());
+        }
+        return attributes;
+    }
+}
@@ -0,0 +1,89 @@
+package com.minecraft.mod.by.radchuk.utils.entities.data;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Допустимые значения JSON-определений мобов и константы формата индекса.
+ * <p>
+ * Класс не зависит от Minecraft: его компилирует и {@code buildSrc}, где
+ * задача {@code compileMobDefinitions} проверяет определения по этим же
+ * значениям, поэтому при сборке и при запуске действуют одни списки.
+ */
+public final class MobDefinitionFormat {
+    /**
+     * Магическое число в начале индекса ("RMOB").
+     */
+    public static final int MAGIC = 0x524D4F42;
+
+    /**
+     * Версия формата индекса.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * Параметры JSON-определения.
+     */
+    public static final Set<String> KEYS = Set.of(
+        "model", "category", "size", "texture", "attribute_base", "attributes",
+        "goals", "targets", "tracking_range", "update_interval");
+
+    /**
+     * Модели: имена {@code MobFactory.MobType} в нижнем регистре.
+     */
+    public static final Set<String> MODELS = Set.of("humanoid", "animal");
+
+    /**
+     * Категории: имена {@code MobCategory}.
+     */
+    public static final List<String> CATEGORIES = List.of(
+        "MONSTER", "CREATURE", "AMBIENT", "AXOLOTLS", "UNDERGROUND_WATER_CREATURE",
+        "WATER_CREATURE", "WATER_AMBIENT", "MISC");
+
+    /**
+     * Базовые наборы атрибутов. В каждом есть дальность преследования,
+     * которую читает навигация моба.
+     */
+    public static final Set<String> ATTRIBUTE_BASES = Set.of("mob", "monster", "animal");
+
+    /**
+     * Базовые наборы, в которых есть урон атаки.
+     */
+    public static final Set<String> ATTACK_DAMAGE_BASES = Set.of("monster");
+
+    /**
+     * ID атрибута урона атаки.
+     */
+    public static final String ATTACK_DAMAGE = "minecraft:generic.attack_damage";
+
+    /**
+     * Цель ближней атаки, которой нужен урон атаки.
+     */
+    public static final String MELEE_ATTACK = "melee_attack";
+
+    /**
+     * Типы целей поведения.
+     */
+    public static final Set<String> GOAL_TYPES = Set.of(
+        "float", MELEE_ATTACK, "random_stroll", "panic", "look_at_player", "random_look_around");
+
+    /**
+     * Типы целей выбора противника.
+     */
+    public static final Set<String> TARGET_TYPES = Set.of("hurt_by", "nearest_player");
+
+    /**
+     * Приватный конструктор для предотвращения создания экземпляров класса.
+     */
+    private MobDefinitionFormat() {}
+
+    /**
+     * Приводит ID атрибута к полному виду с пространством имен.
+     *
+     * @param name ID атрибута, возможно без пространства имен
+     * @return Полный ID атрибута
+     */
+    public static String attributeId(String name) {
+        return name.contains(":") ? name : "minecraft:" + name;
+    }
+}
@@ -0,0 +1,130 @@
+package com.minecraft.mod.by.radchuk.utils.entities.data;
+
+import com.minecraft.mod.by.radchuk.utils.entities.MobFactory;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.entity.MobCategory;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Чтение индекса определений мобов.
+ * <p>
+ * Индекс собирается при сборке задачей Gradle {@code compileMobDefinitions}
+ * из JSON-файлов {@code src/main/mobs/<id>.json} и лежит в ресурсах мода
+ * по пути {@code data/<modid>/mob_index.bin}, поэтому при запуске ничего
+ * не разбирается. Допустимые значения перечислены в {@link MobDefinitionFormat}. Формат (все числа - big-endian, строки - {@link DataInputStream#readUTF()}):
+ * <pre>
+ * int    магия {@link MobDefinitionFormat#MAGIC}
+ * int    версия формата {@link MobDefinitionFormat#VERSION}
+ * int    количество мобов, далее для каждого:
+ *   UTF    id
+ *   UTF    модель: humanoid | animal
+ *   UTF    категория: имя MobCategory
+ *   float  ширина, float высота
+ *   UTF    путь к текстуре относительно assets/modid/
+ *   UTF    базовый набор атрибутов: mob | monster | animal
+ *   int    дальность отслеживания в чанках, int интервал обновлений (-1 - по умолчанию)
+ *   int    количество атрибутов, далее UTF id атрибута и double значение
+ *   int    количество целей, далее UTF тип, int приоритет, float параметр (NaN - по умолчанию)
+ *   int    количество целей выбора противника в том же формате
+ * </pre>
+ */
+public final class MobDefinitionIndex {
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    /**
+     * Приватный конструктор для предотвращения создания экземпляров класса.
+     */
+    private MobDefinitionIndex() {}
+
+    /**
+     * Путь к индексу мода в ресурсах.
+     *
+     * @param modId ID мода
+     * @return Путь от корня ресурсов
+     */
+    public static String path(String modId) {
+        return "/data/" + modId + "/mob_index.bin";
+    }
+
+    /**
+     * Загружает определения мобов мода.
+     *
+     * @param modId ID мода
+     * @return Определения или пустой список, если у мода нет индекса
+     * @throws UncheckedIOException если индекс поврежден
+     */
+    public static List<MobDefinition> load(String modId) {
+        try (InputStream stream = MobDefinitionIndex.class.getResourceAsStream(path(modId))) {
+            if (stream == null) {
+                LOGGER.debug("Индекс определений мобов не найден для мода: {}", modId);
+                return List.of();
+            }
+            return read(new DataInputStream(new BufferedInputStream(stream)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не удалось прочитать индекс определений мобов мода " + modId, e);
+        }
+    }
+
+    /**
+     * Читает определения мобов из потока индекса.
+     *
+     * @param in Поток индекса
+     * @return Определения мобов
+     * @throws IOException если формат индекса не поддерживается
+     */
+    public static List<MobDefinition> read(DataInputStream in) throws IOException {
+        if (in.readInt() != MobDefinitionFormat.MAGIC) {
+            throw new IOException("Неверный формат индекса определений мобов");
+        }
+        int version = in.readInt();
+        if (version != MobDefinitionFormat.VERSION) {
+            throw new IOException("Неподдерживаемая версия индекса определений мобов: " + version);
+        }
+        int count = in.readInt();
+        List<MobDefinition> definitions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String id = in.readUTF();
+            MobFactory.MobType mobType = MobFactory.MobType.valueOf(in.readUTF().toUpperCase(Locale.ROOT));
+            MobCategory category = MobCategory.valueOf(in.readUTF());
+            float width = in.readFloat();
+            float height = in.readFloat();
+            String texture = in.readUTF();
+            String attributeBase = in.readUTF();
+            int trackingRange = in.readInt();
+            int updateInterval = in.readInt();
+
+            int attributeCount = in.readInt();
+            Map<ResourceLocation, Double> attributes = new LinkedHashMap<>(attributeCount);
+            for (int j = 0; j < attributeCount; j++) {
+                attributes.put(new ResourceLocation(in.readUTF()), in.readDouble());
+            }
+            List<GoalSpec> goals = readGoals(in);
+            List<GoalSpec> targets = readGoals(in);
+
+            definitions.add(new MobDefinition(id, mobType, category, width, height, texture, attributeBase,
+                trackingRange, updateInterval, new MobTuning(attributes, goals, targets)));
+        }
+        return definitions;
+    }
+
+    private static List<GoalSpec> readGoals(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        List<GoalSpec> goals = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            goals.add(new GoalSpec(in.readUTF(), in.readInt(), in.readFloat()));
+        }
+        return goals;
+    }
+}
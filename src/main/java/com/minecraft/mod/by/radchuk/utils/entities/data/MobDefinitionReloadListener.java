@@ -0,0 +1,119 @@
+package com.minecraft.mod.by.radchuk.utils.entities.data;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonSyntaxException;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.server.packs.resources.SimpleJsonResourceReloadListener;
+import net.minecraft.util.GsonHelper;
+import net.minecraft.util.profiling.ProfilerFiller;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Загрузка переопределений параметров мобов из пакетов данных.
+ * <p>
+ * Файл {@code data/<modid>/mob_definitions/<id>.json} может содержать:
+ * <ul>
+ *   <li>{@code attributes} - значения атрибутов, заменяющие значения из индекса;</li>
+ *   <li>{@code goals}, {@code targets} - списки целей, заменяющие списки из индекса.</li>
+ * </ul>
+ * Атрибут применяется, только если он есть в наборе атрибутов типа моба, поэтому
+ * цель {@code melee_attack} принимается, только если в наборе есть урон атаки.
+ * Структурные параметры (размер, модель, текстура, отслеживание) меняются
+ * только с перезапуском и в переопределениях игнорируются.
+ */
+public class MobDefinitionReloadListener extends SimpleJsonResourceReloadListener {
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final Gson GSON = new Gson();
+
+    /**
+     * Параметры, которые задаются только в индексе.
+     */
+    private static final Set<String> STRUCTURAL = Set.of(
+        "model", "category", "size", "texture", "attribute_base", "tracking_range", "update_interval");
+
+    /**
+     * Создает обработчик перезагрузки для папки {@code mob_definitions}.
+     */
+    public MobDefinitionReloadListener() {
+        super(GSON, "mob_definitions");
+    }
+
+    @Override
+    protected void apply(@NotNull Map<ResourceLocation, JsonElement> files, @NotNull ResourceManager resourceManager,
+                         @NotNull ProfilerFiller profiler) {
+        Map<ResourceLocation, MobTuning> overrides = new HashMap<>();
+        for (Map.Entry<ResourceLocation, JsonElement> file : files.entrySet()) {
+            ResourceLocation id = file.getKey();
+            MobDefinition definition = MobDefinitions.get(id);
+            if (definition == null) {
+                LOGGER.warn("Переопределение для неизвестного моба: {}", id);
+                continue;
+            }
+            try {
+                JsonObject json = GsonHelper.convertToJsonObject(file.getValue(), "mob definition");
+                overrides.put(id, parse(id, definition, json));
+            } catch (RuntimeException e) {
+                LOGGER.error("Ошибка в переопределении моба {}: {}", id, e.getMessage());
+            }
+        }
+        MobDefinitions.applyOverrides(overrides);
+    }
+
+    private static MobTuning parse(ResourceLocation id, MobDefinition definition, JsonObject json) {
+        MobTuning base = definition.getTuning();
+        for (String key : json.keySet()) {
+            if (STRUCTURAL.contains(key)) {
+                LOGGER.warn("Параметр {} моба {} меняется только с перезапуском и будет пропущен", key, id);
+            }
+        }
+
+        Map<ResourceLocation, Double> attributes = new LinkedHashMap<>(base.getAttributes());
+        if (json.has("attributes")) {
+            JsonObject values = GsonHelper.getAsJsonObject(json, "attributes");
+            for (String attribute : values.keySet()) {
+                attributes.put(new ResourceLocation(attribute), GsonHelper.getAsDouble(values, attribute));
+            }
+        }
+        List<GoalSpec> goals = json.has("goals")
+            ? parseGoals(json, "goals", MobDefinitionFormat.GOAL_TYPES)
+            : base.getGoals();
+        List<GoalSpec> targets = json.has("targets")
+            ? parseGoals(json, "targets", MobDefinitionFormat.TARGET_TYPES)
+            : base.getTargets();
+        // Атрибуты переопределения не добавляют урон атаки в набор типа, он задается только индексом
+        if (!definition.hasAttackDamage()
+            && goals.stream().anyMatch(goal -> goal.type().equals(MobDefinitionFormat.MELEE_ATTACK))) {
+            throw new JsonSyntaxException("Цели " + MobDefinitionFormat.MELEE_ATTACK + " нужен атрибут "
+                + MobDefinitionFormat.ATTACK_DAMAGE + ", которого нет в наборе атрибутов моба");
+        }
+        return new MobTuning(attributes, goals, targets);
+    }
+
+    private static List<GoalSpec> parseGoals(JsonObject json, String key, Set<String> types) {
+        List<GoalSpec> goals = new ArrayList<>();
+        for (JsonElement element : GsonHelper.getAsJsonArray(json, key)) {
+            JsonObject goal = GsonHelper.convertToJsonObject(element, key);
+            String type = GsonHelper.getAsString(goal, "type");
+            if (!types.contains(type)) {
+                throw new JsonSyntaxException("Неизвестный тип цели " + type + " в " + key);
+            }
+            float value = goal.has("speed") ? GsonHelper.getAsFloat(goal, "speed")
+                : goal.has("range") ? GsonHelper.getAsFloat(goal, "range")
+                : Float.NaN;
+            goals.add(new GoalSpec(type, GsonHelper.getAsInt(goal, "priority"), value));
+        }
+        return goals;
+    }
+}
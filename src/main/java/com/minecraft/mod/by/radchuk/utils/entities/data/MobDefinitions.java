@@ -0,0 +1,109 @@
+package com.minecraft.mod.by.radchuk.utils.entities.data;
+
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.AddReloadListenerEvent;
+import net.minecraftforge.server.ServerLifecycleHooks;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Определения мобов, зарегистрированных из индекса, и их текущие параметры.
+ * <p>
+ * Начальные атрибуты и цели берутся из индекса. Пакет данных может
+ * переопределить их файлом {@code data/<modid>/mob_definitions/<id>.json}
+ * (см. {@link MobDefinitionReloadListener}); после {@code /reload} новые
+ * параметры применяются к загруженным мобам и ко всем новым.
+ */
+public final class MobDefinitions {
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    private static final Map<ResourceLocation, MobDefinition> DEFINITIONS = new ConcurrentHashMap<>();
+    private static final Map<ResourceLocation, MobTuning> TUNING = new ConcurrentHashMap<>();
+    private static final AtomicBoolean REGISTERED = new AtomicBoolean();
+
+    /**
+     * Приватный конструктор для предотвращения создания экземпляров класса.
+     */
+    private MobDefinitions() {}
+
+    /**
+     * Подписывает определения на перезагрузку пакетов данных.
+     * Повторные вызовы игнорируются.
+     */
+    public static void register() {
+        if (REGISTERED.compareAndSet(false, true)) {
+            MinecraftForge.EVENT_BUS.addListener(MobDefinitions::onAddReloadListeners);
+        }
+    }
+
+    /**
+     * Добавляет определение моба.
+     *
+     * @param id ID типа сущности
+     * @param definition Определение
+     */
+    public static void add(ResourceLocation id, MobDefinition definition) {
+        DEFINITIONS.put(id, definition);
+        TUNING.put(id, definition.getTuning());
+    }
+
+    /**
+     * Возвращает определение моба.
+     *
+     * @param id ID типа сущности
+     * @return Определение или null, если моб зарегистрирован не из индекса
+     */
+    public static @Nullable MobDefinition get(ResourceLocation id) {
+        return DEFINITIONS.get(id);
+    }
+
+    /**
+     * Возвращает текущие атрибуты и цели типа моба.
+     *
+     * @param type Тип сущности
+     * @return Параметры или null, если моб зарегистрирован не из индекса
+     */
+    public static @Nullable MobTuning tuning(EntityType<?> type) {
+        return TUNING.get(EntityType.getKey(type));
+    }
+
+    /**
+     * Заменяет параметры мобов и применяет их к загруженным мобам.
+     * Мобы без переопределения возвращаются к параметрам из индекса.
+     *
+     * @param overrides Переопределенные параметры по ID типа сущности
+     */
+    static void applyOverrides(Map<ResourceLocation, MobTuning> overrides) {
+        for (Map.Entry<ResourceLocation, MobDefinition> entry : DEFINITIONS.entrySet()) {
+            TUNING.put(entry.getKey(), overrides.getOrDefault(entry.getKey(), entry.getValue().getTuning()));
+        }
+        LOGGER.debug("Применены параметры мобов из пакетов данных: {}", overrides.size());
+
+        // При первой загрузке данных миров еще нет, мобы получат параметры при создании
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        if (server == null) {
+            return;
+        }
+        for (ServerLevel level : server.getAllLevels()) {
+            for (Entity entity : level.getAllEntities()) {
+                if (entity instanceof DataDrivenMob mob) {
+                    mob.applyTuning();
+                }
+            }
+        }
+    }
+
+    private static void onAddReloadListeners(AddReloadListenerEvent event) {
+        event.addListener(new MobDefinitionReloadListener());
+    }
+}
@@ -0,0 +1,65 @@
+package com.minecraft.mod.by.radchuk.utils.entities.data;
+
+import com.minecraft.mod.by.radchuk.utils.entities.ai.IndexedLookAtPlayerGoal;
+import com.minecraft.mod.by.radchuk.utils.entities.ai.IndexedNearestPlayerTargetGoal;
+import net.minecraft.world.entity.PathfinderMob;
+import net.minecraft.world.entity.ai.goal.FloatGoal;
+import net.minecraft.world.entity.ai.goal.Goal;
+import net.minecraft.world.entity.ai.goal.MeleeAttackGoal;
+import net.minecraft.world.entity.ai.goal.PanicGoal;
+import net.minecraft.world.entity.ai.goal.RandomLookAroundGoal;
+import net.minecraft.world.entity.ai.goal.WaterAvoidingRandomStrollGoal;
+import net.minecraft.world.entity.ai.goal.target.HurtByTargetGoal;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Создание целей поведения по их описанию в определении моба.
+ * <p>
+ * Цели поведения: {@code float}, {@code melee_attack} (скорость, 1.0),
+ * {@code random_stroll} (скорость, 1.0), {@code panic} (скорость, 1.25),
+ * {@code look_at_player} (дальность, 8.0), {@code random_look_around}.
+ * <p>
+ * Цели выбора противника: {@code hurt_by}, {@code nearest_player}.
+ * <p>
+ * Список типов - {@link MobDefinitionFormat#GOAL_TYPES} и {@link MobDefinitionFormat#TARGET_TYPES}.
+ */
+public final class MobGoals {
+    /**
+     * Приватный конструктор для предотвращения создания экземпляров класса.
+     */
+    private MobGoals() {}
+
+    /**
+     * Создает цель поведения.
+     *
+     * @param mob Моб
+     * @param spec Описание цели
+     * @return Цель или null, если тип неизвестен
+     */
+    public static @Nullable Goal createGoal(PathfinderMob mob, GoalSpec spec) {
+        return switch (spec.type()) {
+            case "float" -> new FloatGoal(mob);
+            case "melee_attack" -> new MeleeAttackGoal(mob, spec.valueOr(1.0F), true);
+            case "random_stroll" -> new WaterAvoidingRandomStrollGoal(mob, spec.valueOr(1.0F));
+            case "panic" -> new PanicGoal(mob, spec.valueOr(1.25F));
+            case "look_at_player" -> new IndexedLookAtPlayerGoal(mob, spec.valueOr(8.0F));
+            case "random_look_around" -> new RandomLookAroundGoal(mob);
+            default -> null;
+        };
+    }
+
+    /**
+     * Создает цель выбора противника.
+     *
+     * @param mob Моб
+     * @param spec Описание цели
+     * @return Цель или null, если тип неизвестен
+     */
+    public static @Nullable Goal createTarget(PathfinderMob mob, GoalSpec spec) {
+        return switch (spec.type()) {
+            case "hurt_by" -> new HurtByTargetGoal(mob);
+            case "nearest_player" -> new IndexedNearestPlayerTargetGoal(mob, true);
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,58 @@
+package com.minecraft.mod.by.radchuk.utils.entities.data;
+
+import net.minecraft.resources.ResourceLocation;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Параметры моба, которые можно менять без перезапуска: значения атрибутов
+ * и цели поведения. Заменяются целиком при перезагрузке данных.
+ */
+public final class MobTuning {
+    private final Map<ResourceLocation, Double> attributes;
+    private final List<GoalSpec> goals;
+    private final List<GoalSpec> targets;
+
+    /**
+     * Создает набор параметров.
+     *
+     * @param attributes Значения атрибутов по их ID
+     * @param goals Цели поведения
+     * @param targets Цели выбора противника
+     */
+    public MobTuning(Map<ResourceLocation, Double> attributes, List<GoalSpec> goals, List<GoalSpec> targets) {
+        this.attributes = Collections.unmodifiableMap(new LinkedHashMap<>(attributes));
+        this.goals = List.copyOf(goals);
+        this.targets = List.copyOf(targets);
+    }
+
+    /**
+     * Значения атрибутов по их ID.
+     *
+     * @return Неизменяемая таблица атрибутов
+     */
+    public Map<ResourceLocation, Double> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Цели поведения.
+     *
+     * @return Неизменяемый список целей
+     */
+    public List<GoalSpec> getGoals() {
+        return goals;
+    }
+
+    /**
+     * Цели выбора противника.
+     *
+     * @return Неизменяемый список целей
+     */
+    public List<GoalSpec> getTargets() {
+        return targets;
+    }
+}
@@ -0,0 +1,130 @@
+package com.minecraft.mod.by.radchuk.utils.entities.hibernation;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.saveddata.SavedData;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Хранилище спящих мобов одного мира.
+ * <p>
+ * Мобы хранятся в виде сохраненных NBT-записей, сгруппированных по чанкам,
+ * и сохраняются вместе с миром. Для каждого чанка также запоминается радиус
+ * пробуждения в чанках.
+ */
+public class HibernationStore extends SavedData {
+    private static final String DATA_NAME = "radchuk_mob_hibernation";
+
+    private final Long2ObjectMap<ChunkRecord> chunks = new Long2ObjectOpenHashMap<>();
+    private int size;
+
+    /**
+     * Возвращает хранилище мира, создавая его при необходимости.
+     *
+     * @param level Серверный мир
+     * @return Хранилище спящих мобов
+     */
+    public static HibernationStore get(ServerLevel level) {
+        return level.getDataStorage().computeIfAbsent(HibernationStore::load, HibernationStore::new, DATA_NAME);
+    }
+
+    /**
+     * Добавляет запись моба в чанк.
+     *
+     * @param chunkPos Упакованная позиция чанка
+     * @param wakeRadius Радиус пробуждения в чанках
+     * @param entityTag Сохраненные данные моба
+     */
+    public void add(long chunkPos, int wakeRadius, CompoundTag entityTag) {
+        ChunkRecord record = chunks.computeIfAbsent(chunkPos, pos -> new ChunkRecord());
+        record.wakeRadius = Math.max(record.wakeRadius, wakeRadius);
+        record.entities.add(entityTag);
+        size++;
+        setDirty();
+    }
+
+    /**
+     * Извлекает записи чанка, если игрок находится в пределах радиуса пробуждения.
+     *
+     * @param chunkPos Упакованная позиция чанка
+     * @param chunkDistance Расстояние от игрока до чанка в чанках
+     * @return Записи мобов или null, если будить некого
+     */
+    public @Nullable List<CompoundTag> takeIfInRange(long chunkPos, int chunkDistance) {
+        ChunkRecord record = chunks.get(chunkPos);
+        if (record == null || chunkDistance > record.wakeRadius) {
+            return null;
+        }
+        chunks.remove(chunkPos);
+        size -= record.entities.size();
+        setDirty();
+        return record.entities;
+    }
+
+    /**
+     * Проверяет, есть ли спящие мобы в мире.
+     *
+     * @return true, если хранилище пусто
+     */
+    public boolean isEmpty() {
+        return chunks.isEmpty();
+    }
+
+    /**
+     * Количество спящих мобов.
+     *
+     * @return Количество записей
+     */
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public @NotNull CompoundTag save(@NotNull CompoundTag tag) {
+        ListTag list = new ListTag();
+        for (Long2ObjectMap.Entry<ChunkRecord> entry : chunks.long2ObjectEntrySet()) {
+            CompoundTag chunkTag = new CompoundTag();
+            chunkTag.putLong("Pos", entry.getLongKey());
+            chunkTag.putInt("WakeRadius", entry.getValue().wakeRadius);
+            ListTag entities = new ListTag();
+            entities.addAll(entry.getValue().entities);
+            chunkTag.put("Entities", entities);
+            list.add(chunkTag);
+        }
+        tag.put("Chunks", list);
+        return tag;
+    }
+
+    private static HibernationStore load(CompoundTag tag) {
+        HibernationStore store = new HibernationStore();
+        ListTag list = tag.getList("Chunks", Tag.TAG_COMPOUND);
+        for (int i = 0; i < list.size(); i++) {
+            CompoundTag chunkTag = list.getCompound(i);
+            ChunkRecord record = new ChunkRecord();
+            record.wakeRadius = chunkTag.getInt("WakeRadius");
+            ListTag entities = chunkTag.getList("Entities", Tag.TAG_COMPOUND);
+            for (int j = 0; j < entities.size(); j++) {
+                record.entities.add(entities.getCompound(j));
+            }
+            store.chunks.put(chunkTag.getLong("Pos"), record);
+            store.size += record.entities.size();
+        }
+        return store;
+    }
+
+    /**
+     * Спящие мобы одного чанка.
+     */
+    private static class ChunkRecord {
+        private final List<CompoundTag> entities = new ArrayList<>();
+        private int wakeRadius;
+    }
+}
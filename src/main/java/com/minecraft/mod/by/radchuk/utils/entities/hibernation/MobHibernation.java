@@ -0,0 +1,236 @@
+package com.minecraft.mod.by.radchuk.utils.entities.hibernation;
+
+import com.minecraft.mod.by.radchuk.utils.entities.ai.MobAiSettings;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.LevelAccessor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Подсистема "спячки" постоянных мобов.
+ * <p>
+ * Постоянный моб (с флагом persistenceRequired), рядом с которым в течение
+ * заданного времени нет ни одного игрока, сохраняется в компактную запись
+ * {@link HibernationStore} своего чанка и удаляется из мира. Когда игрок
+ * снова подходит к чанку на радиус пробуждения, моб восстанавливается
+ * из записи с тем же UUID. Так число сущностей в долгоживущих мирах
+ * остается ограниченным.
+ * <p>
+ * Все методы вызываются на серверном потоке.
+ */
+public final class MobHibernation {
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    /**
+     * Как часто проверяются кандидаты на спячку (в тиках).
+     */
+    private static final int HIBERNATE_CHECK_INTERVAL = 100;
+
+    /**
+     * Как часто проверяется пробуждение (в тиках).
+     */
+    private static final int WAKE_CHECK_INTERVAL = 20;
+
+    private static final Map<ServerLevel, Map<Mob, Candidate>> CANDIDATES = new IdentityHashMap<>();
+    private static int maxWakeRadius;
+
+    /**
+     * Приватный конструктор для предотвращения создания экземпляров класса.
+     */
+    private MobHibernation() {}
+
+    /**
+     * Учитывает радиус пробуждения типа при поиске спящих мобов вокруг игроков.
+     *
+     * @param settings Настройки ИИ типа
+     */
+    public static void registerType(MobAiSettings settings) {
+        maxWakeRadius = Math.max(maxWakeRadius, settings.getHibernationChunkRadius());
+    }
+
+    /**
+     * Начинает отслеживать моба, вошедшего в мир.
+     *
+     * @param level Мир
+     * @param mob Моб
+     * @param settings Настройки ИИ типа моба
+     */
+    public static void track(ServerLevel level, Mob mob, MobAiSettings settings) {
+        if (mob.isPersistenceRequired()) {
+            CANDIDATES.computeIfAbsent(level, l -> new IdentityHashMap<>())
+                .put(mob, new Candidate(settings, level.getGameTime()));
+        }
+    }
+
+    /**
+     * Прекращает отслеживать моба, покинувшего мир.
+     *
+     * @param level Мир
+     * @param entity Сущность
+     */
+    public static void untrack(LevelAccessor level, Entity entity) {
+        Map<Mob, Candidate> candidates = CANDIDATES.get(level);
+        if (candidates != null && entity instanceof Mob mob) {
+            candidates.remove(mob);
+        }
+    }
+
+    /**
+     * Забывает все отслеживаемые мобы выгружаемого мира.
+     *
+     * @param level Выгружаемый мир
+     */
+    public static void remove(LevelAccessor level) {
+        CANDIDATES.remove(level);
+    }
+
+    /**
+     * Обрабатывает тик мира: усыпляет простаивающих мобов и будит тех,
+     * к кому подошел игрок.
+     *
+     * @param level Серверный мир
+     */
+    public static void tick(ServerLevel level) {
+        long gameTime = level.getGameTime();
+        if (gameTime % HIBERNATE_CHECK_INTERVAL == 0) {
+            hibernateIdle(level, gameTime);
+        }
+        if (gameTime % WAKE_CHECK_INTERVAL == 0 && maxWakeRadius > 0) {
+            wakeNearPlayers(level);
+        }
+    }
+
+    private static void hibernateIdle(ServerLevel level, long gameTime) {
+        Map<Mob, Candidate> candidates = CANDIDATES.get(level);
+        if (candidates == null || candidates.isEmpty()) {
+            return;
+        }
+        List<ChunkPos> playerChunks = playerChunks(level);
+        List<Mob> sleepers = new ArrayList<>();
+        for (Map.Entry<Mob, Candidate> entry : candidates.entrySet()) {
+            Mob mob = entry.getKey();
+            Candidate candidate = entry.getValue();
+            // Та же мера, что и при пробуждении, иначе моб засыпал бы и тут же просыпался
+            if (!canHibernate(mob) || isNearPlayer(playerChunks, mob.chunkPosition(), candidate.settings.getHibernationChunkRadius())) {
+                candidate.idleSince = gameTime;
+            } else if (gameTime - candidate.idleSince >= candidate.settings.getHibernationIdleTicks()) {
+                sleepers.add(mob);
+            }
+        }
+
+        if (sleepers.isEmpty()) {
+            return;
+        }
+        HibernationStore store = HibernationStore.get(level);
+        for (Mob mob : sleepers) {
+            CompoundTag tag = new CompoundTag();
+            if (!mob.save(tag)) {
+                continue;
+            }
+            Candidate candidate = candidates.remove(mob);
+            store.add(ChunkPos.asLong(mob.blockPosition()), candidate.settings.getHibernationChunkRadius(), tag);
+            mob.discard();
+        }
+        LOGGER.debug("Мобов отправлено в спячку: {}, всего спящих в {}: {}",
+            sleepers.size(), level.dimension().location(), store.size());
+    }
+
+    /**
+     * Чанки игроков, которые будят мобов (все, кроме наблюдателей).
+     */
+    private static List<ChunkPos> playerChunks(ServerLevel level) {
+        List<ChunkPos> chunks = new ArrayList<>();
+        for (ServerPlayer player : level.players()) {
+            if (!player.isSpectator()) {
+                chunks.add(player.chunkPosition());
+            }
+        }
+        return chunks;
+    }
+
+    private static boolean isNearPlayer(List<ChunkPos> playerChunks, ChunkPos chunk, int chunkRadius) {
+        for (ChunkPos playerChunk : playerChunks) {
+            if (chunkDistance(playerChunk, chunk.x, chunk.z) <= chunkRadius) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Расстояние в чанках по горизонтали (наибольшая из разностей координат).
+     * Используется и для спячки, и для пробуждения.
+     */
+    private static int chunkDistance(ChunkPos center, int chunkX, int chunkZ) {
+        return Math.max(Math.abs(chunkX - center.x), Math.abs(chunkZ - center.z));
+    }
+
+    /**
+     * Усыплять можно только мобов, не связанных с другими сущностями.
+     */
+    private static boolean canHibernate(Mob mob) {
+        return mob.isAlive() && !mob.isPassenger() && !mob.isVehicle() && !mob.isLeashed() && mob.getTarget() == null;
+    }
+
+    private static void wakeNearPlayers(ServerLevel level) {
+        HibernationStore store = HibernationStore.get(level);
+        if (store.isEmpty()) {
+            return;
+        }
+        for (ChunkPos center : playerChunks(level)) {
+            for (int dx = -maxWakeRadius; dx <= maxWakeRadius; dx++) {
+                for (int dz = -maxWakeRadius; dz <= maxWakeRadius; dz++) {
+                    int chunkX = center.x + dx;
+                    int chunkZ = center.z + dz;
+                    // Восстанавливать сущности можно только в загруженный чанк
+                    if (!level.hasChunk(chunkX, chunkZ)) {
+                        continue;
+                    }
+                    int distance = chunkDistance(center, chunkX, chunkZ);
+                    List<CompoundTag> records = store.takeIfInRange(ChunkPos.asLong(chunkX, chunkZ), distance);
+                    if (records != null) {
+                        restore(level, records);
+                    }
+                }
+            }
+            if (store.isEmpty()) {
+                return;
+            }
+        }
+    }
+
+    private static void restore(ServerLevel level, List<CompoundTag> records) {
+        for (CompoundTag tag : records) {
+            Entity entity = EntityType.loadEntityRecursive(tag, level, loaded -> loaded);
+            if (entity == null) {
+                LOGGER.warn("Не удалось восстановить спящего моба: {}", tag.getString("id"));
+            } else if (!level.addWithUUID(entity)) {
+                LOGGER.warn("Спящий моб {} уже присутствует в мире, запись отброшена", entity.getUUID());
+            }
+        }
+    }
+
+    /**
+     * Состояние отслеживаемого моба.
+     */
+    private static class Candidate {
+        private final MobAiSettings settings;
+        private long idleSince;
+
+        Candidate(MobAiSettings settings, long idleSince) {
+            this.settings = settings;
+            this.idleSince = idleSince;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.minecraft.mod.by.radchuk.utils.entities.navigation;
+
+import net.minecraft.tags.FluidTags;
+import net.minecraft.world.entity.EntityDimensions;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.Pose;
+import net.minecraft.world.level.material.FluidState;
+import net.minecraft.world.level.material.Fluids;
+import net.minecraft.world.level.pathfinder.BlockPathTypes;
+import net.minecraft.world.level.pathfinder.WalkNodeEvaluator;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Отвязанная копия моба для поиска пути в рабочем потоке.
+ * <p>
+ * {@link WalkNodeEvaluator} читает у моба позицию, габариты, высоту шага,
+ * штрафы типов блоков и состояние (на земле, в воде), а по завершении поиска
+ * записывает мобу штраф воды. Копия заполняется этими значениями на серверном
+ * потоке ({@link #capture(Mob)}) и не добавляется в мир, поэтому рабочий поток
+ * не читает и не меняет состояние живого моба.
+ * <p>
+ * Навигация переиспользует копию, пока ее не держит незавершенный поиск
+ * ({@link #tryAcquire()} / {@link #release()}).
+ */
+final class DetachedPathMob extends Mob {
+    private final AtomicBoolean busy = new AtomicBoolean();
+    private EntityDimensions capturedDimensions;
+    private boolean inWater;
+    private boolean standsOnWater;
+    private boolean standsOnLava;
+
+    @SuppressWarnings("unchecked")
+    DetachedPathMob(Mob source) {
+        super((EntityType<? extends Mob>) source.getType(), source.level());
+    }
+
+    /**
+     * Копирует состояние моба, которое читает поиск пути.
+     * Вызывается на серверном потоке, пока копия не занята поиском.
+     *
+     * @param source Живой моб
+     */
+    void capture(Mob source) {
+        this.capturedDimensions = source.getDimensions(source.getPose());
+        this.refreshDimensions();
+        this.setPos(source.getX(), source.getY(), source.getZ());
+        this.setBoundingBox(source.getBoundingBox());
+        this.setOnGround(source.onGround());
+        this.setMaxUpStep(source.maxUpStep());
+        this.inWater = source.isInWater();
+        this.standsOnWater = source.canStandOnFluid(Fluids.WATER.defaultFluidState());
+        this.standsOnLava = source.canStandOnFluid(Fluids.LAVA.defaultFluidState());
+        for (BlockPathTypes type : BlockPathTypes.values()) {
+            this.setPathfindingMalus(type, source.getPathfindingMalus(type));
+        }
+    }
+
+    /**
+     * Занимает копию для поиска.
+     *
+     * @return true, если копия была свободна
+     */
+    boolean tryAcquire() {
+        return busy.compareAndSet(false, true);
+    }
+
+    /**
+     * Освобождает копию после поиска. Вызывается рабочим потоком.
+     */
+    void release() {
+        busy.set(false);
+    }
+
+    @Override
+    public @NotNull EntityDimensions getDimensions(@NotNull Pose pose) {
+        // До первого снимка (в конструкторе Entity) используются размеры типа
+        return capturedDimensions != null ? capturedDimensions : super.getDimensions(pose);
+    }
+
+    @Override
+    public boolean isInWater() {
+        return inWater;
+    }
+
+    @Override
+    public boolean canStandOnFluid(@NotNull FluidState fluid) {
+        return fluid.is(FluidTags.WATER) ? standsOnWater : fluid.is(FluidTags.LAVA) && standsOnLava;
+    }
+}
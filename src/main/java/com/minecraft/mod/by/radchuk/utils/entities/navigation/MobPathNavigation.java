@@ -0,0 +1,367 @@
+package com.minecraft.mod.by.radchuk.utils.entities.navigation;
+
+import com.minecraft.mod.by.radchuk.utils.entities.ai.MobAiSettings;
+import com.minecraft.mod.by.radchuk.utils.entities.profiling.MobProfiler;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.ai.attributes.Attributes;
+import net.minecraft.world.entity.ai.navigation.GroundPathNavigation;
+import net.minecraft.world.entity.ai.navigation.PathNavigation;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.pathfinder.NodeEvaluator;
+import net.minecraft.world.level.pathfinder.Path;
+import net.minecraft.world.level.pathfinder.PathFinder;
+import net.minecraft.world.level.pathfinder.WalkNodeEvaluator;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Наземная навигация мобов фабрики с поддержкой асинхронного поиска пути.
+ * <p>
+ * В асинхронном режиме запрос пути не вычисляется на серверном потоке:
+ * по запросу создается копия нужных секций чанков ({@link SnapshotPathRegion})
+ * и копия состояния моба ({@link DetachedPathMob}), а поиск выполняется в
+ * {@link PathWorkerPool}. Копия секций переиспользуется повторными запросами
+ * в течение {@value #REGION_REUSE_TICKS} тиков, пока нужная область в нее помещается.
+ * Пока новый путь не готов, моб продолжает идти по старому. Готовый путь
+ * применяется в {@link #tick()} или возвращается следующим запросом.
+ * <p>
+ * У навигации одна копия моба и не больше одного поиска за раз: запрос к новой
+ * цели, пришедший во время поиска, не отменяет его, а ждет в очереди из одного
+ * места (более поздний запрос заменяет ожидающий) и отправляется в {@link #tick()},
+ * когда рабочий поток освободит копию.
+ * <p>
+ * Цели, за которыми гонятся, сдвигаются между запросами. Поэтому готовый или
+ * считающийся путь подходит запросу, если его цель отстоит от запрошенной не
+ * больше чем на половину расстояния от моба до цели (и не меньше чем на
+ * {@value #RETARGET_DISTANCE} блока). Иначе моб, преследующий бегущего игрока,
+ * никогда не получил бы путь: каждый запрос отменял бы предыдущий.
+ * Проверка вручную: заспавнить несколько мобов с асинхронным поиском в 20-30
+ * блоках от игрока в режиме выживания и бегать вокруг них - мобы должны
+ * начать преследование в течение секунды и догонять игрока.
+ * <p>
+ * При включенном кэше путей найденные пути сохраняются в {@link PathCache} мира,
+ * и повторный запрос из той же области к той же цели обходится без поиска.
+ * <p>
+ * Моб подключает навигацию в {@code createNavigation}:
+ * <pre>
+ * &#64;Override
+ * protected PathNavigation createNavigation(Level level) {
+ *     return MobPathNavigation.create(this, level);
+ * }
+ * </pre>
+ */
+public class MobPathNavigation extends GroundPathNavigation {
+    /**
+     * Минимальное расстояние в блоках, на которое может сдвинуться цель запроса.
+     */
+    private static final int RETARGET_DISTANCE = 3;
+    /**
+     * Доля расстояния до цели, на которую может сдвинуться цель запроса.
+     */
+    private static final double RETARGET_FRACTION = 0.5D;
+    /**
+     * Запас в блоках при копировании области, чтобы копия подошла и после небольших перемещений моба.
+     */
+    private static final int REGION_MARGIN = 8;
+    /**
+     * Сколько тиков копия области может переиспользоваться.
+     */
+    private static final int REGION_REUSE_TICKS = 20;
+
+    private final boolean async;
+    private final boolean pathCache;
+
+    @Nullable
+    private CompletableFuture<Path> pending;
+    @Nullable
+    private Set<BlockPos> pendingTargets;
+    @Nullable
+    private BlockPos pendingStart;
+    @Nullable
+    private PathRequest queued;
+    @Nullable
+    private Path completed;
+    @Nullable
+    private Set<BlockPos> completedTargets;
+    private boolean awaitingPath;
+    private double awaitingSpeed;
+    @Nullable
+    private DetachedPathMob detachedMob;
+    @Nullable
+    private SnapshotPathRegion region;
+    @Nullable
+    private BlockPos regionFrom;
+    @Nullable
+    private BlockPos regionTo;
+    private long regionTick;
+
+    /**
+     * Создает навигацию.
+     *
+     * @param mob Моб
+     * @param level Мир
+     * @param async Искать ли пути вне серверного потока
+     * @param pathCache Использовать ли кэш путей мира
+     */
+    public MobPathNavigation(Mob mob, Level level, boolean async, boolean pathCache) {
+        super(mob, level);
+        this.async = async && !level.isClientSide;
+        this.pathCache = pathCache && !level.isClientSide;
+    }
+
+    /**
+     * Создает навигацию для моба с учетом настроек его типа.
+     * Для типов, созданных не фабрикой, возвращается стандартная наземная навигация.
+     *
+     * @param mob Моб
+     * @param level Мир
+     * @return Навигация моба
+     */
+    public static PathNavigation create(Mob mob, Level level) {
+        MobAiSettings settings = MobAiSettings.get(mob.getType());
+        if (settings == null || !(settings.isAsyncPathfinding() || settings.isPathCacheEnabled() || settings.isProfiling())) {
+            return new GroundPathNavigation(mob, level);
+        }
+        return new MobPathNavigation(mob, level, settings.isAsyncPathfinding(), settings.isPathCacheEnabled());
+    }
+
+    @Override
+    protected @Nullable Path createPath(Set<BlockPos> targets, int regionOffset, boolean offsetUpward,
+                                       int accuracy, float followRange) {
+        if (targets.isEmpty() || this.mob.getY() < this.level.getMinBuildHeight() || !this.canUpdatePath()) {
+            return null;
+        }
+        if (this.path != null && !this.path.isDone() && targets.contains(this.path.getTarget())) {
+            return this.path;
+        }
+        Path cached = findCached(targets);
+        if (cached != null) {
+            return cached;
+        }
+        if (!this.async) {
+            long start = System.nanoTime();
+            Path path = super.createPath(targets, regionOffset, offsetUpward, accuracy, followRange);
+            MobProfiler.recordPathfinding(this.mob.getType(), System.nanoTime() - start);
+            storeCached(this.mob.blockPosition(), targets, path);
+            return path;
+        }
+        if (this.completed != null && isCloseTarget(targets, this.completedTargets)) {
+            Path result = this.completed;
+            this.completed = null;
+            this.completedTargets = null;
+            return result;
+        }
+        if (this.pending == null || !isCloseTarget(targets, this.pendingTargets)) {
+            this.queued = new PathRequest(Set.copyOf(targets), regionOffset, offsetUpward, accuracy, followRange);
+            submitQueued();
+        }
+        // Пока новый путь считается, моб идет по старому
+        return this.path;
+    }
+
+    /**
+     * Отправляет ожидающий запрос, если копия моба свободна.
+     * Иначе запрос остается в очереди до следующего тика.
+     */
+    private void submitQueued() {
+        if (this.queued == null || !acquireDetachedMob()) {
+            return;
+        }
+        PathRequest request = this.queued;
+        this.queued = null;
+        Set<BlockPos> targets = request.targets();
+        float followRange = request.followRange();
+        int accuracy = request.accuracy();
+        BlockPos origin = request.offsetUpward() ? this.mob.blockPosition().above() : this.mob.blockPosition();
+        int radius = (int) (followRange + request.regionOffset());
+        SnapshotPathRegion region = snapshotRegion(origin.offset(-radius, -radius, -radius), origin.offset(radius, radius, radius));
+        PathFinder finder = createWorkerPathFinder();
+        DetachedPathMob pathMob = this.detachedMob;
+
+        this.pendingTargets = targets;
+        this.pendingStart = this.mob.blockPosition();
+        this.pending = PathWorkerPool.submit(() -> {
+            try {
+                long start = System.nanoTime();
+                Path path = finder.findPath(region, pathMob, targets, followRange, accuracy, 1.0F);
+                MobProfiler.recordPathfinding(pathMob.getType(), System.nanoTime() - start);
+                return path;
+            } finally {
+                pathMob.release();
+            }
+        });
+    }
+
+    /**
+     * Возвращает копию области, содержащую указанный параллелепипед:
+     * недавнюю, если она подходит, или новую с запасом {@value #REGION_MARGIN} блоков.
+     */
+    private SnapshotPathRegion snapshotRegion(BlockPos from, BlockPos to) {
+        long gameTime = this.level.getGameTime();
+        if (this.region != null && gameTime - this.regionTick <= REGION_REUSE_TICKS
+            && contains(this.regionFrom, this.regionTo, from) && contains(this.regionFrom, this.regionTo, to)) {
+            return this.region;
+        }
+        this.regionFrom = from.offset(-REGION_MARGIN, -REGION_MARGIN, -REGION_MARGIN);
+        this.regionTo = to.offset(REGION_MARGIN, REGION_MARGIN, REGION_MARGIN);
+        this.region = new SnapshotPathRegion(this.level, this.regionFrom, this.regionTo);
+        this.regionTick = gameTime;
+        return this.region;
+    }
+
+    private static boolean contains(BlockPos from, BlockPos to, BlockPos pos) {
+        return pos.getX() >= from.getX() && pos.getX() <= to.getX()
+            && pos.getY() >= from.getY() && pos.getY() <= to.getY()
+            && pos.getZ() >= from.getZ() && pos.getZ() <= to.getZ();
+    }
+
+    /**
+     * Занимает копию моба и заполняет ее текущим состоянием.
+     * Копия создается один раз на навигацию.
+     *
+     * @return false, если копию еще держит прежний поиск
+     */
+    private boolean acquireDetachedMob() {
+        if (this.detachedMob == null) {
+            this.detachedMob = new DetachedPathMob(this.mob);
+        }
+        if (!this.detachedMob.tryAcquire()) {
+            return false;
+        }
+        this.detachedMob.capture(this.mob);
+        return true;
+    }
+
+    /**
+     * Проверяет, подходит ли путь к целям {@code known} запросу к целям {@code requested}.
+     * Для одной цели допускается сдвиг на половину расстояния до моба, но не меньше
+     * {@value #RETARGET_DISTANCE} блоков, для нескольких целей нужно точное совпадение.
+     */
+    private boolean isCloseTarget(Set<BlockPos> requested, @Nullable Set<BlockPos> known) {
+        if (known == null) {
+            return false;
+        }
+        if (requested.equals(known)) {
+            return true;
+        }
+        if (requested.size() != 1 || known.size() != 1) {
+            return false;
+        }
+        BlockPos target = requested.iterator().next();
+        double tolerance = Math.max(RETARGET_DISTANCE,
+            Math.sqrt(this.mob.blockPosition().distSqr(target)) * RETARGET_FRACTION);
+        return target.distSqr(known.iterator().next()) <= tolerance * tolerance;
+    }
+
+    @Nullable
+    private Path findCached(Set<BlockPos> targets) {
+        if (!this.pathCache || targets.size() != 1 || !(this.level instanceof ServerLevel serverLevel)) {
+            return null;
+        }
+        return PathCache.get(serverLevel).find(this.mob.getType(), this.mob.blockPosition(), targets.iterator().next());
+    }
+
+    private void storeCached(@Nullable BlockPos start, @Nullable Set<BlockPos> targets, @Nullable Path path) {
+        if (this.pathCache && start != null && path != null && targets != null && targets.size() == 1
+            && this.level instanceof ServerLevel serverLevel) {
+            PathCache.get(serverLevel).store(this.mob.getType(), start, path);
+        }
+    }
+
+    /**
+     * Создает отдельный поисковик пути для рабочего потока:
+     * поисковик навигации хранит состояние и не может использоваться параллельно.
+     */
+    private PathFinder createWorkerPathFinder() {
+        NodeEvaluator source = this.getNodeEvaluator();
+        WalkNodeEvaluator evaluator = new WalkNodeEvaluator();
+        evaluator.setCanPassDoors(source.canPassDoors());
+        evaluator.setCanOpenDoors(source.canOpenDoors());
+        evaluator.setCanFloat(source.canFloat());
+        evaluator.setCanWalkOverFences(source.canWalkOverFences());
+        int maxVisitedNodes = Mth.floor(this.mob.getAttributeValue(Attributes.FOLLOW_RANGE) * 16.0D);
+        return new PathFinder(evaluator, maxVisitedNodes);
+    }
+
+    @Override
+    public boolean moveTo(@Nullable Path path, double speed) {
+        if (path == null && (this.pending != null || this.queued != null)) {
+            // Путь еще считается - применим его, когда он будет готов
+            this.awaitingPath = true;
+            this.awaitingSpeed = speed;
+        }
+        return super.moveTo(path, speed);
+    }
+
+    @Override
+    public void tick() {
+        pollPending();
+        submitQueued();
+        if (this.awaitingPath && (this.path == null || this.path.isDone())) {
+            return;
+        }
+        super.tick();
+    }
+
+    private void pollPending() {
+        if (this.pending == null || !this.pending.isDone()) {
+            return;
+        }
+        Path result = this.pending.getNow(null);
+        Set<BlockPos> targets = this.pendingTargets;
+        BlockPos start = this.pendingStart;
+        this.pending = null;
+        this.pendingTargets = null;
+        this.pendingStart = null;
+        if (result == null) {
+            this.awaitingPath = false;
+            return;
+        }
+        storeCached(start, targets, result);
+        if (this.queued != null && !isCloseTarget(this.queued.targets(), targets)) {
+            // Цель уже сменилась: путь к прежней пригодится, только если ее запросят снова
+            this.completed = result;
+            this.completedTargets = targets;
+        } else if (this.awaitingPath || this.isInProgress()) {
+            double speed = this.awaitingPath ? this.awaitingSpeed : this.speedModifier;
+            this.awaitingPath = false;
+            super.moveTo(result, speed);
+        } else {
+            // Сохраняем результат для следующего запроса к тем же целям
+            this.completed = result;
+            this.completedTargets = targets;
+        }
+    }
+
+    @Override
+    public boolean isDone() {
+        return super.isDone() && !this.awaitingPath;
+    }
+
+    @Override
+    public void stop() {
+        super.stop();
+        if (this.pending != null) {
+            // Рабочий поток все равно доведет поиск до конца и освободит копию моба
+            this.pending.cancel(false);
+            this.pending = null;
+            this.pendingTargets = null;
+            this.pendingStart = null;
+        }
+        this.queued = null;
+        this.completed = null;
+        this.completedTargets = null;
+        this.awaitingPath = false;
+    }
+
+    /**
+     * Запрос пути, ожидающий освобождения копии моба.
+     */
+    private record PathRequest(Set<BlockPos> targets, int regionOffset, boolean offsetUpward, int accuracy,
+                               float followRange) {}
+}
@@ -0,0 +1,200 @@
+package com.minecraft.mod.by.radchuk.utils.entities.navigation;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.pathfinder.Node;
+import net.minecraft.world.level.pathfinder.Path;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Кэш найденных путей для одного серверного мира.
+ * <p>
+ * Ключ кэша - тип сущности, область старта и область цели (кубы 4x4x4 блока).
+ * Каждая запись помнит секции чанков, через которые проходит путь, и удаляется,
+ * как только в одной из них меняется блок. Дополнительно записи устаревают
+ * по времени, так как не все изменения проходимости сопровождаются
+ * обновлением блоков (например, открытие двери сущностью).
+ * <p>
+ * Кэш используется только на серверном потоке.
+ */
+public final class PathCache {
+    /**
+     * Сдвиг, задающий размер области ключа (4 блока).
+     */
+    private static final int REGION_SHIFT = 2;
+    private static final int MAX_ENTRIES = 1024;
+    private static final long MAX_AGE_TICKS = 200L;
+
+    private static final Map<ServerLevel, PathCache> CACHES = new IdentityHashMap<>();
+
+    private final ServerLevel level;
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(64, 0.75F, true);
+    private final Long2ObjectOpenHashMap<Set<Key>> keysBySection = new Long2ObjectOpenHashMap<>();
+
+    private PathCache(ServerLevel level) {
+        this.level = level;
+    }
+
+    /**
+     * Возвращает кэш путей мира.
+     *
+     * @param level Серверный мир
+     * @return Кэш путей
+     */
+    public static PathCache get(ServerLevel level) {
+        return CACHES.computeIfAbsent(level, PathCache::new);
+    }
+
+    /**
+     * Удаляет кэш выгружаемого мира.
+     *
+     * @param level Выгружаемый мир
+     */
+    public static void remove(LevelAccessor level) {
+        CACHES.remove(level);
+    }
+
+    /**
+     * Сбрасывает записи, проходящие через секцию с измененным блоком.
+     *
+     * @param level Мир, в котором изменился блок
+     * @param pos Позиция измененного блока
+     */
+    public static void onBlockChanged(LevelAccessor level, BlockPos pos) {
+        PathCache cache = CACHES.get(level);
+        if (cache != null) {
+            cache.invalidateSection(SectionPos.asLong(pos));
+        }
+    }
+
+    /**
+     * Ищет путь в кэше.
+     *
+     * @param type Тип сущности
+     * @param start Позиция старта
+     * @param target Позиция цели
+     * @return Новый экземпляр пути или null, если подходящей записи нет
+     */
+    public @Nullable Path find(EntityType<?> type, BlockPos start, BlockPos target) {
+        Key key = new Key(type, region(start), region(target));
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (level.getGameTime() - entry.createdAt > MAX_AGE_TICKS) {
+            removeEntry(key, entry);
+            return null;
+        }
+        return entry.toPath();
+    }
+
+    /**
+     * Сохраняет путь в кэш.
+     *
+     * @param type Тип сущности
+     * @param start Позиция старта
+     * @param path Найденный путь
+     */
+    public void store(EntityType<?> type, BlockPos start, Path path) {
+        if (path.getNodeCount() == 0) {
+            return;
+        }
+        Key key = new Key(type, region(start), region(path.getTarget()));
+        Entry previous = entries.get(key);
+        if (previous != null) {
+            removeEntry(key, previous);
+        }
+
+        List<Node> nodes = new ArrayList<>(path.getNodeCount());
+        LongSet sections = new LongOpenHashSet();
+        // Проходимость узла зависит от блока под ним и от блоков на всю высоту моба
+        int height = Math.max(1, Mth.ceil(type.getHeight()));
+        for (int i = 0; i < path.getNodeCount(); i++) {
+            Node node = path.getNode(i);
+            nodes.add(copy(node));
+            for (int sectionY = (node.y - 1) >> 4; sectionY <= (node.y + height - 1) >> 4; sectionY++) {
+                sections.add(SectionPos.asLong(node.x >> 4, sectionY, node.z >> 4));
+            }
+        }
+        Entry entry = new Entry(nodes, path.getTarget(), path.canReach(), sections, level.getGameTime());
+        entries.put(key, entry);
+        for (long section : sections) {
+            keysBySection.computeIfAbsent(section, s -> new HashSet<>()).add(key);
+        }
+
+        if (entries.size() > MAX_ENTRIES) {
+            Iterator<Map.Entry<Key, Entry>> eldest = entries.entrySet().iterator();
+            Map.Entry<Key, Entry> oldest = eldest.next();
+            removeEntry(oldest.getKey(), oldest.getValue());
+        }
+    }
+
+    private void invalidateSection(long section) {
+        Set<Key> keys = keysBySection.remove(section);
+        if (keys == null) {
+            return;
+        }
+        for (Key key : keys) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                removeEntry(key, entry);
+            }
+        }
+    }
+
+    private void removeEntry(Key key, Entry entry) {
+        entries.remove(key);
+        for (long section : entry.sections) {
+            Set<Key> keys = keysBySection.get(section);
+            if (keys != null) {
+                keys.remove(key);
+                if (keys.isEmpty()) {
+                    keysBySection.remove(section);
+                }
+            }
+        }
+    }
+
+    private static long region(BlockPos pos) {
+        return BlockPos.asLong(pos.getX() >> REGION_SHIFT, pos.getY() >> REGION_SHIFT, pos.getZ() >> REGION_SHIFT);
+    }
+
+    private static Node copy(Node node) {
+        return node.cloneAndMove(node.x, node.y, node.z);
+    }
+
+    /**
+     * Ключ записи кэша.
+     */
+    private record Key(EntityType<?> type, long startRegion, long targetRegion) {}
+
+    /**
+     * Запись кэша. Узлы хранятся отдельно от выданных путей, так как путь
+     * изменяется при следовании по нему.
+     */
+    private record Entry(List<Node> nodes, BlockPos target, boolean reached, LongSet sections, long createdAt) {
+        Path toPath() {
+            List<Node> copies = new ArrayList<>(nodes.size());
+            for (Node node : nodes) {
+                copies.add(copy(node));
+            }
+            return new Path(copies, target, reached);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.minecraft.mod.by.radchuk.utils.entities.navigation;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Пул рабочих потоков для поиска путей вне серверного потока.
+ * <p>
+ * Потоки создаются лениво при первом запросе и являются потоками-демонами,
+ * поэтому не мешают остановке сервера.
+ */
+public final class PathWorkerPool {
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    /**
+     * Количество потоков: половина ядер, но от 1 до 4.
+     */
+    private static final int THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    /**
+     * Приватный конструктор для предотвращения создания экземпляров класса.
+     */
+    private PathWorkerPool() {}
+
+    /**
+     * Ленивая инициализация пула.
+     */
+    private static final class Holder {
+        private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "Radchuk-Pathfinder-" + THREAD_COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            return thread;
+        });
+    }
+
+    /**
+     * Выполняет задачу поиска пути в пуле.
+     * Ошибка в задаче не пробрасывается, а превращается в пустой результат.
+     *
+     * @param task Задача поиска пути
+     * @param <T> Тип результата
+     * @return Будущий результат задачи
+     */
+    public static <T> CompletableFuture<T> submit(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, Holder.EXECUTOR)
+            .exceptionally(error -> {
+                LOGGER.warn("Ошибка асинхронного поиска пути", error);
+                return null;
+            });
+    }
+}
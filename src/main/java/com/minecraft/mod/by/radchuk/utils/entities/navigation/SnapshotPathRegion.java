@@ -0,0 +1,115 @@
+package com.minecraft.mod.by.radchuk.utils.entities.navigation;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.util.profiling.InactiveProfiler;
+import net.minecraft.util.profiling.ProfilerFiller;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.PathNavigationRegion;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.PalettedContainer;
+import net.minecraft.world.level.material.FluidState;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Область поиска пути с копией блоков, пригодная для чтения из другого потока.
+ * <p>
+ * Обычная {@link PathNavigationRegion} хранит ссылки на живые чанки мира,
+ * которые серверный поток продолжает изменять. Эта область при создании
+ * (на серверном потоке) копирует палитры блоков нужных секций чанков,
+ * после чего все чтения идут только из копии.
+ * <p>
+ * Блочные сущности в копию не попадают, а профилировщик мира заменяется
+ * неактивным, так как он не потокобезопасен.
+ */
+public class SnapshotPathRegion extends PathNavigationRegion {
+    private static final BlockState AIR = Blocks.AIR.defaultBlockState();
+
+    private final int minSectionY;
+    private final int sectionCount;
+    private final int chunkCountX;
+    private final int chunkCountZ;
+    /**
+     * Копии секций: [x][z][y], null означает пустую секцию.
+     */
+    private final PalettedContainer<BlockState>[][][] sections;
+
+    /**
+     * Создает копию области мира между двумя точками.
+     * Должен вызываться на серверном потоке.
+     *
+     * @param level Мир
+     * @param from Первая угловая точка
+     * @param to Вторая угловая точка
+     */
+    @SuppressWarnings("unchecked")
+    public SnapshotPathRegion(Level level, BlockPos from, BlockPos to) {
+        super(level, from, to);
+        this.chunkCountX = this.chunks.length;
+        this.chunkCountZ = chunkCountX == 0 ? 0 : this.chunks[0].length;
+
+        // Копируем секции по высоте области с запасом в одну секцию с каждой стороны
+        int lowY = Math.max(level.getMinSection(), SectionPos.blockToSectionCoord(Math.min(from.getY(), to.getY())) - 1);
+        int highY = Math.min(level.getMaxSection() - 1, SectionPos.blockToSectionCoord(Math.max(from.getY(), to.getY())) + 1);
+        this.minSectionY = lowY;
+        this.sectionCount = Math.max(0, highY - lowY + 1);
+        this.sections = new PalettedContainer[chunkCountX][chunkCountZ][sectionCount];
+
+        for (int x = 0; x < chunkCountX; x++) {
+            for (int z = 0; z < chunkCountZ; z++) {
+                ChunkAccess chunk = this.chunks[x][z];
+                if (chunk == null) {
+                    continue;
+                }
+                for (int y = 0; y < sectionCount; y++) {
+                    LevelChunkSection section = chunk.getSection(chunk.getSectionIndexFromSectionY(minSectionY + y));
+                    if (!section.hasOnlyAir()) {
+                        this.sections[x][z][y] = section.getStates().copy();
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public @NotNull BlockState getBlockState(@NotNull BlockPos pos) {
+        if (this.isOutsideBuildHeight(pos)) {
+            return AIR;
+        }
+        int x = SectionPos.blockToSectionCoord(pos.getX()) - this.centerX;
+        int z = SectionPos.blockToSectionCoord(pos.getZ()) - this.centerZ;
+        int y = SectionPos.blockToSectionCoord(pos.getY()) - this.minSectionY;
+        if (x < 0 || x >= chunkCountX || z < 0 || z >= chunkCountZ || y < 0 || y >= sectionCount) {
+            return AIR;
+        }
+        PalettedContainer<BlockState> states = this.sections[x][z][y];
+        return states == null ? AIR : states.get(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15);
+    }
+
+    @Override
+    public @NotNull FluidState getFluidState(@NotNull BlockPos pos) {
+        return this.getBlockState(pos).getFluidState();
+    }
+
+    @Override
+    public @Nullable BlockEntity getBlockEntity(@NotNull BlockPos pos) {
+        return null;
+    }
+
+    @Override
+    public @NotNull BlockGetter getChunkForCollisions(int chunkX, int chunkZ) {
+        // Проверки столкновений тоже должны читать копию, а не живой чанк
+        return this;
+    }
+
+    @Override
+    public @NotNull ProfilerFiller getProfiler() {
+        return InactiveProfiler.INSTANCE;
+    }
+}
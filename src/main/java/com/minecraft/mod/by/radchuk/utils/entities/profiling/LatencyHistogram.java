@@ -0,0 +1,97 @@
+package com.minecraft.mod.by.radchuk.utils.entities.profiling;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Гистограмма длительностей без блокировок.
+ * <p>
+ * Значения в наносекундах раскладываются по корзинам с границами, равными
+ * степеням двойки, поэтому запись - одно атомарное увеличение счетчика,
+ * а точность процентилей - не хуже двух раз (внутри корзины значение
+ * оценивается линейной интерполяцией). Запись безопасна из любого потока.
+ */
+public final class LatencyHistogram {
+    private static final int BUCKETS = 64;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    /**
+     * Записывает одно измерение.
+     *
+     * @param nanos Длительность в наносекундах
+     */
+    public void record(long nanos) {
+        counts.incrementAndGet(bucket(nanos));
+    }
+
+    /**
+     * Количество записанных измерений.
+     *
+     * @return Число измерений
+     */
+    public long count() {
+        long total = 0L;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * Оценивает процентиль распределения.
+     *
+     * @param fraction Доля от 0 до 1, например 0.99 для p99
+     * @return Оценка процентиля в наносекундах или 0, если измерений нет
+     */
+    public long percentile(double fraction) {
+        long[] snapshot = new long[BUCKETS];
+        long total = 0L;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0L) {
+            return 0L;
+        }
+
+        double rank = Math.max(1.0D, Math.ceil(fraction * total));
+        long seen = 0L;
+        for (int i = 0; i < BUCKETS; i++) {
+            if (snapshot[i] == 0L) {
+                continue;
+            }
+            if (seen + snapshot[i] >= rank) {
+                long low = lowerBound(i);
+                long high = upperBound(i);
+                double position = (rank - seen) / snapshot[i];
+                return low + (long) ((high - low) * position);
+            }
+            seen += snapshot[i];
+        }
+        return upperBound(BUCKETS - 1);
+    }
+
+    /**
+     * Обнуляет гистограмму.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0L);
+        }
+    }
+
+    /**
+     * Корзина i содержит значения из [2^(i-1), 2^i), корзина 0 - только ноль.
+     */
+    private static int bucket(long nanos) {
+        return nanos <= 0L ? 0 : Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos));
+    }
+
+    private static long lowerBound(int bucket) {
+        return bucket == 0 ? 0L : 1L << (bucket - 1);
+    }
+
+    private static long upperBound(int bucket) {
+        return bucket == 0 ? 0L : bucket >= 63 ? Long.MAX_VALUE : (1L << bucket) - 1L;
+    }
+}
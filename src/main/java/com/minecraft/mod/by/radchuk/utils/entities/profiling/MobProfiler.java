@@ -0,0 +1,152 @@
+package com.minecraft.mod.by.radchuk.utils.entities.profiling;
+
+import com.minecraft.mod.by.radchuk.utils.entities.ai.MobAiSettings;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.ai.goal.GoalSelector;
+import net.minecraft.world.entity.ai.goal.WrappedGoal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Профилировщик мобов, созданных фабрикой с включенным профилированием.
+ * <p>
+ * Собирает по типам сущностей время тика, время вызовов целей по классам
+ * целей и время поиска пути. Измерения складываются в гистограммы
+ * {@link LatencyHistogram} и выводятся командой {@code /radchuk perf}.
+ * <p>
+ * Сбор включается и выключается во время игры. Пока он выключен, обертки
+ * целей и точки замера ограничиваются чтением одного флага.
+ * <p>
+ * Пример замера тика в классе моба:
+ * <pre>
+ * &#64;Override
+ * public void tick() {
+ *     long start = MobProfiler.tickStart();
+ *     super.tick();
+ *     MobProfiler.tickEnd(this, start);
+ * }
+ * </pre>
+ */
+public final class MobProfiler {
+    private static final Map<EntityType<?>, TypeProfile> PROFILES = new ConcurrentHashMap<>();
+    private static volatile boolean enabled;
+
+    /**
+     * Приватный конструктор для предотвращения создания экземпляров класса.
+     */
+    private MobProfiler() {}
+
+    /**
+     * Включен ли сбор измерений.
+     *
+     * @return true, если измерения записываются
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Включает или выключает сбор измерений.
+     *
+     * @param enabled true для включения сбора
+     */
+    public static void setEnabled(boolean enabled) {
+        MobProfiler.enabled = enabled;
+    }
+
+    /**
+     * Удаляет все собранные измерения.
+     */
+    public static void reset() {
+        for (TypeProfile profile : PROFILES.values()) {
+            profile.reset();
+        }
+    }
+
+    /**
+     * Возвращает собранные измерения по типам сущностей.
+     *
+     * @return Неизменяемое представление измерений
+     */
+    public static Map<EntityType<?>, TypeProfile> profiles() {
+        return Collections.unmodifiableMap(PROFILES);
+    }
+
+    /**
+     * Оборачивает цели моба в {@link ProfiledGoal}.
+     * Должен вызываться до установки других оберток, чтобы замерялось
+     * только время самих целей.
+     *
+     * @param mob Моб
+     */
+    public static void install(Mob mob) {
+        TypeProfile profile = profile(mob.getType());
+        wrapGoals(profile.goals(), mob.goalSelector);
+        wrapGoals(profile.targetGoals(), mob.targetSelector);
+    }
+
+    private static void wrapGoals(Map<Class<?>, LatencyHistogram> histograms, GoalSelector selector) {
+        List<WrappedGoal> goals = new ArrayList<>(selector.getAvailableGoals());
+        for (WrappedGoal wrapped : goals) {
+            if (wrapped.getGoal() instanceof ProfiledGoal) {
+                continue;
+            }
+            selector.removeGoal(wrapped.getGoal());
+            selector.addGoal(wrapped.getPriority(), new ProfiledGoal(histograms, wrapped.getGoal()));
+        }
+    }
+
+    /**
+     * Начинает замер тика сущности.
+     *
+     * @return Метка времени начала или 0, если сбор выключен
+     */
+    public static long tickStart() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Завершает замер тика сущности.
+     *
+     * @param entity Сущность
+     * @param start Метка, полученная из {@link #tickStart()}
+     */
+    public static void tickEnd(Entity entity, long start) {
+        if (start != 0L && isProfiled(entity.getType())) {
+            profile(entity.getType()).tick().record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Записывает время поиска пути. Может вызываться из любого потока.
+     *
+     * @param type Тип сущности
+     * @param nanos Длительность поиска в наносекундах
+     */
+    public static void recordPathfinding(EntityType<?> type, long nanos) {
+        if (enabled && isProfiled(type)) {
+            profile(type).pathfinding().record(nanos);
+        }
+    }
+
+    /**
+     * Включено ли профилирование для типа сущности в настройках фабрики.
+     *
+     * @param type Тип сущности
+     * @return true, если тип профилируется
+     */
+    public static boolean isProfiled(EntityType<?> type) {
+        MobAiSettings settings = MobAiSettings.get(type);
+        return settings != null && settings.isProfiling();
+    }
+
+    private static TypeProfile profile(EntityType<?> type) {
+        return PROFILES.computeIfAbsent(type, t -> new TypeProfile());
+    }
+}
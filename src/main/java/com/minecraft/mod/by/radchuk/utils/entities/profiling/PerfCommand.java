@@ -0,0 +1,102 @@
+package com.minecraft.mod.by.radchuk.utils.entities.profiling;
+
+import com.mojang.brigadier.CommandDispatcher;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.entity.EntityType;
+
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Команда {@code /radchuk perf} для просмотра измерений {@link MobProfiler}.
+ * <p>
+ * Варианты:
+ * <ul>
+ *   <li>{@code /radchuk perf} - вывести p50/p99 по типам мобов и классам целей</li>
+ *   <li>{@code /radchuk perf start} - включить сбор измерений</li>
+ *   <li>{@code /radchuk perf stop} - выключить сбор измерений</li>
+ *   <li>{@code /radchuk perf reset} - удалить собранные измерения</li>
+ * </ul>
+ * Требует уровень прав 2.
+ */
+public final class PerfCommand {
+    /**
+     * Приватный конструктор для предотвращения создания экземпляров класса.
+     */
+    private PerfCommand() {}
+
+    /**
+     * Регистрирует команду.
+     *
+     * @param dispatcher Диспетчер команд сервера
+     */
+    public static void register(CommandDispatcher<CommandSourceStack> dispatcher) {
+        dispatcher.register(Commands.literal("radchuk")
+            .requires(source -> source.hasPermission(2))
+            .then(Commands.literal("perf")
+                .executes(context -> report(context.getSource()))
+                .then(Commands.literal("start")
+                    .executes(context -> setEnabled(context.getSource(), true)))
+                .then(Commands.literal("stop")
+                    .executes(context -> setEnabled(context.getSource(), false)))
+                .then(Commands.literal("reset")
+                    .executes(context -> reset(context.getSource())))));
+    }
+
+    private static int setEnabled(CommandSourceStack source, boolean enabled) {
+        MobProfiler.setEnabled(enabled);
+        source.sendSuccess(() -> Component.literal(enabled
+            ? "Профилирование мобов включено"
+            : "Профилирование мобов выключено"), true);
+        return 1;
+    }
+
+    private static int reset(CommandSourceStack source) {
+        MobProfiler.reset();
+        source.sendSuccess(() -> Component.literal("Измерения профилировщика мобов удалены"), true);
+        return 1;
+    }
+
+    private static int report(CommandSourceStack source) {
+        Map<EntityType<?>, TypeProfile> profiles = MobProfiler.profiles();
+        if (profiles.isEmpty()) {
+            source.sendFailure(Component.literal(MobProfiler.isEnabled()
+                ? "Измерений пока нет"
+                : "Измерений нет, включите сбор: /radchuk perf start"));
+            return 0;
+        }
+        if (!MobProfiler.isEnabled()) {
+            source.sendSuccess(() -> Component.literal("Сбор выключен, показаны ранее собранные измерения"), false);
+        }
+
+        profiles.entrySet().stream()
+            .sorted(Comparator.comparing(entry -> EntityType.getKey(entry.getKey()).toString()))
+            .forEach(entry -> {
+                TypeProfile profile = entry.getValue();
+                send(source, EntityType.getKey(entry.getKey()) + " тик", profile.tick());
+                send(source, "  поиск пути", profile.pathfinding());
+                sendGoals(source, "  цель ", profile.goals());
+                sendGoals(source, "  цель атаки ", profile.targetGoals());
+            });
+        return profiles.size();
+    }
+
+    private static void sendGoals(CommandSourceStack source, String prefix, Map<Class<?>, LatencyHistogram> goals) {
+        goals.entrySet().stream()
+            .sorted(Comparator.comparing(entry -> entry.getKey().getSimpleName()))
+            .forEach(entry -> send(source, prefix + entry.getKey().getSimpleName(), entry.getValue()));
+    }
+
+    private static void send(CommandSourceStack source, String label, LatencyHistogram histogram) {
+        long count = histogram.count();
+        if (count == 0L) {
+            return;
+        }
+        String line = String.format(Locale.ROOT, "%s: n=%d, p50=%.1f мкс, p99=%.1f мкс",
+            label, count, histogram.percentile(0.5D) / 1000.0D, histogram.percentile(0.99D) / 1000.0D);
+        source.sendSuccess(() -> Component.literal(line), false);
+    }
+}
@@ -0,0 +1,93 @@
+package com.minecraft.mod.by.radchuk.utils.entities.profiling;
+
+import com.minecraft.mod.by.radchuk.utils.entities.ai.DelegatingGoal;
+import net.minecraft.world.entity.ai.goal.Goal;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+/**
+ * Обертка над целью, замеряющая время каждого вызова цели.
+ * <p>
+ * Измерения записываются в гистограмму класса исходной цели.
+ * Пока {@link MobProfiler} выключен, вызовы передаются без замеров.
+ */
+public class ProfiledGoal extends DelegatingGoal {
+    private final Map<Class<?>, LatencyHistogram> histograms;
+    private final Class<?> goalClass;
+
+    /**
+     * Создает обертку для цели.
+     *
+     * @param histograms Гистограммы селектора по классам целей
+     * @param delegate Исходная цель
+     */
+    public ProfiledGoal(Map<Class<?>, LatencyHistogram> histograms, Goal delegate) {
+        super(delegate);
+        this.histograms = histograms;
+        this.goalClass = unwrap(delegate).getClass();
+    }
+
+    @Override
+    public boolean canUse() {
+        if (!MobProfiler.isEnabled()) {
+            return delegate.canUse();
+        }
+        long start = System.nanoTime();
+        try {
+            return delegate.canUse();
+        } finally {
+            record(start);
+        }
+    }
+
+    @Override
+    public boolean canContinueToUse() {
+        if (!MobProfiler.isEnabled()) {
+            return delegate.canContinueToUse();
+        }
+        long start = System.nanoTime();
+        try {
+            return delegate.canContinueToUse();
+        } finally {
+            record(start);
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!MobProfiler.isEnabled()) {
+            delegate.start();
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            delegate.start();
+        } finally {
+            record(start);
+        }
+    }
+
+    @Override
+    public void tick() {
+        if (!MobProfiler.isEnabled()) {
+            delegate.tick();
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            delegate.tick();
+        } finally {
+            record(start);
+        }
+    }
+
+    private void record(long start) {
+        histograms.computeIfAbsent(goalClass, c -> new LatencyHistogram()).record(System.nanoTime() - start);
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "Profiled[" + delegate + "]";
+    }
+}
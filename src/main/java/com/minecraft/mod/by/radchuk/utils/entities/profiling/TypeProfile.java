@@ -0,0 +1,59 @@
+package com.minecraft.mod.by.radchuk.utils.entities.profiling;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Собранные измерения одного типа сущности.
+ */
+public final class TypeProfile {
+    private final LatencyHistogram tick = new LatencyHistogram();
+    private final LatencyHistogram pathfinding = new LatencyHistogram();
+    private final Map<Class<?>, LatencyHistogram> goals = new ConcurrentHashMap<>();
+    private final Map<Class<?>, LatencyHistogram> targetGoals = new ConcurrentHashMap<>();
+
+    TypeProfile() {}
+
+    /**
+     * Время полного тика сущности.
+     *
+     * @return Гистограмма тиков
+     */
+    public LatencyHistogram tick() {
+        return tick;
+    }
+
+    /**
+     * Время поиска пути.
+     *
+     * @return Гистограмма поиска пути
+     */
+    public LatencyHistogram pathfinding() {
+        return pathfinding;
+    }
+
+    /**
+     * Время вызовов целей селектора поведения по классам целей.
+     *
+     * @return Гистограммы по классам целей
+     */
+    public Map<Class<?>, LatencyHistogram> goals() {
+        return goals;
+    }
+
+    /**
+     * Время вызовов целей селектора атаки по классам целей.
+     *
+     * @return Гистограммы по классам целей
+     */
+    public Map<Class<?>, LatencyHistogram> targetGoals() {
+        return targetGoals;
+    }
+
+    void reset() {
+        tick.reset();
+        pathfinding.reset();
+        goals.clear();
+        targetGoals.clear();
+    }
+}
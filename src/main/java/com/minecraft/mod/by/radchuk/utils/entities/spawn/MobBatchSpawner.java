@@ -0,0 +1,122 @@
+package com.minecraft.mod.by.radchuk.utils.entities.spawn;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.DifficultyInstance;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.MobSpawnType;
+import net.minecraft.world.entity.SpawnGroupData;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraftforge.event.ForgeEventFactory;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Пакетный спавн мобов.
+ * <p>
+ * Позиции группируются по чанкам: каждый чанк загружается один раз,
+ * и для всех позиций в нем используется одна вычисленная сложность.
+ * Все мобы сначала создаются и настраиваются, а затем добавляются в мир
+ * одним проходом. Данные группы спавна ({@link SpawnGroupData}) передаются
+ * от моба к мобу, как при естественном спавне стаи.
+ * <p>
+ * Должен вызываться на серверном потоке.
+ */
+public final class MobBatchSpawner {
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    /**
+     * Приватный конструктор для предотвращения создания экземпляров класса.
+     */
+    private MobBatchSpawner() {}
+
+    /**
+     * Создает мобов в указанных позициях.
+     *
+     * @param level Серверный мир
+     * @param type Тип моба
+     * @param positions Позиции спавна (по одному мобу на позицию)
+     * @param spawnType Причина спавна
+     * @param <T> Тип сущности
+     * @return Мобы, успешно добавленные в мир
+     */
+    public static <T extends Mob> List<T> spawn(ServerLevel level, EntityType<T> type,
+                                                Collection<BlockPos> positions, MobSpawnType spawnType) {
+        return spawn(level, type, positions, spawnType, null);
+    }
+
+    /**
+     * Создает мобов в указанных позициях с дополнительной настройкой каждого моба.
+     * <p>
+     * Настройка вызывается после подготовки моба к спавну, как у
+     * {@link EntityType#spawn}, например для имени и тега EntityTag
+     * яйца спавна ({@link EntityType#createDefaultStackConfig}).
+     * Мобы, спавн которых отменен обработчиком события, в мир не добавляются.
+     *
+     * @param level Серверный мир
+     * @param type Тип моба
+     * @param positions Позиции спавна (по одному мобу на позицию)
+     * @param spawnType Причина спавна
+     * @param configure Настройка моба или null
+     * @param <T> Тип сущности
+     * @return Мобы, успешно добавленные в мир
+     */
+    public static <T extends Mob> List<T> spawn(ServerLevel level, EntityType<T> type, Collection<BlockPos> positions,
+                                                MobSpawnType spawnType, @Nullable Consumer<T> configure) {
+        Long2ObjectOpenHashMap<List<BlockPos>> byChunk = new Long2ObjectOpenHashMap<>();
+        for (BlockPos pos : positions) {
+            byChunk.computeIfAbsent(ChunkPos.asLong(pos), chunk -> new ArrayList<>()).add(pos.immutable());
+        }
+
+        List<T> created = new ArrayList<>(positions.size());
+        SpawnGroupData groupData = null;
+        for (Long2ObjectMap.Entry<List<BlockPos>> entry : byChunk.long2ObjectEntrySet()) {
+            long chunk = entry.getLongKey();
+            List<BlockPos> chunkPositions = entry.getValue();
+            // Загружаем чанк и вычисляем сложность один раз для всех позиций в нем
+            level.getChunk(ChunkPos.getX(chunk), ChunkPos.getZ(chunk));
+            DifficultyInstance difficulty = level.getCurrentDifficultyAt(chunkPositions.get(0));
+
+            for (BlockPos pos : chunkPositions) {
+                T mob = type.create(level);
+                if (mob == null) {
+                    LOGGER.warn("Не удалось создать моба {} для пакетного спавна", EntityType.getKey(type));
+                    return List.of();
+                }
+                float yaw = Mth.wrapDegrees(level.random.nextFloat() * 360.0F);
+                mob.moveTo(pos.getX() + 0.5D, pos.getY(), pos.getZ() + 0.5D, yaw, 0.0F);
+                mob.yHeadRot = yaw;
+                mob.yBodyRot = yaw;
+                groupData = ForgeEventFactory.onFinalizeSpawn(mob, level, difficulty, spawnType, groupData, null);
+                if (mob.isSpawnCancelled()) {
+                    continue;
+                }
+                if (configure != null) {
+                    configure.accept(mob);
+                }
+                created.add(mob);
+            }
+        }
+
+        // Добавляем всех мобов в мир одним проходом
+        List<T> spawned = new ArrayList<>(created.size());
+        for (T mob : created) {
+            if (level.tryAddFreshEntityWithPassengers(mob)) {
+                spawned.add(mob);
+            }
+        }
+        LOGGER.debug("Пакетный спавн {}: {} из {} мобов в {} чанках",
+            EntityType.getKey(type), spawned.size(), positions.size(), byChunk.size());
+        return spawned;
+    }
+}
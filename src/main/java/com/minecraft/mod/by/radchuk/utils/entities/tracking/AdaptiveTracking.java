@@ -0,0 +1,130 @@
+package com.minecraft.mod.by.radchuk.utils.entities.tracking;
+
+import com.minecraft.mod.by.radchuk.utils.entities.ai.PlayerSpatialIndex;
+import net.minecraft.server.level.ChunkMap;
+import net.minecraft.server.level.ServerEntity;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.level.LevelAccessor;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Адаптивная частота обновлений отслеживания для мобов.
+ * <p>
+ * Сервер рассылает изменения сущности клиентам с интервалом ее типа.
+ * Стоящий моб почти не двигается, но постоянно вертит головой, поэтому
+ * пакеты поворота уходят каждый интервал. Здесь интервал рассылки меняется
+ * для каждого моба отдельно, в объекте рассылки его трекера
+ * ({@code ChunkMap.entityMap -> TrackedEntity.serverEntity -> updateInterval},
+ * поля открыты в {@code META-INF/accesstransformer.cfg}): у стоящих мобов
+ * он расширяется в заданное число раз, а у всех мобов вдали от игроков -
+ * еще в два раза. Состояние самих
+ * мобов (повороты, позиция) не меняется, сервер и ИИ видят точные значения,
+ * а клиент получает накопленные изменения реже. Изменения синхронизируемых
+ * данных и толчки по-прежнему рассылаются сразу.
+ * <p>
+ * Обработка выполняется в конце тика мира, перед следующей рассылкой изменений.
+ */
+public final class AdaptiveTracking {
+    /**
+     * Квадрат горизонтальной скорости, ниже которой моб считается стоящим.
+     */
+    private static final double IDLE_SPEED_SQR = 1.0E-4D;
+
+    private static final Map<ServerLevel, Map<Mob, TrackedMob>> TRACKED = new IdentityHashMap<>();
+
+    /**
+     * Приватный конструктор для предотвращения создания экземпляров класса.
+     */
+    private AdaptiveTracking() {}
+
+    /**
+     * Начинает отслеживать моба, вошедшего в мир.
+     *
+     * @param level Мир
+     * @param mob Моб
+     * @param multiplier Во сколько раз расширяется интервал для стоящего моба
+     */
+    public static void track(ServerLevel level, Mob mob, int multiplier) {
+        TRACKED.computeIfAbsent(level, l -> new IdentityHashMap<>()).put(mob, new TrackedMob(multiplier));
+    }
+
+    /**
+     * Прекращает отслеживать моба, покинувшего мир.
+     *
+     * @param level Мир
+     * @param entity Сущность
+     */
+    public static void untrack(LevelAccessor level, Entity entity) {
+        Map<Mob, TrackedMob> tracked = TRACKED.get(level);
+        if (tracked != null && entity instanceof Mob mob) {
+            tracked.remove(mob);
+        }
+    }
+
+    /**
+     * Забывает всех мобов выгружаемого мира.
+     *
+     * @param level Выгружаемый мир
+     */
+    public static void remove(LevelAccessor level) {
+        TRACKED.remove(level);
+    }
+
+    /**
+     * Обрабатывает конец тика мира.
+     *
+     * @param level Серверный мир
+     */
+    public static void tick(ServerLevel level) {
+        Map<Mob, TrackedMob> tracked = TRACKED.get(level);
+        if (tracked == null || tracked.isEmpty()) {
+            return;
+        }
+        PlayerSpatialIndex players = PlayerSpatialIndex.get(level);
+        for (Map.Entry<Mob, TrackedMob> entry : tracked.entrySet()) {
+            Mob mob = entry.getKey();
+            TrackedMob state = entry.getValue();
+            if (state.serverEntity == null) {
+                // Трекер создается после входа моба в мир
+                ChunkMap.TrackedEntity tracker = level.getChunkSource().chunkMap.entityMap.get(mob.getId());
+                if (tracker == null) {
+                    continue;
+                }
+                state.serverEntity = tracker.serverEntity;
+            }
+            int interval = mob.getType().updateInterval();
+            if (isIdle(mob)) {
+                interval *= state.multiplier;
+            }
+            // Дальше половины дальности отслеживания интервал расширяется еще в два раза
+            double farRange = mob.getType().clientTrackingRange() * 8.0D;
+            if (players.nearestDistanceSqr(mob.getX(), mob.getY(), mob.getZ(), farRange) == Double.MAX_VALUE) {
+                interval *= 2;
+            }
+            state.serverEntity.updateInterval = interval;
+        }
+    }
+
+    private static boolean isIdle(Mob mob) {
+        return mob.isAlive() && mob.getTarget() == null && mob.getNavigation().isDone()
+            && mob.getDeltaMovement().horizontalDistanceSqr() < IDLE_SPEED_SQR;
+    }
+
+    /**
+     * Отслеживаемый моб и объект рассылки его изменений.
+     */
+    private static class TrackedMob {
+        private final int multiplier;
+        @Nullable
+        private ServerEntity serverEntity;
+
+        TrackedMob(int multiplier) {
+            this.multiplier = multiplier;
+        }
+    }
+}
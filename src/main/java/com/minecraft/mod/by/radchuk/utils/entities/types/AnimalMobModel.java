@@ -4,9 +4,11 @@ import net.minecraft.client.model.QuadrupedModel;
 import net.minecraft.client.model.geom.ModelPart;
 import net.minecraft.client.model.geom.PartPose;
 import net.minecraft.client.model.geom.builders.*;
+import net.minecraft.util.Mth;
 import net.minecraft.world.entity.Mob;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
+import org.jetbrains.annotations.NotNull;
 
 /**
  * Модель четвероногого животного для использования в системе мобов.
@@ -37,7 +39,8 @@ import net.minecraftforge.api.distmarker.OnlyIn;
  * @param <T> Тип моба, для которого используется эта модель
  */
 @OnlyIn(Dist.CLIENT)
-public class AnimalMobModel<T extends Mob> extends QuadrupedModel<T> {
+public class AnimalMobModel<T extends Mob> extends QuadrupedModel<T> implements PoseCachedModel {
+    private PoseCache poseCache;
 
     /**
      * Создает новую модель животного с указанной корневой частью.
@@ -48,6 +51,36 @@ public class AnimalMobModel<T extends Mob> extends QuadrupedModel<T> {
         super(root, false, 8.0F, 4.0F, 2.0F, 2.0F, 24);
     }
 
+    @Override
+    public void setPoseCacheQuality(PoseCacheQuality quality) {
+        this.poseCache = quality == PoseCacheQuality.OFF ? null
+            : new PoseCache(quality, body, rightHindLeg, leftHindLeg, rightFrontLeg, leftFrontLeg);
+    }
+
+    /**
+     * Настраивает позу модели.
+     * <p>
+     * С кэшем поз ({@link #setPoseCacheQuality(PoseCacheQuality)}) позы тела и
+     * ног при ходьбе берутся из кэша, поворот головы применяется каждый кадр.
+     * Анимация четвероногих не зависит от времени удара, поэтому ключ кэша
+     * состоит только из фазы и размаха шага.
+     */
+    @Override
+    public void setupAnim(@NotNull T entity, float limbSwing, float limbSwingAmount, float ageInTicks,
+                          float netHeadYaw, float headPitch) {
+        if (poseCache == null) {
+            super.setupAnim(entity, limbSwing, limbSwingAmount, ageInTicks, netHeadYaw, headPitch);
+            return;
+        }
+        int key = poseCache.key(limbSwing, limbSwingAmount, 0.0F, false, 0.0F);
+        if (!poseCache.restore(key)) {
+            super.setupAnim(entity, poseCache.limbSwing(key), poseCache.limbSwingAmount(key), 0.0F, 0.0F, 0.0F);
+            poseCache.store(key);
+        }
+        head.xRot = headPitch * Mth.DEG_TO_RAD;
+        head.yRot = netHeadYaw * Mth.DEG_TO_RAD;
+    }
+
     /**
      * Создает определение слоя модели без деформации.
      *
@@ -65,53 +98,122 @@ public class AnimalMobModel<T extends Mob> extends QuadrupedModel<T> {
      * @return Определение слоя модели
      */
     public static LayerDefinition createBodyLayer(CubeDeformation cubeDeformation) {
+        return createBodyLayer(cubeDeformation, 0, 0, 64, 64);
+    }
+
+    /**
+     * Создает определение слоя модели, текстура которой находится в ячейке общей текстуры.
+     * Используется для атласа текстур мобов фабрики.
+     *
+     * @param cubeDeformation Деформация, применяемая к кубам модели
+     * @param u Смещение текстуры модели по горизонтали в пикселях
+     * @param v Смещение текстуры модели по вертикали в пикселях
+     * @param textureWidth Ширина всей текстуры в пикселях
+     * @param textureHeight Высота всей текстуры в пикселях
+     * @return Определение слоя модели
+     */
+    public static LayerDefinition createBodyLayer(CubeDeformation cubeDeformation, int u, int v,
+                                                  int textureWidth, int textureHeight) {
         MeshDefinition meshdefinition = new MeshDefinition();
         PartDefinition partdefinition = meshdefinition.getRoot();
 
         // Голова
         PartDefinition head = partdefinition.addOrReplaceChild("head", CubeListBuilder.create()
-                .texOffs(0, 0)
+                .texOffs(u, v)
                 .addBox(-4.0F, -4.0F, -6.0F, 8.0F, 8.0F, 6.0F, cubeDeformation),
             PartPose.offset(0.0F, 6.0F, -8.0F));
 
         // Уши
         head.addOrReplaceChild("right_ear", CubeListBuilder.create()
-                .texOffs(22, 0)
+                .texOffs(u + 22, v)
                 .addBox(-3.0F, -6.0F, -1.0F, 3.0F, 4.0F, 1.0F, cubeDeformation),
             PartPose.offset(0.0F, 0.0F, 0.0F));
 
         head.addOrReplaceChild("left_ear", CubeListBuilder.create()
-                .texOffs(22, 0).mirror()
+                .texOffs(u + 22, v).mirror()
                 .addBox(0.0F, -6.0F, -1.0F, 3.0F, 4.0F, 1.0F, cubeDeformation),
             PartPose.offset(0.0F, 0.0F, 0.0F));
 
         // Тело
         partdefinition.addOrReplaceChild("body", CubeListBuilder.create()
-                .texOffs(0, 14)
+                .texOffs(u, v + 14)
                 .addBox(-5.0F, -10.0F, -7.0F, 10.0F, 16.0F, 8.0F, cubeDeformation),
             PartPose.offsetAndRotation(0.0F, 11.0F, 2.0F, ((float)Math.PI / 2F), 0.0F, 0.0F));
 
         // Ноги
         partdefinition.addOrReplaceChild("right_hind_leg", CubeListBuilder.create()
-                .texOffs(0, 38)
+                .texOffs(u, v + 38)
                 .addBox(-2.0F, 0.0F, -2.0F, 4.0F, 12.0F, 4.0F, cubeDeformation),
             PartPose.offset(-3.0F, 12.0F, 7.0F));
 
         partdefinition.addOrReplaceChild("left_hind_leg", CubeListBuilder.create()
-                .texOffs(0, 38).mirror()
+                .texOffs(u, v + 38).mirror()
                 .addBox(-2.0F, 0.0F, -2.0F, 4.0F, 12.0F, 4.0F, cubeDeformation),
             PartPose.offset(3.0F, 12.0F, 7.0F));
 
         partdefinition.addOrReplaceChild("right_front_leg", CubeListBuilder.create()
-                .texOffs(0, 38)
+                .texOffs(u, v + 38)
                 .addBox(-2.0F, 0.0F, -2.0F, 4.0F, 12.0F, 4.0F, cubeDeformation),
             PartPose.offset(-3.0F, 12.0F, -5.0F));
 
         partdefinition.addOrReplaceChild("left_front_leg", CubeListBuilder.create()
-                .texOffs(0, 38).mirror()
+                .texOffs(u, v + 38).mirror()
                 .addBox(-2.0F, 0.0F, -2.0F, 4.0F, 12.0F, 4.0F, cubeDeformation),
             PartPose.offset(3.0F, 12.0F, -5.0F));
 
-        return LayerDefinition.create(meshdefinition, 64, 64);
+        return LayerDefinition.create(meshdefinition, textureWidth, textureHeight);
+    }
+
+    /**
+     * Создает определение слоя модели для уровня детализации.
+     * <p>
+     * Части модели сохраняются, чтобы модель строилась тем же классом,
+     * но у упрощенных уровней часть из них пуста.
+     *
+     * @param cubeDeformation Деформация, применяемая к кубам модели
+     * @param u Смещение текстуры модели по горизонтали в пикселях
+     * @param v Смещение текстуры модели по вертикали в пикселях
+     * @param textureWidth Ширина всей текстуры в пикселях
+     * @param textureHeight Высота всей текстуры в пикселях
+     * @param lod Уровень детализации
+     * @return Определение слоя модели
+     */
+    public static LayerDefinition createLodLayer(CubeDeformation cubeDeformation, int u, int v,
+                                                 int textureWidth, int textureHeight, ModelLod lod) {
+        if (lod == ModelLod.FULL) {
+            return createBodyLayer(cubeDeformation, u, v, textureWidth, textureHeight);
+        }
+        MeshDefinition meshdefinition = new MeshDefinition();
+        PartDefinition partdefinition = meshdefinition.getRoot();
+        boolean reduced = lod == ModelLod.REDUCED;
+
+        // Голова без ушей
+        partdefinition.addOrReplaceChild("head", reduced
+                ? CubeListBuilder.create()
+                    .texOffs(u, v)
+                    .addBox(-4.0F, -4.0F, -6.0F, 8.0F, 8.0F, 6.0F, cubeDeformation)
+                : CubeListBuilder.create(),
+            PartPose.offset(0.0F, 6.0F, -8.0F));
+
+        // Дальняя модель: тело растянуто вниз до земли и вперед к голове
+        partdefinition.addOrReplaceChild("body", CubeListBuilder.create()
+                .texOffs(u, v + 14)
+                .addBox(-5.0F, -10.0F, -7.0F, 10.0F, 16.0F, 8.0F,
+                    reduced ? cubeDeformation : cubeDeformation.extend(0.0F, 2.0F, 6.0F)),
+            PartPose.offsetAndRotation(0.0F, 11.0F, 2.0F, ((float)Math.PI / 2F), 0.0F, 0.0F));
+
+        // Упрощенная модель: пара задних и пара передних ног - по одному параллелепипеду,
+        // они качаются вместе с правыми ногами
+        CubeListBuilder pair = reduced
+            ? CubeListBuilder.create()
+                .texOffs(u, v + 38)
+                .addBox(-2.0F, 0.0F, -2.0F, 4.0F, 12.0F, 4.0F, cubeDeformation.extend(3.0F, 0.0F, 0.0F))
+            : CubeListBuilder.create();
+        partdefinition.addOrReplaceChild("right_hind_leg", pair, PartPose.offset(0.0F, 12.0F, 7.0F));
+        partdefinition.addOrReplaceChild("left_hind_leg", CubeListBuilder.create(), PartPose.offset(3.0F, 12.0F, 7.0F));
+        partdefinition.addOrReplaceChild("right_front_leg", pair, PartPose.offset(0.0F, 12.0F, -5.0F));
+        partdefinition.addOrReplaceChild("left_front_leg", CubeListBuilder.create(), PartPose.offset(3.0F, 12.0F, -5.0F));
+
+        return LayerDefinition.create(meshdefinition, textureWidth, textureHeight);
     }
 }
@@ -4,9 +4,13 @@ import net.minecraft.client.model.HumanoidModel;
 import net.minecraft.client.model.geom.ModelPart;
 import net.minecraft.client.model.geom.PartPose;
 import net.minecraft.client.model.geom.builders.*;
+import net.minecraft.util.Mth;
+import net.minecraft.world.InteractionHand;
+import net.minecraft.world.entity.HumanoidArm;
 import net.minecraft.world.entity.Mob;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
+import org.jetbrains.annotations.NotNull;
 
 /**
  * Модель гуманоидного моба для использования в системе мобов.
@@ -39,7 +43,8 @@ import net.minecraftforge.api.distmarker.OnlyIn;
  * @param <T> Тип моба, для которого используется эта модель
  */
 @OnlyIn(Dist.CLIENT)
-public class HumanoidMobModel<T extends Mob> extends HumanoidModel<T> {
+public class HumanoidMobModel<T extends Mob> extends HumanoidModel<T> implements PoseCachedModel {
+    private PoseCache poseCache;
 
     /**
      * Создает новую гуманоидную модель с указанной корневой частью.
@@ -50,6 +55,66 @@ public class HumanoidMobModel<T extends Mob> extends HumanoidModel<T> {
         super(root);
     }
 
+    @Override
+    public void setPoseCacheQuality(PoseCacheQuality quality) {
+        this.poseCache = quality == PoseCacheQuality.OFF ? null
+            : new PoseCache(quality, head, body, rightArm, leftArm, rightLeg, leftLeg);
+    }
+
+    /**
+     * Настраивает позу модели.
+     * <p>
+     * С кэшем поз ({@link #setPoseCacheQuality(PoseCacheQuality)}) позы тела,
+     * рук и ног при ходьбе и ударе берутся из кэша, а поворот головы и
+     * покачивание рук применяются поверх каждый кадр. Приседание, езда,
+     * плавание, полет на элитрах и позы рук с предметами вычисляются без кэша.
+     */
+    @Override
+    public void setupAnim(@NotNull T entity, float limbSwing, float limbSwingAmount, float ageInTicks,
+                          float netHeadYaw, float headPitch) {
+        if (poseCache == null || !isPoseCacheable(entity)) {
+            super.setupAnim(entity, limbSwing, limbSwingAmount, ageInTicks, netHeadYaw, headPitch);
+            return;
+        }
+        boolean attacking = attackTime > 0.0F;
+        // Удар поднимает руку с учетом наклона головы, поэтому при ударе наклон входит в ключ
+        int key = poseCache.key(limbSwing, limbSwingAmount, attackTime,
+            attacking && attackArm(entity) == HumanoidArm.LEFT, headPitch);
+        if (!poseCache.restore(key)) {
+            float currentAttackTime = attackTime;
+            attackTime = poseCache.attackTime(key);
+            super.setupAnim(entity, poseCache.limbSwing(key), poseCache.limbSwingAmount(key), 0.0F,
+                0.0F, poseCache.headPitch(key));
+            attackTime = currentAttackTime;
+            poseCache.store(key);
+        }
+        head.yRot = netHeadYaw * Mth.DEG_TO_RAD;
+        head.xRot = headPitch * Mth.DEG_TO_RAD;
+        hat.copyFrom(head);
+        bobArm(rightArm, ageInTicks, 1.0F);
+        bobArm(leftArm, ageInTicks, -1.0F);
+    }
+
+    private boolean isPoseCacheable(T entity) {
+        return !crouching && !riding && swimAmount <= 0.0F
+            && rightArmPose == ArmPose.EMPTY && leftArmPose == ArmPose.EMPTY
+            && !entity.isFallFlying();
+    }
+
+    private static HumanoidArm attackArm(Mob entity) {
+        HumanoidArm mainArm = entity.getMainArm();
+        return entity.swingingArm == InteractionHand.MAIN_HAND ? mainArm : mainArm.getOpposite();
+    }
+
+    /**
+     * Добавляет покачивание руки {@code AnimationUtils.bobModelPart}.
+     * Позы кэша сняты при ageInTicks = 0, где покачивание равно 0.1 по zRot и 0 по xRot.
+     */
+    private static void bobArm(ModelPart arm, float ageInTicks, float multiplier) {
+        arm.zRot += multiplier * (Mth.cos(ageInTicks * 0.09F) * 0.05F - 0.05F);
+        arm.xRot += multiplier * Mth.sin(ageInTicks * 0.067F) * 0.05F;
+    }
+
     /**
      * Создает определение слоя модели без деформации.
      *
@@ -67,51 +132,122 @@ public class HumanoidMobModel<T extends Mob> extends HumanoidModel<T> {
      * @return Определение слоя модели
      */
     public static LayerDefinition createBodyLayer(CubeDeformation cubeDeformation) {
+        return createBodyLayer(cubeDeformation, 0, 0, 64, 64);
+    }
+
+    /**
+     * Создает определение слоя модели, текстура которой находится в ячейке общей текстуры.
+     * Используется для атласа текстур мобов фабрики.
+     *
+     * @param cubeDeformation Деформация, применяемая к кубам модели
+     * @param u Смещение текстуры модели по горизонтали в пикселях
+     * @param v Смещение текстуры модели по вертикали в пикселях
+     * @param textureWidth Ширина всей текстуры в пикселях
+     * @param textureHeight Высота всей текстуры в пикселях
+     * @return Определение слоя модели
+     */
+    public static LayerDefinition createBodyLayer(CubeDeformation cubeDeformation, int u, int v,
+                                                  int textureWidth, int textureHeight) {
         MeshDefinition meshdefinition = new MeshDefinition();
         PartDefinition partdefinition = meshdefinition.getRoot();
 
         // Голова
         partdefinition.addOrReplaceChild("head", CubeListBuilder.create()
-                .texOffs(0, 0)
+                .texOffs(u, v)
                 .addBox(-4.0F, -8.0F, -4.0F, 8.0F, 8.0F, 8.0F, cubeDeformation),
             PartPose.offset(0.0F, 0.0F, 0.0F));
 
         // Шляпа (внешний слой головы)
         partdefinition.addOrReplaceChild("hat", CubeListBuilder.create()
-                .texOffs(32, 0)
+                .texOffs(u + 32, v)
                 .addBox(-4.0F, -8.0F, -4.0F, 8.0F, 8.0F, 8.0F, cubeDeformation.extend(0.5F)),
             PartPose.offset(0.0F, 0.0F, 0.0F));
 
         // Тело
         partdefinition.addOrReplaceChild("body", CubeListBuilder.create()
-                .texOffs(16, 16)
+                .texOffs(u + 16, v + 16)
                 .addBox(-4.0F, 0.0F, -2.0F, 8.0F, 12.0F, 4.0F, cubeDeformation),
             PartPose.offset(0.0F, 0.0F, 0.0F));
 
         // Правая рука
         partdefinition.addOrReplaceChild("right_arm", CubeListBuilder.create()
-                .texOffs(40, 16)
+                .texOffs(u + 40, v + 16)
                 .addBox(-3.0F, -2.0F, -2.0F, 4.0F, 12.0F, 4.0F, cubeDeformation),
             PartPose.offset(-5.0F, 2.0F, 0.0F));
 
         // Левая рука
         partdefinition.addOrReplaceChild("left_arm", CubeListBuilder.create()
-                .texOffs(40, 16).mirror()
+                .texOffs(u + 40, v + 16).mirror()
                 .addBox(-1.0F, -2.0F, -2.0F, 4.0F, 12.0F, 4.0F, cubeDeformation),
             PartPose.offset(5.0F, 2.0F, 0.0F));
 
         // Правая нога
         partdefinition.addOrReplaceChild("right_leg", CubeListBuilder.create()
-                .texOffs(0, 16)
+                .texOffs(u, v + 16)
                 .addBox(-2.0F, 0.0F, -2.0F, 4.0F, 12.0F, 4.0F, cubeDeformation),
             PartPose.offset(-1.9F, 12.0F, 0.0F));
 
         // Левая нога
         partdefinition.addOrReplaceChild("left_leg", CubeListBuilder.create()
-                .texOffs(0, 16).mirror()
+                .texOffs(u, v + 16).mirror()
                 .addBox(-2.0F, 0.0F, -2.0F, 4.0F, 12.0F, 4.0F, cubeDeformation),
             PartPose.offset(1.9F, 12.0F, 0.0F));
 
-        return LayerDefinition.create(meshdefinition, 64, 64);
+        return LayerDefinition.create(meshdefinition, textureWidth, textureHeight);
+    }
+
+    /**
+     * Создает определение слоя модели для уровня детализации.
+     * <p>
+     * Части модели сохраняются, чтобы модель строилась тем же классом,
+     * но у упрощенных уровней часть из них пуста.
+     *
+     * @param cubeDeformation Деформация, применяемая к кубам модели
+     * @param u Смещение текстуры модели по горизонтали в пикселях
+     * @param v Смещение текстуры модели по вертикали в пикселях
+     * @param textureWidth Ширина всей текстуры в пикселях
+     * @param textureHeight Высота всей текстуры в пикселях
+     * @param lod Уровень детализации
+     * @return Определение слоя модели
+     */
+    public static LayerDefinition createLodLayer(CubeDeformation cubeDeformation, int u, int v,
+                                                 int textureWidth, int textureHeight, ModelLod lod) {
+        if (lod == ModelLod.FULL) {
+            return createBodyLayer(cubeDeformation, u, v, textureWidth, textureHeight);
+        }
+        MeshDefinition meshdefinition = new MeshDefinition();
+        PartDefinition partdefinition = meshdefinition.getRoot();
+        boolean reduced = lod == ModelLod.REDUCED;
+
+        // Голова, без шляпы
+        partdefinition.addOrReplaceChild("head", reduced
+                ? CubeListBuilder.create()
+                    .texOffs(u, v)
+                    .addBox(-4.0F, -8.0F, -4.0F, 8.0F, 8.0F, 8.0F, cubeDeformation)
+                : CubeListBuilder.create(),
+            PartPose.offset(0.0F, 0.0F, 0.0F));
+        partdefinition.addOrReplaceChild("hat", CubeListBuilder.create(),
+            PartPose.offset(0.0F, 0.0F, 0.0F));
+
+        // Упрощенная модель: тело растянуто на ширину рук, обе ноги - один параллелепипед.
+        // Дальняя: тело растянуто на весь силуэт от макушки до ступней
+        partdefinition.addOrReplaceChild("body", reduced
+                ? CubeListBuilder.create()
+                    .texOffs(u + 16, v + 16)
+                    .addBox(-4.0F, 0.0F, -2.0F, 8.0F, 12.0F, 4.0F, cubeDeformation.extend(4.0F, 0.0F, 0.0F))
+                    .texOffs(u, v + 16)
+                    .addBox(-2.0F, 12.0F, -2.0F, 4.0F, 12.0F, 4.0F, cubeDeformation.extend(2.0F, 0.0F, 0.0F))
+                : CubeListBuilder.create()
+                    .texOffs(u + 16, v + 16)
+                    .addBox(-4.0F, 2.0F, -2.0F, 8.0F, 12.0F, 4.0F, cubeDeformation.extend(2.0F, 10.0F, 0.0F)),
+            PartPose.offset(0.0F, 0.0F, 0.0F));
+
+        // Конечности пусты, но нужны модели для анимации
+        partdefinition.addOrReplaceChild("right_arm", CubeListBuilder.create(), PartPose.offset(-5.0F, 2.0F, 0.0F));
+        partdefinition.addOrReplaceChild("left_arm", CubeListBuilder.create(), PartPose.offset(5.0F, 2.0F, 0.0F));
+        partdefinition.addOrReplaceChild("right_leg", CubeListBuilder.create(), PartPose.offset(-1.9F, 12.0F, 0.0F));
+        partdefinition.addOrReplaceChild("left_leg", CubeListBuilder.create(), PartPose.offset(1.9F, 12.0F, 0.0F));
+
+        return LayerDefinition.create(meshdefinition, textureWidth, textureHeight);
     }
 }
@@ -0,0 +1,20 @@
+package com.minecraft.mod.by.radchuk.utils.entities.types;
+
+/**
+ * Уровни детализации модели моба в зависимости от расстояния до камеры.
+ * Порядок констант важен: чем дальше от камеры, тем больше порядковый номер.
+ */
+public enum ModelLod {
+    /**
+     * Полная модель со всеми частями и внешними слоями.
+     */
+    FULL,
+    /**
+     * Без внешних слоев и мелких частей, конечности объединены.
+     */
+    REDUCED,
+    /**
+     * Один параллелепипед по силуэту моба.
+     */
+    IMPOSTOR
+}
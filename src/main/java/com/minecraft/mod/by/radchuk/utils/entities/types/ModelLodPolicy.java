@@ -0,0 +1,84 @@
+package com.minecraft.mod.by.radchuk.utils.entities.types;
+
+/**
+ * Политика уровней детализации (LOD) модели моба.
+ * <p>
+ * Ближе {@code reducedDistance} моб рисуется полной моделью ({@link ModelLod#FULL}),
+ * до {@code impostorDistance} - упрощенной ({@link ModelLod#REDUCED}), дальше -
+ * одним параллелепипедом ({@link ModelLod#IMPOSTOR}). Уровень выбирается
+ * каждый кадр по расстоянию до камеры.
+ * <p>
+ * Пример использования:
+ * <pre>
+ * ModelLodPolicy policy = new ModelLodPolicy.Builder()
+ *     .reducedDistance(20.0D)
+ *     .impostorDistance(48.0D)
+ *     .build();
+ * </pre>
+ */
+public final class ModelLodPolicy {
+    private final double reducedDistanceSqr;
+    private final double impostorDistanceSqr;
+
+    private ModelLodPolicy(Builder builder) {
+        this.reducedDistanceSqr = builder.reducedDistance * builder.reducedDistance;
+        this.impostorDistanceSqr = builder.impostorDistance * builder.impostorDistance;
+    }
+
+    /**
+     * Выбирает уровень детализации.
+     *
+     * @param distanceSqr Квадрат расстояния от камеры до моба
+     * @return Уровень детализации
+     */
+    public ModelLod select(double distanceSqr) {
+        if (distanceSqr < reducedDistanceSqr) {
+            return ModelLod.FULL;
+        }
+        return distanceSqr < impostorDistanceSqr ? ModelLod.REDUCED : ModelLod.IMPOSTOR;
+    }
+
+    /**
+     * Builder для создания политики LOD модели.
+     */
+    public static class Builder {
+        private double reducedDistance = 24.0D;
+        private double impostorDistance = 56.0D;
+
+        /**
+         * Устанавливает расстояние, с которого используется упрощенная модель.
+         *
+         * @param reducedDistance расстояние в блоках
+         * @return этот Builder
+         */
+        public Builder reducedDistance(double reducedDistance) {
+            this.reducedDistance = reducedDistance;
+            return this;
+        }
+
+        /**
+         * Устанавливает расстояние, с которого моб рисуется одним параллелепипедом.
+         *
+         * @param impostorDistance расстояние в блоках
+         * @return этот Builder
+         */
+        public Builder impostorDistance(double impostorDistance) {
+            this.impostorDistance = impostorDistance;
+            return this;
+        }
+
+        /**
+         * Создает политику LOD модели.
+         *
+         * @return новая политика
+         * @throws IllegalStateException если параметры несовместимы
+         */
+        public ModelLodPolicy build() {
+            if (reducedDistance <= 0 || impostorDistance <= reducedDistance) {
+                throw new IllegalStateException("Расстояние замены на параллелепипед (" + impostorDistance +
+                    ") должно быть больше расстояния упрощения модели (" + reducedDistance + ")");
+            }
+            return new ModelLodPolicy(this);
+        }
+    }
+}
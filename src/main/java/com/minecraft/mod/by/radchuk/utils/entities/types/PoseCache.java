@@ -0,0 +1,175 @@
+package com.minecraft.mod.by.radchuk.utils.entities.types;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.client.model.geom.ModelPart;
+import net.minecraft.util.Mth;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+
+/**
+ * Кэш поз частей модели по квантованным параметрам анимации.
+ * <p>
+ * Анимация ходьбы периодична: ноги и руки поворачиваются по
+ * {@code cos(limbSwing * 0.6662)}. Поэтому поза частей зависит от фазы шага
+ * в цикле, размаха шага, времени удара и (при ударе) наклона головы. Эти
+ * значения делятся на шаги по {@link PoseCacheQuality}, и поза для каждого
+ * набора шагов вычисляется моделью один раз, а дальше копируется в части.
+ * <p>
+ * Кэш принадлежит экземпляру модели и используется только в потоке рендера.
+ * Количество поз ограничено {@value #MAX_POSES}, сверх него поза вычисляется
+ * как обычно.
+ */
+@OnlyIn(Dist.CLIENT)
+public final class PoseCache {
+    /**
+     * Период цикла ходьбы по limbSwing.
+     */
+    private static final float WALK_PERIOD = (float) (Math.PI * 2.0D / 0.6662D);
+    private static final int FIELDS = 6;
+    private static final int MAX_POSES = 16384;
+
+    private final ModelPart[] parts;
+    private final int phaseSteps;
+    private final int amountSteps;
+    private final int attackSteps;
+    private final int pitchSteps;
+    private final Int2ObjectOpenHashMap<float[]> poses = new Int2ObjectOpenHashMap<>();
+
+    /**
+     * Создает кэш.
+     *
+     * @param quality Точность, кроме {@link PoseCacheQuality#OFF}
+     * @param parts Части модели, позы которых сохраняются
+     */
+    public PoseCache(PoseCacheQuality quality, ModelPart... parts) {
+        if (quality == PoseCacheQuality.OFF) {
+            throw new IllegalArgumentException("Кэш поз не создается с точностью OFF");
+        }
+        this.parts = parts;
+        this.phaseSteps = quality.getPhaseSteps();
+        this.amountSteps = quality.getAmountSteps();
+        this.attackSteps = quality.getAttackSteps();
+        this.pitchSteps = quality.getPitchSteps();
+    }
+
+    /**
+     * Вычисляет ключ позы.
+     *
+     * @param limbSwing Положение цикла ходьбы
+     * @param limbSwingAmount Размах шага от 0 до 1
+     * @param attackTime Время удара, 0 - нет удара
+     * @param leftArm true, если удар левой рукой
+     * @param headPitch Наклон головы в градусах, учитывается только при ударе
+     * @return Ключ позы
+     */
+    public int key(float limbSwing, float limbSwingAmount, float attackTime, boolean leftArm, float headPitch) {
+        float phase = limbSwing % WALK_PERIOD;
+        if (phase < 0.0F) {
+            phase += WALK_PERIOD;
+        }
+        int phaseIndex = Math.min((int) (phase / WALK_PERIOD * phaseSteps), phaseSteps - 1);
+        int amountIndex = Math.round(Mth.clamp(limbSwingAmount, 0.0F, 1.0F) * amountSteps);
+        // Нулевой шаг удара - ровно "нет удара": модель пропускает анимацию удара только при 0
+        int attackIndex = 0;
+        int armIndex = 0;
+        int pitchIndex = 0;
+        if (attackTime > 0.0F) {
+            attackIndex = 1 + Math.min((int) (attackTime * attackSteps), attackSteps - 1);
+            armIndex = leftArm ? 1 : 0;
+            pitchIndex = Math.round((Mth.clamp(headPitch, -90.0F, 90.0F) + 90.0F) / 180.0F * pitchSteps);
+        }
+        return (((phaseIndex * (amountSteps + 1) + amountIndex) * (attackSteps + 1) + attackIndex) * 2 + armIndex)
+            * (pitchSteps + 1) + pitchIndex;
+    }
+
+    /**
+     * Положение цикла ходьбы, по которому вычисляется поза ключа.
+     *
+     * @param key Ключ позы
+     * @return Середина шага фазы
+     */
+    public float limbSwing(int key) {
+        int phaseIndex = key / ((pitchSteps + 1) * 2 * (attackSteps + 1) * (amountSteps + 1));
+        return (phaseIndex + 0.5F) / phaseSteps * WALK_PERIOD;
+    }
+
+    /**
+     * Размах шага, по которому вычисляется поза ключа.
+     *
+     * @param key Ключ позы
+     * @return Размах шага
+     */
+    public float limbSwingAmount(int key) {
+        int amountIndex = key / ((pitchSteps + 1) * 2 * (attackSteps + 1)) % (amountSteps + 1);
+        return (float) amountIndex / amountSteps;
+    }
+
+    /**
+     * Время удара, по которому вычисляется поза ключа.
+     *
+     * @param key Ключ позы
+     * @return Время удара, 0 - нет удара
+     */
+    public float attackTime(int key) {
+        int attackIndex = key / ((pitchSteps + 1) * 2) % (attackSteps + 1);
+        return attackIndex == 0 ? 0.0F : (attackIndex - 0.5F) / attackSteps;
+    }
+
+    /**
+     * Наклон головы, по которому вычисляется поза ключа.
+     *
+     * @param key Ключ позы
+     * @return Наклон головы в градусах
+     */
+    public float headPitch(int key) {
+        int pitchIndex = key % (pitchSteps + 1);
+        return attackTime(key) == 0.0F ? 0.0F : (float) pitchIndex / pitchSteps * 180.0F - 90.0F;
+    }
+
+    /**
+     * Копирует сохраненную позу в части модели.
+     *
+     * @param key Ключ позы
+     * @return true, если поза была сохранена
+     */
+    public boolean restore(int key) {
+        float[] pose = poses.get(key);
+        if (pose == null) {
+            return false;
+        }
+        for (int i = 0; i < parts.length; i++) {
+            ModelPart part = parts[i];
+            int offset = i * FIELDS;
+            part.x = pose[offset];
+            part.y = pose[offset + 1];
+            part.z = pose[offset + 2];
+            part.xRot = pose[offset + 3];
+            part.yRot = pose[offset + 4];
+            part.zRot = pose[offset + 5];
+        }
+        return true;
+    }
+
+    /**
+     * Сохраняет текущую позу частей модели, если кэш не заполнен.
+     *
+     * @param key Ключ позы
+     */
+    public void store(int key) {
+        if (poses.size() >= MAX_POSES) {
+            return;
+        }
+        float[] pose = new float[parts.length * FIELDS];
+        for (int i = 0; i < parts.length; i++) {
+            ModelPart part = parts[i];
+            int offset = i * FIELDS;
+            pose[offset] = part.x;
+            pose[offset + 1] = part.y;
+            pose[offset + 2] = part.z;
+            pose[offset + 3] = part.xRot;
+            pose[offset + 4] = part.yRot;
+            pose[offset + 5] = part.zRot;
+        }
+        poses.put(key, pose);
+    }
+}
@@ -0,0 +1,75 @@
+package com.minecraft.mod.by.radchuk.utils.entities.types;
+
+/**
+ * Точность кэша поз моделей мобов.
+ * <p>
+ * Задает, на сколько шагов делятся фаза шага, размах шага, время удара и
+ * наклон головы при ударе. Чем больше шагов, тем ближе позы к вычисленным
+ * каждый кадр, но тем больше поз хранится.
+ */
+public enum PoseCacheQuality {
+    /**
+     * Кэш выключен, поза вычисляется каждый кадр.
+     */
+    OFF(0, 0, 0, 0),
+    /**
+     * Грубые шаги, подходит для дальних мобов и больших толп.
+     */
+    LOW(16, 4, 4, 4),
+    /**
+     * Шаги, на которых разница с точной позой почти незаметна.
+     */
+    MEDIUM(32, 8, 8, 6),
+    /**
+     * Мелкие шаги.
+     */
+    HIGH(48, 12, 12, 8);
+
+    private final int phaseSteps;
+    private final int amountSteps;
+    private final int attackSteps;
+    private final int pitchSteps;
+
+    PoseCacheQuality(int phaseSteps, int amountSteps, int attackSteps, int pitchSteps) {
+        this.phaseSteps = phaseSteps;
+        this.amountSteps = amountSteps;
+        this.attackSteps = attackSteps;
+        this.pitchSteps = pitchSteps;
+    }
+
+    /**
+     * Количество шагов на один цикл ходьбы.
+     *
+     * @return Количество шагов
+     */
+    public int getPhaseSteps() {
+        return phaseSteps;
+    }
+
+    /**
+     * Количество шагов размаха шага от 0 до 1.
+     *
+     * @return Количество шагов
+     */
+    public int getAmountSteps() {
+        return amountSteps;
+    }
+
+    /**
+     * Количество шагов времени удара от 0 до 1.
+     *
+     * @return Количество шагов
+     */
+    public int getAttackSteps() {
+        return attackSteps;
+    }
+
+    /**
+     * Количество шагов наклона головы от -90 до 90 градусов, учитывается только при ударе.
+     *
+     * @return Количество шагов
+     */
+    public int getPitchSteps() {
+        return pitchSteps;
+    }
+}
@@ -0,0 +1,13 @@
+package com.minecraft.mod.by.radchuk.utils.entities.types;
+
+/**
+ * Модель, которая может переиспользовать позы частей из {@link PoseCache}.
+ */
+public interface PoseCachedModel {
+    /**
+     * Устанавливает точность кэша поз. Прежние позы сбрасываются.
+     *
+     * @param quality Точность, {@link PoseCacheQuality#OFF} выключает кэш
+     */
+    void setPoseCacheQuality(PoseCacheQuality quality);
+}
@@ -0,0 +1,28 @@
+package com.minecraft.mod.by.radchuk.utils.items;
+
+import com.minecraft.mod.by.radchuk.utils.items.materials.RepairIngredientIndex;
+import net.minecraft.world.item.ArmorItem;
+import net.minecraft.world.item.ArmorMaterial;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Предмет брони, проверяющий ингредиент ремонта через {@link RepairIngredientIndex}.
+ */
+public class BaseArmorItem extends ArmorItem {
+    /**
+     * Создает предмет брони.
+     *
+     * @param material материал брони
+     * @param type тип брони
+     * @param properties свойства предмета
+     */
+    public BaseArmorItem(ArmorMaterial material, Type type, Properties properties) {
+        super(material, type, properties);
+    }
+
+    @Override
+    public boolean isValidRepairItem(@NotNull ItemStack toRepair, @NotNull ItemStack repair) {
+        return RepairIngredientIndex.test(this.material, repair);
+    }
+}
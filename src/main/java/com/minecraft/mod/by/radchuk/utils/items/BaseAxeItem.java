@@ -0,0 +1,46 @@
+package com.minecraft.mod.by.radchuk.utils.items;
+
+import com.minecraft.mod.by.radchuk.utils.items.materials.BlockMiningIndex;
+import com.minecraft.mod.by.radchuk.utils.items.materials.RepairIngredientIndex;
+import net.minecraft.tags.BlockTags;
+import net.minecraft.world.item.AxeItem;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Tier;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Топор, проверяющий ингредиент ремонта через {@link RepairIngredientIndex}.
+ * Скорость добычи и пригодность для блоков берутся из {@link BlockMiningIndex}.
+ */
+public class BaseAxeItem extends AxeItem {
+    private final BlockMiningIndex.Table mining;
+
+    /**
+     * Создает топор.
+     *
+     * @param tier уровень материала
+     * @param attackDamage урон атаки
+     * @param attackSpeed скорость атаки
+     * @param properties свойства предмета
+     */
+    public BaseAxeItem(Tier tier, float attackDamage, float attackSpeed, Properties properties) {
+        super(tier, attackDamage, attackSpeed, properties);
+        this.mining = BlockMiningIndex.table(tier, BlockTags.MINEABLE_WITH_AXE);
+    }
+
+    @Override
+    public boolean isValidRepairItem(@NotNull ItemStack toRepair, @NotNull ItemStack repair) {
+        return RepairIngredientIndex.test(this.getTier(), repair);
+    }
+
+    @Override
+    public float getDestroySpeed(@NotNull ItemStack stack, @NotNull BlockState state) {
+        return this.mining.isMineable(state) ? this.speed : 1.0F;
+    }
+
+    @Override
+    public boolean isCorrectToolForDrops(@NotNull ItemStack stack, @NotNull BlockState state) {
+        return this.mining.isCorrectToolForDrops(state);
+    }
+}
@@ -0,0 +1,29 @@
+package com.minecraft.mod.by.radchuk.utils.items;
+
+import com.minecraft.mod.by.radchuk.utils.items.materials.RepairIngredientIndex;
+import net.minecraft.world.item.SwordItem;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Tier;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Меч, проверяющий ингредиент ремонта через {@link RepairIngredientIndex}.
+ */
+public class BaseSwordItem extends SwordItem {
+    /**
+     * Создает меч.
+     *
+     * @param tier уровень материала
+     * @param attackDamage урон атаки
+     * @param attackSpeed скорость атаки
+     * @param properties свойства предмета
+     */
+    public BaseSwordItem(Tier tier, int attackDamage, float attackSpeed, Properties properties) {
+        super(tier, attackDamage, attackSpeed, properties);
+    }
+
+    @Override
+    public boolean isValidRepairItem(@NotNull ItemStack toRepair, @NotNull ItemStack repair) {
+        return RepairIngredientIndex.test(this.getTier(), repair);
+    }
+}
@@ -0,0 +1,149 @@
+package com.minecraft.mod.by.radchuk.utils.items;
+
+import com.minecraft.mod.by.radchuk.utils.entities.spawn.MobBatchSpawner;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.InteractionResult;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.MobSpawnType;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.context.UseOnContext;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.gameevent.GameEvent;
+import net.minecraftforge.common.ForgeSpawnEggItem;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Яйцо спавна, создающее сразу группу мобов.
+ * <p>
+ * Мобы расставляются квадратной сеткой вокруг места использования. Для каждой
+ * клетки сетки ищется ближайшая по высоте к месту использования свободная позиция
+ * с твердым полом, поэтому в пещере и в Незере отряд появляется рядом с игроком,
+ * а не на поверхности или на крыше из коренной породы. Мобы создаются одним
+ * пакетом через {@link MobBatchSpawner}.
+ * Имя яйца и тег EntityTag применяются к каждому мобу группы.
+ * Использование яйца на спавнере работает как у обычного яйца.
+ */
+public class BatchSpawnEggItem extends ForgeSpawnEggItem {
+    /**
+     * Расстояние между мобами в сетке (в блоках).
+     */
+    private static final int SPACING = 2;
+
+    /**
+     * На сколько блоков вверх и вниз от места использования ищется позиция клетки.
+     */
+    private static final int SEARCH_HEIGHT = 4;
+
+    private final Supplier<? extends EntityType<? extends Mob>> entityType;
+    private final int count;
+
+    /**
+     * Создает яйцо пакетного спавна.
+     *
+     * @param entityType Поставщик типа сущности
+     * @param primaryColor Основной цвет яйца
+     * @param secondaryColor Вторичный цвет яйца
+     * @param count Количество мобов за одно использование
+     * @param properties Свойства предмета
+     */
+    public BatchSpawnEggItem(Supplier<? extends EntityType<? extends Mob>> entityType,
+                             int primaryColor, int secondaryColor, int count, Properties properties) {
+        super(entityType, primaryColor, secondaryColor, properties);
+        if (count < 1) {
+            throw new IllegalArgumentException("Количество мобов должно быть не меньше 1: " + count);
+        }
+        this.entityType = entityType;
+        this.count = count;
+    }
+
+    @Override
+    public @NotNull InteractionResult useOn(@NotNull UseOnContext context) {
+        if (context.getLevel().getBlockState(context.getClickedPos()).is(Blocks.SPAWNER)) {
+            // Настройка спавнера выполняется стандартным образом
+            return super.useOn(context);
+        }
+        if (!(context.getLevel() instanceof ServerLevel level)) {
+            return InteractionResult.SUCCESS;
+        }
+
+        BlockPos clicked = context.getClickedPos();
+        Direction face = context.getClickedFace();
+        BlockPos center = level.getBlockState(clicked).getCollisionShape(level, clicked).isEmpty()
+            ? clicked
+            : clicked.relative(face);
+
+        ItemStack stack = context.getItemInHand();
+        List<? extends Mob> spawned = spawn(level, center, entityType.get(), stack, context.getPlayer());
+        if (!spawned.isEmpty()) {
+            if (context.getPlayer() == null || !context.getPlayer().getAbilities().instabuild) {
+                stack.shrink(1);
+            }
+            level.gameEvent(context.getPlayer(), GameEvent.ENTITY_PLACE, center);
+        }
+        return InteractionResult.CONSUME;
+    }
+
+    private <T extends Mob> List<T> spawn(ServerLevel level, BlockPos center, EntityType<T> type,
+                                          ItemStack stack, @Nullable Player player) {
+        int side = (int) Math.ceil(Math.sqrt(count));
+        int offset = (side - 1) * SPACING / 2;
+        int height = Math.max(1, Mth.ceil(type.getHeight()));
+        List<BlockPos> positions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int x = center.getX() - offset + (i % side) * SPACING;
+            int z = center.getZ() - offset + (i / side) * SPACING;
+            if (x == center.getX() && z == center.getZ()) {
+                positions.add(center);
+            } else {
+                positions.add(findStandable(level, center, x, z, height));
+            }
+        }
+        // Имя и тег EntityTag яйца применяются к каждому мобу, как у обычного яйца
+        Consumer<T> configure = EntityType.createDefaultStackConfig(level, stack, player);
+        return MobBatchSpawner.spawn(level, type, positions, MobSpawnType.SPAWN_EGG, configure);
+    }
+
+    /**
+     * Ищет в столбце клетки ближайшую к высоте места использования позицию,
+     * где моб стоит на твердом полу и помещается по высоте.
+     *
+     * @return Найденная позиция или место использования, если подходящей нет
+     */
+    private static BlockPos findStandable(ServerLevel level, BlockPos center, int x, int z, int height) {
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        // Проверяем высоты по очереди: 0, +1, -1, +2, -2 ...
+        for (int step = 0; step <= SEARCH_HEIGHT * 2; step++) {
+            int dy = (step + 1) / 2 * (step % 2 == 0 ? -1 : 1);
+            pos.set(x, center.getY() + dy, z);
+            if (isStandable(level, pos, height)) {
+                return pos.immutable();
+            }
+        }
+        return center;
+    }
+
+    private static boolean isStandable(ServerLevel level, BlockPos pos, int height) {
+        BlockPos floor = pos.below();
+        if (!level.getBlockState(floor).isFaceSturdy(level, floor, Direction.UP)) {
+            return false;
+        }
+        for (int dy = 0; dy < height; dy++) {
+            BlockPos free = pos.above(dy);
+            if (!level.getBlockState(free).getCollisionShape(level, free).isEmpty() || !level.getFluidState(free).isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
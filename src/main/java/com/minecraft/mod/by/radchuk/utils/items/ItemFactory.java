@@ -31,7 +31,7 @@ public abstract class ItemFactory {
         String modId,
         String itemId,
         Item.Properties properties) {
-        LOGGER.info("Создание и регистрация базового предмета: {}.{}", modId, itemId);
+        LOGGER.debug("Создание и регистрация базового предмета: {}.{}", modId, itemId);
         return ItemRegistry.registerItem(
             modId,
             itemId,
@@ -56,7 +56,7 @@ public abstract class ItemFactory {
         int primaryColor,
         int secondaryColor
     ) {
-        LOGGER.info("Создание и регистрация яйца спавна: {}.{}", modId, itemId);
+        LOGGER.debug("Создание и регистрация яйца спавна: {}.{}", modId, itemId);
         return ItemRegistry.registerItem(
             modId,
             itemId,
@@ -69,6 +69,39 @@ public abstract class ItemFactory {
         );
     }
 
+    /**
+     * Создает и регистрирует яйцо спавна, создающее сразу группу мобов.
+     *
+     * @param modId ID мода
+     * @param itemId ID предмета
+     * @param entityType поставщик типа сущности
+     * @param primaryColor основной цвет яйца
+     * @param secondaryColor вторичный цвет яйца
+     * @param count количество мобов за одно использование
+     * @return объект регистрации яйца спавна
+     */
+    public static RegistryObject<Item> createBatchSpawnEgg(
+        String modId,
+        String itemId,
+        Supplier<? extends EntityType<? extends Mob>> entityType,
+        int primaryColor,
+        int secondaryColor,
+        int count
+    ) {
+        LOGGER.debug("Создание и регистрация яйца пакетного спавна: {}.{}", modId, itemId);
+        return ItemRegistry.registerItem(
+            modId,
+            itemId,
+            () -> new BatchSpawnEggItem(
+                entityType,
+                primaryColor,
+                secondaryColor,
+                count,
+                new Item.Properties()
+            )
+        );
+    }
+
     /**
      * Создает и регистрирует предмет еды.
      *
@@ -82,7 +115,7 @@ public abstract class ItemFactory {
         String itemId,
         FoodProperties foodProperties
     ) {
-        LOGGER.info("Создание и регистрация предмета еды: {}.{}", modId, itemId);
+        LOGGER.debug("Создание и регистрация предмета еды: {}.{}", modId, itemId);
         return ItemRegistry.registerItem(
             modId,
             itemId,
@@ -122,11 +155,11 @@ public abstract class ItemFactory {
         float attackSpeed,
         Item.Properties properties
     ) {
-        LOGGER.info("Создание и регистрация кирки: {}.{}", modId, itemId);
+        LOGGER.debug("Создание и регистрация кирки: {}.{}", modId, itemId);
         return ItemRegistry.registerItem(
             modId,
             itemId,
-            () -> new PickaxeItem(tier, attackDamage, attackSpeed, properties)
+            () -> new BasePickaxeItem(tier, attackDamage, attackSpeed, properties)
         );
     }
 
@@ -149,11 +182,11 @@ public abstract class ItemFactory {
         float attackSpeed,
         Item.Properties properties
     ) {
-        LOGGER.info("Создание и регистрация топора: {}.{}", modId, itemId);
+        LOGGER.debug("Создание и регистрация топора: {}.{}", modId, itemId);
         return ItemRegistry.registerItem(
             modId,
             itemId,
-            () -> new AxeItem(tier, attackDamage, attackSpeed, properties)
+            () -> new BaseAxeItem(tier, attackDamage, attackSpeed, properties)
         );
     }
 
@@ -176,11 +209,11 @@ public abstract class ItemFactory {
         float attackSpeed,
         Item.Properties properties
     ) {
-        LOGGER.info("Создание и регистрация лопаты: {}.{}", modId, itemId);
+        LOGGER.debug("Создание и регистрация лопаты: {}.{}", modId, itemId);
         return ItemRegistry.registerItem(
             modId,
             itemId,
-            () -> new ShovelItem(tier, attackDamage, attackSpeed, properties)
+            () -> new BaseShovelItem(tier, attackDamage, attackSpeed, properties)
         );
     }
 
@@ -203,11 +236,11 @@ public abstract class ItemFactory {
         float attackSpeed,
         Item.Properties properties
     ) {
-        LOGGER.info("Создание и регистрация мотыги: {}.{}", modId, itemId);
+        LOGGER.debug("Создание и регистрация мотыги: {}.{}", modId, itemId);
         return ItemRegistry.registerItem(
             modId,
             itemId,
-            () -> new HoeItem(tier, attackDamage, attackSpeed, properties)
+            () -> new BaseHoeItem(tier, attackDamage, attackSpeed, properties)
         );
     }
 
@@ -230,11 +263,11 @@ public abstract class ItemFactory {
         float attackSpeed,
         Item.Properties properties
     ) {
-        LOGGER.info("Создание и регистрация меча: {}.{}", modId, itemId);
+        LOGGER.debug("Создание и регистрация меча: {}.{}", modId, itemId);
         return ItemRegistry.registerItem(
             modId,
             itemId,
-            () -> new SwordItem(tier, attackDamage, attackSpeed, properties)
+            () -> new BaseSwordItem(tier, attackDamage, attackSpeed, properties)
         );
     }
 
@@ -255,11 +288,11 @@ public abstract class ItemFactory {
         ArmorItem.Type slot,
         Item.Properties properties
     ) {
-        LOGGER.info("Создание и регистрация брони для слота {}: {}.{}", slot, modId, itemId);
+        LOGGER.debug("Создание и регистрация брони для слота {}: {}.{}", slot, modId, itemId);
         return ItemRegistry.registerItem(
             modId,
             itemId,
-            () -> new ArmorItem(material, slot, properties)
+            () -> new BaseArmorItem(material, slot, properties)
         );
     }
 }
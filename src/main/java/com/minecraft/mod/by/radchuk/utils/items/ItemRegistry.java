@@ -1,19 +1,25 @@
 package com.minecraft.mod.by.radchuk.utils.items;
 
+import com.minecraft.mod.by.radchuk.utils.items.materials.BlockMiningIndex;
+import com.minecraft.mod.by.radchuk.utils.items.materials.RepairIngredientIndex;
+import com.minecraft.mod.by.radchuk.utils.registry.StagedRegister;
 import net.minecraft.world.item.*;
 import net.minecraftforge.eventbus.api.IEventBus;
-import net.minecraftforge.registries.DeferredRegister;
 import net.minecraftforge.registries.ForgeRegistries;
 import net.minecraftforge.registries.RegistryObject;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 /**
  * Универсальный регистратор предметов.
  * Может использоваться в любом моде.
+ * <p>
+ * Предметы можно добавлять из нескольких потоков, например при параллельном
+ * создании модов Forge: они накапливаются в {@link StagedRegister}
+ * и регистрируются в порядке ID при событии регистрации предметов.
  */
 public abstract class ItemRegistry {
     /**
@@ -24,7 +30,7 @@ public abstract class ItemRegistry {
     /**
      * Хранилище регистров предметов для разных модов.
      */
-    private static final Map<String, DeferredRegister<Item>> MOD_ITEM_REGISTRIES = new HashMap<>();
+    private static final Map<String, StagedRegister<Item>> MOD_ITEM_REGISTRIES = new ConcurrentHashMap<>();
 
     /**
      * Получает или создает регистр предметов для указанного мода.
@@ -32,11 +38,11 @@ public abstract class ItemRegistry {
      * @param modId ID мода
      * @return регистр предметов для мода
      */
-    public static DeferredRegister<Item> getItemRegistry(String modId) {
+    public static StagedRegister<Item> getItemRegistry(String modId) {
         return MOD_ITEM_REGISTRIES.computeIfAbsent(modId,
             id -> {
                 LOGGER.debug("Создание регистра предметов для мода: {}", id);
-                return DeferredRegister.create(ForgeRegistries.ITEMS, id);
+                return StagedRegister.create(ForgeRegistries.ITEMS, id);
             });
     }
 
@@ -50,7 +56,7 @@ public abstract class ItemRegistry {
      */
     public static <T extends Item> RegistryObject<T> registerItem(String modId, String itemId, Supplier<T> itemSupplier) {
         LOGGER.debug("Регистрация предмета: {}.{}", modId, itemId);
-        return getItemRegistry(modId).register(itemId, itemSupplier);
+        return getItemRegistry(modId).stage(itemId, itemSupplier);
     }
 
     /**
@@ -60,10 +66,13 @@ public abstract class ItemRegistry {
      * @param eventBus шина событий Forge
      */
     public static void registerItemsForMod(String modId, IEventBus eventBus) {
-        DeferredRegister<Item> registry = getItemRegistry(modId);
-        LOGGER.info("Регистрация предметов для мода: {}", modId);
-        LOGGER.info("Количество предметов для регистрации: {}", registry.getEntries().size());
+        StagedRegister<Item> registry = getItemRegistry(modId);
+        LOGGER.debug("Регистрация предметов для мода: {}", modId);
+        LOGGER.debug("Количество предметов для регистрации: {}", registry.size());
         registry.register(eventBus);
-        LOGGER.info("Завершение регистрации предметов для мода: {}", modId);
+        // Предметы фабрики проверяют ингредиенты ремонта и добычу блоков через общие индексы
+        RepairIngredientIndex.register();
+        BlockMiningIndex.register();
+        LOGGER.debug("Завершение регистрации предметов для мода: {}", modId);
     }
 }
@@ -2,13 +2,19 @@ package com.minecraft.mod.by.radchuk.utils.items.materials;
 
 import net.minecraft.sounds.SoundEvent;
 import net.minecraft.sounds.SoundEvents;
+import net.minecraft.util.LazyLoadedValue;
 import net.minecraft.world.item.ArmorItem;
 import net.minecraft.world.item.ArmorMaterial;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.Items;
 import net.minecraft.world.item.crafting.Ingredient;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 /**
@@ -18,15 +24,32 @@ import java.util.function.Supplier;
  * <p>
  * Этот класс можно использовать в любом моде без изменений,
  * просто указав ID вашего мода при создании материала.
+ * <p>
+ * Прочность, защита по типам брони и полное имя вычисляются один раз
+ * при создании материала, а ингредиент ремонта - при первом обращении.
+ * Все созданные материалы доступны по полному имени через {@link #get(String)}.
  */
 public class BaseArmorMaterial implements ArmorMaterial {
+    /**
+     * Базовая прочность по индексу слота брони (ботинки, поножи, нагрудник, шлем).
+     */
+    private static final int[] BASE_DURABILITY = new int[]{13, 15, 16, 11};
+
+    /**
+     * Все созданные материалы по полному имени.
+     */
+    private static final Map<String, BaseArmorMaterial> MATERIALS = new ConcurrentHashMap<>();
+
     private final String modId;
     private final String name;
+    private final String fullName;
     private final int durabilityMultiplier;
     private final int[] protectionAmounts;
+    private final int[] durabilityByType;
+    private final int[] defenseByType;
     private final int enchantability;
     private final SoundEvent equipSound;
-    private final Supplier<Ingredient> repairIngredient;
+    private final LazyLoadedValue<Ingredient> repairIngredient;
     private final float toughness;
     private final float knockbackResistance;
     private final int fireResistance;
@@ -49,24 +72,54 @@ public class BaseArmorMaterial implements ArmorMaterial {
     ) {
         this.modId = modId;
         this.name = name;
+        this.fullName = modId + ":" + name;
         this.durabilityMultiplier = durabilityMultiplier;
-        this.protectionAmounts = protectionAmounts;
+        this.protectionAmounts = protectionAmounts.clone();
         this.enchantability = enchantability;
         this.equipSound = equipSound;
-        this.repairIngredient = repairIngredient;
+        this.repairIngredient = new LazyLoadedValue<>(repairIngredient);
         this.toughness = toughness;
         this.knockbackResistance = knockbackResistance;
         this.fireResistance = fireResistance;
+
+        // Таблицы по типам брони, индекс - порядковый номер типа
+        ArmorItem.Type[] types = ArmorItem.Type.values();
+        this.durabilityByType = new int[types.length];
+        this.defenseByType = new int[types.length];
+        for (ArmorItem.Type type : types) {
+            int slot = type.getSlot().getIndex();
+            this.durabilityByType[type.ordinal()] = BASE_DURABILITY[slot] * durabilityMultiplier;
+            this.defenseByType[type.ordinal()] = this.protectionAmounts[slot];
+        }
+    }
+
+    /**
+     * Возвращает созданный материал по полному имени.
+     *
+     * @param fullName полное имя материала в формате modid:name
+     * @return материал или null, если материал с таким именем не создавался
+     */
+    public static @Nullable BaseArmorMaterial get(String fullName) {
+        return MATERIALS.get(fullName);
+    }
+
+    /**
+     * Возвращает все созданные материалы.
+     *
+     * @return неизменяемая коллекция материалов
+     */
+    public static Collection<BaseArmorMaterial> all() {
+        return Collections.unmodifiableCollection(MATERIALS.values());
     }
 
     @Override
     public int getDurabilityForType(ArmorItem.Type type) {
-        return new int[]{13, 15, 16, 11}[type.getSlot().getIndex()] * this.durabilityMultiplier;
+        return this.durabilityByType[type.ordinal()];
     }
 
     @Override
     public int getDefenseForType(ArmorItem.Type type) {
-        return this.protectionAmounts[type.getSlot().getIndex()];
+        return this.defenseByType[type.ordinal()];
     }
 
     @Override
@@ -86,7 +139,7 @@ public class BaseArmorMaterial implements ArmorMaterial {
 
     @Override
     public @NotNull String getName() {
-        return this.modId + ":" + this.name;
+        return this.fullName;
     }
 
     @Override
@@ -239,12 +292,14 @@ public class BaseArmorMaterial implements ArmorMaterial {
         }
 
         /**
-         * Создает материал брони с указанными параметрами.
+         * Создает материал брони с указанными параметрами
+         * и добавляет его в общий список материалов.
          *
          * @return новый материал брони
+         * @throws IllegalStateException если материал с таким именем уже создан
          */
         public BaseArmorMaterial build() {
-            return new BaseArmorMaterial(
+            BaseArmorMaterial material = new BaseArmorMaterial(
                 modId,
                 name,
                 durabilityMultiplier,
@@ -256,6 +311,10 @@ public class BaseArmorMaterial implements ArmorMaterial {
                 knockbackResistance,
                 fireResistance
             );
+            if (MATERIALS.putIfAbsent(material.getName(), material) != null) {
+                throw new IllegalStateException("Материал брони уже создан: " + material.getName());
+            }
+            return material;
         }
     }
 
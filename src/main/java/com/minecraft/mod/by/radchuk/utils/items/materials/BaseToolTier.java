@@ -0,0 +1,373 @@
+package com.minecraft.mod.by.radchuk.utils.items.materials;
+
+import net.minecraft.tags.TagKey;
+import net.minecraft.util.LazyLoadedValue;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.Tier;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.level.block.Block;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Базовый класс для определения уровня материала инструментов.
+ * Предоставляет гибкий и удобный способ создания уровней инструментов
+ * с использованием паттерна Builder.
+ * <p>
+ * Этот класс можно использовать в любом моде без изменений,
+ * просто указав ID вашего мода при создании уровня.
+ * <p>
+ * Скорость добычи и пригодность инструментов этого уровня для блоков
+ * вычисляются заранее через {@link BlockMiningIndex}.
+ * Все созданные уровни доступны по полному имени через {@link #get(String)}.
+ */
+public class BaseToolTier implements Tier {
+    /**
+     * Все созданные уровни по полному имени.
+     */
+    private static final Map<String, BaseToolTier> TIERS = new ConcurrentHashMap<>();
+
+    private final String modId;
+    private final String name;
+    private final String fullName;
+    private final int uses;
+    private final float speed;
+    private final float attackDamageBonus;
+    private final int level;
+    private final int enchantability;
+    private final LazyLoadedValue<Ingredient> repairIngredient;
+    private final @Nullable TagKey<Block> tag;
+
+    /**
+     * Приватный конструктор для создания уровня инструментов.
+     * Используется Builder для создания экземпляров.
+     */
+    private BaseToolTier(
+        String modId,
+        String name,
+        int uses,
+        float speed,
+        float attackDamageBonus,
+        int level,
+        int enchantability,
+        Supplier<Ingredient> repairIngredient,
+        @Nullable TagKey<Block> tag
+    ) {
+        this.modId = modId;
+        this.name = name;
+        this.fullName = modId + ":" + name;
+        this.uses = uses;
+        this.speed = speed;
+        this.attackDamageBonus = attackDamageBonus;
+        this.level = level;
+        this.enchantability = enchantability;
+        this.repairIngredient = new LazyLoadedValue<>(repairIngredient);
+        this.tag = tag;
+    }
+
+    /**
+     * Возвращает созданный уровень по полному имени.
+     *
+     * @param fullName полное имя уровня в формате modid:name
+     * @return уровень или null, если уровень с таким именем не создавался
+     */
+    public static @Nullable BaseToolTier get(String fullName) {
+        return TIERS.get(fullName);
+    }
+
+    /**
+     * Возвращает все созданные уровни.
+     *
+     * @return неизменяемая коллекция уровней
+     */
+    public static Collection<BaseToolTier> all() {
+        return Collections.unmodifiableCollection(TIERS.values());
+    }
+
+    /**
+     * Возвращает полное имя уровня.
+     *
+     * @return имя в формате modid:name
+     */
+    public String getName() {
+        return this.fullName;
+    }
+
+    @Override
+    public int getUses() {
+        return this.uses;
+    }
+
+    @Override
+    public float getSpeed() {
+        return this.speed;
+    }
+
+    @Override
+    public float getAttackDamageBonus() {
+        return this.attackDamageBonus;
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public int getLevel() {
+        return this.level;
+    }
+
+    @Override
+    public int getEnchantmentValue() {
+        return this.enchantability;
+    }
+
+    @Override
+    public @NotNull Ingredient getRepairIngredient() {
+        return this.repairIngredient.get();
+    }
+
+    @Override
+    public @Nullable TagKey<Block> getTag() {
+        return this.tag;
+    }
+
+    @Override
+    public String toString() {
+        return this.fullName;
+    }
+
+    /**
+     * Builder для создания уровня инструментов.
+     */
+    public static class Builder {
+        private final String modId;
+        private final String name;
+        private int uses = 250;
+        private float speed = 6.0f;
+        private float attackDamageBonus = 2.0f;
+        private int level = 2;
+        private int enchantability = 14;
+        private Supplier<Ingredient> repairIngredient = () -> Ingredient.EMPTY;
+        private @Nullable TagKey<Block> tag;
+
+        /**
+         * Создает новый Builder для уровня инструментов.
+         *
+         * @param modId ID мода
+         * @param name  имя уровня
+         */
+        public Builder(String modId, String name) {
+            this.modId = modId;
+            this.name = name;
+        }
+
+        /**
+         * Устанавливает прочность инструментов.
+         *
+         * @param uses количество использований
+         * @return этот Builder
+         */
+        public Builder uses(int uses) {
+            this.uses = uses;
+            return this;
+        }
+
+        /**
+         * Устанавливает скорость добычи подходящих блоков.
+         *
+         * @param speed скорость добычи
+         * @return этот Builder
+         */
+        public Builder speed(float speed) {
+            this.speed = speed;
+            return this;
+        }
+
+        /**
+         * Устанавливает бонус урона атаки.
+         *
+         * @param attackDamageBonus бонус урона
+         * @return этот Builder
+         */
+        public Builder attackDamageBonus(float attackDamageBonus) {
+            this.attackDamageBonus = attackDamageBonus;
+            return this;
+        }
+
+        /**
+         * Устанавливает уровень добычи (0 - дерево, 1 - камень, 2 - железо, 3 - алмаз, 4 - незерит).
+         *
+         * @param level уровень добычи
+         * @return этот Builder
+         */
+        public Builder level(int level) {
+            this.level = level;
+            return this;
+        }
+
+        /**
+         * Устанавливает уровень зачарования инструментов.
+         *
+         * @param enchantability уровень зачарования
+         * @return этот Builder
+         */
+        public Builder enchantability(int enchantability) {
+            this.enchantability = enchantability;
+            return this;
+        }
+
+        /**
+         * Устанавливает ингредиент для ремонта инструментов.
+         *
+         * @param repairIngredient ингредиент для ремонта
+         * @return этот Builder
+         */
+        public Builder repairIngredient(Supplier<Ingredient> repairIngredient) {
+            this.repairIngredient = repairIngredient;
+            return this;
+        }
+
+        /**
+         * Устанавливает ингредиент для ремонта инструментов из предмета.
+         *
+         * @param item предмет для ремонта
+         * @return этот Builder
+         */
+        public Builder repairItem(Item item) {
+            this.repairIngredient = () -> Ingredient.of(item);
+            return this;
+        }
+
+        /**
+         * Устанавливает тег блоков, требующих этот уровень.
+         * Используется Forge, если уровень зарегистрирован в {@code TierSortingRegistry}.
+         *
+         * @param tag тег блоков
+         * @return этот Builder
+         */
+        public Builder tag(TagKey<Block> tag) {
+            this.tag = tag;
+            return this;
+        }
+
+        /**
+         * Создает уровень инструментов с указанными параметрами
+         * и добавляет его в общий список уровней.
+         *
+         * @return новый уровень инструментов
+         * @throws IllegalStateException если уровень с таким именем уже создан
+         */
+        public BaseToolTier build() {
+            BaseToolTier tier = new BaseToolTier(
+                modId,
+                name,
+                uses,
+                speed,
+                attackDamageBonus,
+                level,
+                enchantability,
+                repairIngredient,
+                tag
+            );
+            if (TIERS.putIfAbsent(tier.getName(), tier) != null) {
+                throw new IllegalStateException("Уровень инструментов уже создан: " + tier.getName());
+            }
+            return tier;
+        }
+    }
+
+    /**
+     * Фабричные методы для создания стандартных уровней инструментов
+     */
+    public static class Factory {
+        /**
+         * Создает уровень, похожий на каменный, но с измененными параметрами.
+         *
+         * @param modId ID мода
+         * @param name  имя уровня
+         * @return Builder для дальнейшей настройки
+         */
+        public static Builder stoneLike(String modId, String name) {
+            return new Builder(modId, name)
+                .uses(131)
+                .speed(4.0f)
+                .attackDamageBonus(1.0f)
+                .level(1)
+                .enchantability(5)
+                .repairItem(Items.COBBLESTONE);
+        }
+
+        /**
+         * Создает уровень, похожий на железный, но с измененными параметрами.
+         *
+         * @param modId ID мода
+         * @param name  имя уровня
+         * @return Builder для дальнейшей настройки
+         */
+        public static Builder ironLike(String modId, String name) {
+            return new Builder(modId, name)
+                .uses(250)
+                .speed(6.0f)
+                .attackDamageBonus(2.0f)
+                .level(2)
+                .enchantability(14)
+                .repairItem(Items.IRON_INGOT);
+        }
+
+        /**
+         * Создает уровень, похожий на золотой, но с измененными параметрами.
+         *
+         * @param modId ID мода
+         * @param name  имя уровня
+         * @return Builder для дальнейшей настройки
+         */
+        public static Builder goldLike(String modId, String name) {
+            return new Builder(modId, name)
+                .uses(32)
+                .speed(12.0f)
+                .attackDamageBonus(0.0f)
+                .level(0)
+                .enchantability(22)
+                .repairItem(Items.GOLD_INGOT);
+        }
+
+        /**
+         * Создает уровень, похожий на алмазный, но с измененными параметрами.
+         *
+         * @param modId ID мода
+         * @param name  имя уровня
+         * @return Builder для дальнейшей настройки
+         */
+        public static Builder diamondLike(String modId, String name) {
+            return new Builder(modId, name)
+                .uses(1561)
+                .speed(8.0f)
+                .attackDamageBonus(3.0f)
+                .level(3)
+                .enchantability(10)
+                .repairItem(Items.DIAMOND);
+        }
+
+        /**
+         * Создает уровень, похожий на незеритовый, но с измененными параметрами.
+         *
+         * @param modId ID мода
+         * @param name  имя уровня
+         * @return Builder для дальнейшей настройки
+         */
+        public static Builder netheriteLike(String modId, String name) {
+            return new Builder(modId, name)
+                .uses(2031)
+                .speed(9.0f)
+                .attackDamageBonus(4.0f)
+                .level(4)
+                .enchantability(15)
+                .repairItem(Items.NETHERITE_INGOT);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.minecraft.mod.by.radchuk.utils.items.materials;
+
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.item.Tier;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.common.TierSortingRegistry;
+import net.minecraftforge.event.TagsUpdatedEvent;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Индекс добычи блоков инструментами.
+ * <p>
+ * Для каждой пары из уровня инструмента и тега добываемых блоков при первой
+ * проверке строятся битовые множества по числовым идентификаторам состояний
+ * блоков: добывается ли блок инструментом быстро и выпадает ли из него добыча.
+ * После этого проверки скорости добычи, которые выполняются каждый тик, пока
+ * игрок ломает блок, - это чтение одного бита вместо проверки тегов.
+ * <p>
+ * Таблицы пересобираются после перезагрузки тегов. Порядок уровней Forge
+ * синхронизируется с сервером до получения тегов, поэтому он тоже учитывается.
+ */
+public final class BlockMiningIndex {
+    private static final Map<Key, Table> TABLES = new ConcurrentHashMap<>();
+    private static final AtomicInteger GENERATION = new AtomicInteger();
+    private static final AtomicBoolean REGISTERED = new AtomicBoolean();
+
+    /**
+     * Приватный конструктор для предотвращения создания экземпляров класса.
+     */
+    private BlockMiningIndex() {}
+
+    /**
+     * Подписывает индекс на перезагрузку тегов.
+     * Повторные вызовы игнорируются.
+     */
+    public static void register() {
+        if (REGISTERED.compareAndSet(false, true)) {
+            MinecraftForge.EVENT_BUS.addListener(BlockMiningIndex::onTagsUpdated);
+        }
+    }
+
+    /**
+     * Возвращает таблицу добычи для уровня инструмента и тега блоков.
+     * Инструменты с одинаковыми уровнем и тегом используют общую таблицу.
+     *
+     * @param tier Уровень инструмента
+     * @param blocks Тег блоков, добываемых инструментом
+     * @return Таблица добычи
+     */
+    public static Table table(Tier tier, TagKey<Block> blocks) {
+        return TABLES.computeIfAbsent(new Key(tier, blocks), key -> new Table(key.tier(), key.blocks()));
+    }
+
+    private static void onTagsUpdated(TagsUpdatedEvent event) {
+        // Состав тегов мог измениться - таблицы соберутся заново при следующей проверке
+        GENERATION.incrementAndGet();
+    }
+
+    private record Key(Tier tier, TagKey<Block> blocks) {}
+
+    /**
+     * Таблица добычи блоков для одного уровня инструмента и тега блоков.
+     */
+    public static final class Table {
+        private final Tier tier;
+        private final TagKey<Block> blocks;
+        private volatile Lookup lookup;
+
+        private Table(Tier tier, TagKey<Block> blocks) {
+            this.tier = tier;
+            this.blocks = blocks;
+        }
+
+        /**
+         * Входит ли блок в тег блоков, добываемых инструментом.
+         * Для таких блоков инструмент работает со скоростью своего уровня.
+         *
+         * @param state Состояние блока
+         * @return true, если блок добывается инструментом быстро
+         */
+        public boolean isMineable(BlockState state) {
+            return lookup().mineable.get(Block.getId(state));
+        }
+
+        /**
+         * Выпадает ли из блока добыча при добыче этим инструментом.
+         * Результат совпадает с {@code DiggerItem#isCorrectToolForDrops(ItemStack, BlockState)}.
+         *
+         * @param state Состояние блока
+         * @return true, если инструмент подходит для добычи
+         */
+        public boolean isCorrectToolForDrops(BlockState state) {
+            return lookup().correct.get(Block.getId(state));
+        }
+
+        private Lookup lookup() {
+            Lookup current = lookup;
+            int generation = GENERATION.get();
+            if (current == null || current.generation != generation) {
+                current = compile(generation);
+                lookup = current;
+            }
+            return current;
+        }
+
+        private Lookup compile(int generation) {
+            BitSet mineable = new BitSet(Block.BLOCK_STATE_REGISTRY.size());
+            BitSet correct = new BitSet(Block.BLOCK_STATE_REGISTRY.size());
+            for (BlockState state : Block.BLOCK_STATE_REGISTRY) {
+                if (!state.is(blocks)) {
+                    continue;
+                }
+                int id = Block.getId(state);
+                mineable.set(id);
+                if (TierSortingRegistry.isCorrectTierForDrops(tier, state)) {
+                    correct.set(id);
+                }
+            }
+            return new Lookup(generation, mineable, correct);
+        }
+    }
+
+    private record Lookup(int generation, BitSet mineable, BitSet correct) {}
+}
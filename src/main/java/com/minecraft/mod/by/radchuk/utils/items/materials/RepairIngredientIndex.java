@@ -0,0 +1,100 @@
+package com.minecraft.mod.by.radchuk.utils.items.materials;
+
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.item.ArmorMaterial;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Tier;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TagsUpdatedEvent;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Индекс ингредиентов ремонта для быстрой проверки предметов.
+ * <p>
+ * Ингредиент ремонта уровня инструментов или материала брони при первой
+ * проверке превращается в битовое множество числовых идентификаторов
+ * предметов из реестра, после чего проверка предмета - это проверка одного
+ * бита. Индекс хранится по экземпляру уровня или материала, а не по
+ * ингредиенту: {@link Ingredient} сравнивается по ссылке, и реализации,
+ * создающие новый ингредиент при каждом вызове {@code getRepairIngredient()},
+ * иначе бесконечно наполняли бы индекс. Индекс очищается после перезагрузки
+ * тегов.
+ * <p>
+ * Ингредиенты Forge, зависящие не только от предмета (например, от NBT),
+ * проверяются стандартным {@link Ingredient#test(ItemStack)}.
+ */
+public final class RepairIngredientIndex {
+    private static final Map<Object, BitSet> INDEX = new ConcurrentHashMap<>();
+    private static final AtomicBoolean REGISTERED = new AtomicBoolean();
+
+    /**
+     * Приватный конструктор для предотвращения создания экземпляров класса.
+     */
+    private RepairIngredientIndex() {}
+
+    /**
+     * Подписывает индекс на перезагрузку тегов.
+     * Повторные вызовы игнорируются.
+     */
+    public static void register() {
+        if (REGISTERED.compareAndSet(false, true)) {
+            MinecraftForge.EVENT_BUS.addListener(RepairIngredientIndex::onTagsUpdated);
+        }
+    }
+
+    /**
+     * Проверяет, подходит ли предмет для ремонта инструмента уровня.
+     * Результат совпадает с {@code tier.getRepairIngredient().test(stack)}.
+     *
+     * @param tier Уровень инструментов
+     * @param stack Проверяемый предмет
+     * @return true, если предмет подходит
+     */
+    public static boolean test(Tier tier, ItemStack stack) {
+        return test(tier, tier.getRepairIngredient(), stack);
+    }
+
+    /**
+     * Проверяет, подходит ли предмет для ремонта брони из материала.
+     * Результат совпадает с {@code material.getRepairIngredient().test(stack)}.
+     *
+     * @param material Материал брони
+     * @param stack Проверяемый предмет
+     * @return true, если предмет подходит
+     */
+    public static boolean test(ArmorMaterial material, ItemStack stack) {
+        return test(material, material.getRepairIngredient(), stack);
+    }
+
+    private static boolean test(Object owner, Ingredient ingredient, ItemStack stack) {
+        if (!ingredient.isSimple()) {
+            return ingredient.test(stack);
+        }
+        if (stack == null) {
+            return false;
+        }
+        if (stack.isEmpty()) {
+            return ingredient.isEmpty();
+        }
+        return INDEX.computeIfAbsent(owner, key -> compile(ingredient))
+            .get(BuiltInRegistries.ITEM.getId(stack.getItem()));
+    }
+
+    private static BitSet compile(Ingredient ingredient) {
+        BitSet items = new BitSet();
+        for (ItemStack stack : ingredient.getItems()) {
+            items.set(BuiltInRegistries.ITEM.getId(stack.getItem()));
+        }
+        return items;
+    }
+
+    private static void onTagsUpdated(TagsUpdatedEvent event) {
+        // Состав тегов мог измениться - индексы соберутся заново при следующей проверке
+        INDEX.clear();
+    }
+}
@@ -0,0 +1,163 @@
+package com.minecraft.mod.by.radchuk.utils.registry;
+
+import net.minecraft.core.Registry;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraftforge.eventbus.api.EventPriority;
+import net.minecraftforge.eventbus.api.IEventBus;
+import net.minecraftforge.registries.DeferredRegister;
+import net.minecraftforge.registries.IForgeRegistry;
+import net.minecraftforge.registries.RegisterEvent;
+import net.minecraftforge.registries.RegistryObject;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Потокобезопасная обертка над {@link DeferredRegister} с промежуточным накоплением записей.
+ * <p>
+ * Записи можно добавлять из любых потоков одновременно, например при разборе
+ * больших наборов контента в рабочих потоках. Они попадают в {@link DeferredRegister}
+ * только при {@link RegisterEvent} нужного реестра, в порядке имен, поэтому
+ * итоговый порядок регистрации не зависит от порядка добавления.
+ * <p>
+ * Пример использования:
+ * <pre>
+ * StagedRegister&lt;Item&gt; items = StagedRegister.create(ForgeRegistries.ITEMS, "mymod");
+ * RegistryObject&lt;Item&gt; ruby = items.stage("ruby", () -&gt; new Item(new Item.Properties()));
+ * items.register(modEventBus);
+ * </pre>
+ *
+ * @param <T> Тип объектов реестра
+ */
+public final class StagedRegister<T> {
+    private final DeferredRegister<T> register;
+    private final String modId;
+    private final Map<String, Supplier<? extends T>> staged = new ConcurrentHashMap<>();
+    /**
+     * Добавление записей берет блокировку чтения и не мешает другим потокам,
+     * фиксация берет блокировку записи и дожидается начатых добавлений.
+     */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean attached = new AtomicBoolean();
+    private volatile boolean committed;
+
+    private StagedRegister(DeferredRegister<T> register, String modId) {
+        this.register = register;
+        this.modId = modId;
+    }
+
+    /**
+     * Создает регистр для реестра Forge.
+     *
+     * @param registry Реестр Forge
+     * @param modId ID мода
+     * @param <T> Тип объектов реестра
+     * @return Новый регистр
+     */
+    public static <T> StagedRegister<T> create(IForgeRegistry<T> registry, String modId) {
+        return new StagedRegister<>(DeferredRegister.create(registry, modId), modId);
+    }
+
+    /**
+     * Создает регистр для реестра по его ключу.
+     *
+     * @param key Ключ реестра
+     * @param modId ID мода
+     * @param <T> Тип объектов реестра
+     * @return Новый регистр
+     */
+    public static <T> StagedRegister<T> create(ResourceKey<? extends Registry<T>> key, String modId) {
+        return new StagedRegister<>(DeferredRegister.create(key, modId), modId);
+    }
+
+    /**
+     * Добавляет запись. Безопасно вызывать из нескольких потоков.
+     *
+     * @param name Имя записи без ID мода
+     * @param supplier Поставщик объекта, вызывается при регистрации
+     * @param <I> Тип объекта
+     * @return Объект регистрации, который заполнится после регистрации реестра
+     * @throws IllegalArgumentException если запись с таким именем уже добавлена
+     * @throws IllegalStateException если записи уже зафиксированы
+     */
+    public <I extends T> RegistryObject<I> stage(String name, Supplier<? extends I> supplier) {
+        lock.readLock().lock();
+        try {
+            if (committed) {
+                throw new IllegalStateException("Записи " + modId + " для " + register.getRegistryName() + " уже зафиксированы: " + name);
+            }
+            if (staged.putIfAbsent(name, supplier) != null) {
+                throw new IllegalArgumentException("Повторная регистрация: " + modId + ":" + name);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return RegistryObject.create(new ResourceLocation(modId, name), register.getRegistryName(), modId);
+    }
+
+    /**
+     * Возвращает количество добавленных записей.
+     *
+     * @return Количество записей
+     */
+    public int size() {
+        return committed ? register.getEntries().size() : staged.size();
+    }
+
+    /**
+     * Возвращает зарегистрированные записи.
+     * До фиксации коллекция пуста.
+     *
+     * @return Неизменяемая коллекция объектов регистрации
+     */
+    public Collection<RegistryObject<T>> getEntries() {
+        return register.getEntries();
+    }
+
+    /**
+     * Подключает регистр к шине событий мода.
+     * Повторные вызовы игнорируются.
+     *
+     * @param modEventBus Шина событий мода
+     */
+    public void register(IEventBus modEventBus) {
+        if (attached.compareAndSet(false, true)) {
+            // Записи передаются до обработчика DeferredRegister с обычным приоритетом
+            modEventBus.addListener(EventPriority.HIGH, this::commit);
+            register.register(modEventBus);
+            StartupReport.get(modId).attach(modEventBus);
+        }
+    }
+
+    private void commit(RegisterEvent event) {
+        if (committed || !event.getRegistryKey().location().equals(register.getRegistryName())) {
+            return;
+        }
+        StartupReport report = StartupReport.get(modId);
+        // Объекты создаются позже, в обработчике DeferredRegister, поэтому замеряются сами вызовы поставщиков
+        String phase = "RegisterEvent " + register.getRegistryName();
+        lock.writeLock().lock();
+        try {
+            if (committed) {
+                return;
+            }
+            committed = true;
+            staged.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEachOrdered(entry -> {
+                    Supplier<? extends T> supplier = entry.getValue();
+                    register.register(entry.getKey(), () -> report.measure(phase, supplier));
+                });
+            report.count(register.getRegistryName().getPath(), staged.size());
+            staged.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package com.minecraft.mod.by.radchuk.utils.registry;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import net.minecraftforge.eventbus.api.IEventBus;
+import net.minecraftforge.fml.event.lifecycle.FMLLoadCompleteEvent;
+import net.minecraftforge.fml.loading.FMLPaths;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Отчет о времени этапов запуска мода.
+ * <p>
+ * Этапы регистрации замеряются через {@link #begin(String)} и выводятся
+ * одной сводкой при {@link FMLLoadCompleteEvent}: время, выделенная память
+ * потока и количество зарегистрированных объектов по реестрам.
+ * С параметром JVM {@code -Dradchuk.startupReport=true} сводка дополнительно
+ * записывается в {@code radchuk-startup-<modid>.json} в папке запуска.
+ * <p>
+ * Пример использования:
+ * <pre>
+ * try (StartupReport.Phase phase = StartupReport.get("mymod").begin("ModItems.register")) {
+ *     ItemRegistry.registerItemsForMod("mymod", modEventBus);
+ * }
+ * </pre>
+ */
+public final class StartupReport {
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final Map<String, StartupReport> REPORTS = new ConcurrentHashMap<>();
+
+    /**
+     * Параметр JVM, включающий запись отчета в файл.
+     */
+    public static final String WRITE_PROPERTY = "radchuk.startupReport";
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final String modId;
+    private final long createdNanos = System.nanoTime();
+    private final List<Phase> phases = new ArrayList<>();
+    private final Map<String, Integer> counts = new ConcurrentHashMap<>();
+    private final Map<String, Phase> totals = new ConcurrentHashMap<>();
+    private final ThreadLocal<Integer> depth = ThreadLocal.withInitial(() -> 0);
+    private final AtomicBoolean attached = new AtomicBoolean();
+    private final AtomicBoolean reported = new AtomicBoolean();
+
+    private StartupReport(String modId) {
+        this.modId = modId;
+    }
+
+    /**
+     * Возвращает отчет мода, создавая его при первом обращении.
+     *
+     * @param modId ID мода
+     * @return Отчет мода
+     */
+    public static StartupReport get(String modId) {
+        return REPORTS.computeIfAbsent(modId, StartupReport::new);
+    }
+
+    /**
+     * Подключает вывод сводки к шине событий мода.
+     * Повторные вызовы игнорируются.
+     *
+     * @param modEventBus Шина событий мода
+     */
+    public void attach(IEventBus modEventBus) {
+        if (attached.compareAndSet(false, true)) {
+            modEventBus.addListener(this::onLoadComplete);
+        }
+    }
+
+    /**
+     * Начинает замер этапа. Этап завершается вызовом {@link Phase#close()},
+     * этапы, начатые внутри другого этапа того же потока, выводятся вложенными.
+     *
+     * @param name Название этапа
+     * @return Замер этапа
+     */
+    public Phase begin(String name) {
+        int level = depth.get();
+        depth.set(level + 1);
+        Phase phase = new Phase(name, level);
+        synchronized (phases) {
+            phases.add(phase);
+        }
+        return phase;
+    }
+
+    /**
+     * Выполняет действие и добавляет его время к суммарному этапу.
+     * Этап с таким названием создается при первом вызове и выводится одной строкой,
+     * например суммарное время вызовов поставщиков при регистрации.
+     *
+     * @param name Название суммарного этапа
+     * @param action Замеряемое действие
+     * @param <T> Тип результата
+     * @return Результат действия
+     */
+    public <T> T measure(String name, Supplier<T> action) {
+        Phase total = totals.computeIfAbsent(name, key -> {
+            Phase phase = new Phase(key, depth.get());
+            phase.nanos = 0;
+            phase.bytes = 0;
+            synchronized (phases) {
+                phases.add(phase);
+            }
+            return phase;
+        });
+        depth.set(depth.get() + 1);
+        long startBytes = allocatedBytes();
+        long startNanos = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            long endNanos = System.nanoTime();
+            long endBytes = allocatedBytes();
+            total.add(endNanos - startNanos, startBytes >= 0 && endBytes >= 0 ? endBytes - startBytes : -1);
+            depth.set(Math.max(depth.get() - 1, 0));
+        }
+    }
+
+    /**
+     * Добавляет количество объектов к счетчику отчета.
+     *
+     * @param key Название счетчика
+     * @param amount Количество
+     */
+    public void count(String key, int amount) {
+        counts.merge(key, amount, Integer::sum);
+    }
+
+    private void onLoadComplete(FMLLoadCompleteEvent event) {
+        if (!reported.compareAndSet(false, true)) {
+            return;
+        }
+        List<Phase> finished;
+        synchronized (phases) {
+            finished = phases.stream().filter(phase -> phase.nanos >= 0).toList();
+        }
+        long totalNanos = 0;
+        long totalBytes = 0;
+        for (Phase phase : finished) {
+            if (phase.level == 0) {
+                totalNanos += phase.nanos;
+                totalBytes += Math.max(phase.bytes, 0);
+            }
+        }
+        long sinceCreated = System.nanoTime() - createdNanos;
+
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format(Locale.ROOT,
+            "Запуск мода %s: %d этапов, %.1f мс, %s, до завершения загрузки %.1f мс",
+            modId, finished.size(), millis(totalNanos), megabytes(totalBytes), millis(sinceCreated)));
+        for (Phase phase : finished) {
+            summary.append(String.format(Locale.ROOT, "%n  %-48s %9.1f мс %10s  [%s]",
+                "  ".repeat(phase.level) + phase.name, millis(phase.nanos), megabytes(phase.bytes), phase.thread));
+        }
+        if (!counts.isEmpty()) {
+            summary.append(String.format("%n  Объекты: %s", new TreeMap<>(counts)));
+        }
+        LOGGER.info(summary.toString());
+
+        if (Boolean.getBoolean(WRITE_PROPERTY)) {
+            write(finished, totalNanos, totalBytes, sinceCreated);
+        }
+    }
+
+    private void write(List<Phase> finished, long totalNanos, long totalBytes, long sinceCreated) {
+        JsonObject json = new JsonObject();
+        json.addProperty("modId", modId);
+        json.addProperty("totalNanos", totalNanos);
+        json.addProperty("totalAllocatedBytes", totalBytes);
+        json.addProperty("loadCompleteNanos", sinceCreated);
+        JsonArray phaseArray = new JsonArray();
+        for (Phase phase : finished) {
+            JsonObject entry = new JsonObject();
+            entry.addProperty("name", phase.name);
+            entry.addProperty("depth", phase.level);
+            entry.addProperty("thread", phase.thread);
+            entry.addProperty("nanos", phase.nanos);
+            entry.addProperty("allocatedBytes", phase.bytes);
+            phaseArray.add(entry);
+        }
+        json.add("phases", phaseArray);
+        JsonObject countObject = new JsonObject();
+        new TreeMap<>(counts).forEach(countObject::addProperty);
+        json.add("counts", countObject);
+
+        Path file = FMLPaths.GAMEDIR.get().resolve("radchuk-startup-" + modId + ".json");
+        Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            gson.toJson(json, writer);
+            LOGGER.info("Отчет о запуске мода {} записан в {}", modId, file);
+        } catch (IOException e) {
+            LOGGER.warn("Не удалось записать отчет о запуске мода {}: {}", modId, e.getMessage());
+        }
+    }
+
+    /**
+     * Возвращает количество байт, выделенных текущим потоком,
+     * или -1, если JVM этого не поддерживает.
+     */
+    private static long allocatedBytes() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean threads
+            && threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+            return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static String megabytes(long bytes) {
+        return bytes < 0 ? "н/д" : String.format(Locale.ROOT, "%.2f МБ", bytes / (1024.0 * 1024.0));
+    }
+
+    /**
+     * Замер одного этапа запуска.
+     * Предназначен для использования в try-with-resources в том же потоке, где начат.
+     */
+    public final class Phase implements AutoCloseable {
+        private final String name;
+        private final int level;
+        private final String thread;
+        private final long startNanos;
+        private final long startBytes;
+        private volatile long nanos = -1;
+        private volatile long bytes = -1;
+
+        private Phase(String name, int level) {
+            this.name = name;
+            this.level = level;
+            this.thread = Thread.currentThread().getName();
+            this.startBytes = allocatedBytes();
+            this.startNanos = System.nanoTime();
+        }
+
+        /**
+         * Добавляет замер к суммарному этапу.
+         */
+        private synchronized void add(long addNanos, long addBytes) {
+            this.nanos += addNanos;
+            this.bytes = bytes >= 0 && addBytes >= 0 ? bytes + addBytes : -1;
+        }
+
+        /**
+         * Завершает замер этапа. Повторные вызовы игнорируются.
+         */
+        @Override
+        public void close() {
+            if (nanos >= 0) {
+                return;
+            }
+            long endNanos = System.nanoTime();
+            long endBytes = allocatedBytes();
+            this.bytes = startBytes >= 0 && endBytes >= 0 ? endBytes - startBytes : -1;
+            this.nanos = endNanos - startNanos;
+            depth.set(Math.max(depth.get() - 1, 0));
+        }
+    }
+}
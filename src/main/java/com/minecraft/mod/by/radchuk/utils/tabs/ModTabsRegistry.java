@@ -1,20 +1,30 @@
 package com.minecraft.mod.by.radchuk.utils.tabs;
 
+import com.minecraft.mod.by.radchuk.utils.items.ItemRegistry;
+import com.minecraft.mod.by.radchuk.utils.registry.StagedRegister;
+import com.minecraft.mod.by.radchuk.utils.tabs.search.SearchTreeInstaller;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.world.item.CreativeModeTab;
 import net.minecraft.world.item.Item;
+import net.minecraftforge.eventbus.api.EventPriority;
 import net.minecraftforge.eventbus.api.IEventBus;
-import net.minecraftforge.registries.DeferredRegister;
+import net.minecraftforge.fml.event.lifecycle.FMLClientSetupEvent;
+import net.minecraftforge.registries.RegistryObject;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Supplier;
 
 /**
  * Универсальный регистратор вкладок креативного режима.
  * Может использоваться в любом моде.
+ * <p>
+ * Вкладки можно добавлять из нескольких потоков: они накапливаются
+ * в {@link StagedRegister} и регистрируются в порядке ID.
  */
 public class ModTabsRegistry {
     /**
@@ -25,7 +35,12 @@ public class ModTabsRegistry {
     /**
      * Хранилище регистров вкладок для разных модов.
      */
-    private static final Map<String, DeferredRegister<CreativeModeTab>> MOD_TABS_REGISTRIES = new HashMap<>();
+    private static final Map<String, StagedRegister<CreativeModeTab>> MOD_TABS_REGISTRIES = new ConcurrentHashMap<>();
+
+    /**
+     * Вкладки с индексированным поиском для разных модов.
+     */
+    private static final Map<String, List<RegistryObject<CreativeModeTab>>> MOD_SEARCH_TABS = new ConcurrentHashMap<>();
 
     /**
      * Получает или создает регистр вкладок для указанного мода.
@@ -33,9 +48,9 @@ public class ModTabsRegistry {
      * @param modId ID мода
      * @return регистр вкладок для мода
      */
-    public static DeferredRegister<CreativeModeTab> getTabsRegistry(String modId) {
+    public static StagedRegister<CreativeModeTab> getTabsRegistry(String modId) {
         return MOD_TABS_REGISTRIES.computeIfAbsent(modId,
-            id -> DeferredRegister.create(Registries.CREATIVE_MODE_TAB, id));
+            id -> StagedRegister.create(Registries.CREATIVE_MODE_TAB, id));
     }
 
     /**
@@ -46,8 +61,8 @@ public class ModTabsRegistry {
      * @param iconItem предмет-иконка и единственный предмет во вкладке
      */
     public static void registerSimpleTab(String modId, String tabId, Supplier<Item> iconItem) {
-        LOGGER.info("Регистрация простой вкладки: {}.{}", modId, tabId);
-        getTabsRegistry(modId).register(
+        LOGGER.debug("Регистрация простой вкладки: {}.{}", modId, tabId);
+        getTabsRegistry(modId).stage(
             tabId,
             () -> TabFactory.createSimpleTab(modId, tabId, iconItem)
         );
@@ -64,13 +79,37 @@ public class ModTabsRegistry {
     @SafeVarargs
     public static void registerTabWithItems(
         String modId, String tabId, Supplier<Item> iconItem, Supplier<Item>... items) {
-        LOGGER.info("Регистрация вкладки с предметами: {}.{}", modId, tabId);
-        getTabsRegistry(modId).register(
+        LOGGER.debug("Регистрация вкладки с предметами: {}.{}", modId, tabId);
+        getTabsRegistry(modId).stage(
             tabId,
             () -> TabFactory.createTabWithItems(modId, tabId, iconItem, items)
         );
     }
 
+    /**
+     * Регистрирует вкладку с полем поиска по всем предметам мода.
+     * <p>
+     * Во вкладку попадают все предметы, зарегистрированные через {@link ItemRegistry}
+     * для этого мода. Поиск по ней использует индекс по названиям, ID и тегам
+     * предметов, который строится при пересборке вкладки.
+     *
+     * @param modId    ID мода
+     * @param tabId    идентификатор вкладки
+     * @param iconItem предмет-иконка
+     */
+    public static void registerSearchTab(String modId, String tabId, Supplier<Item> iconItem) {
+        LOGGER.debug("Регистрация вкладки поиска: {}.{}", modId, tabId);
+        RegistryObject<CreativeModeTab> tab = getTabsRegistry(modId).stage(
+            tabId,
+            () -> TabFactory.createSearchTab(modId, tabId, iconItem, consumer -> {
+                for (RegistryObject<Item> item : ItemRegistry.getItemRegistry(modId).getEntries()) {
+                    consumer.accept(item.get());
+                }
+            })
+        );
+        MOD_SEARCH_TABS.computeIfAbsent(modId, id -> new CopyOnWriteArrayList<>()).add(tab);
+    }
+
     /**
      * Регистрирует все вкладки мода в системе событий Forge.
      *
@@ -78,10 +117,18 @@ public class ModTabsRegistry {
      * @param eventBus шина событий Forge
      */
     public static void registerTabsForMod(String modId, IEventBus eventBus) {
-        DeferredRegister<CreativeModeTab> registry = getTabsRegistry(modId);
-        LOGGER.info("Регистрация вкладок для мода: {}", modId);
-        LOGGER.info("Количество вкладок для регистрации: {}", registry.getEntries().size());
+        StagedRegister<CreativeModeTab> registry = getTabsRegistry(modId);
+        LOGGER.debug("Регистрация вкладок для мода: {}", modId);
+        LOGGER.debug("Количество вкладок для регистрации: {}", registry.size());
         registry.register(eventBus);
-        LOGGER.info("Завершение регистрации вкладок для мода: {}", modId);
+        if (MOD_SEARCH_TABS.containsKey(modId)) {
+            // Деревья поиска Minecraft к этому моменту созданы, заменяем их для вкладок поиска
+            eventBus.addListener(EventPriority.NORMAL, false, FMLClientSetupEvent.class, event -> event.enqueueWork(() -> {
+                for (RegistryObject<CreativeModeTab> tab : MOD_SEARCH_TABS.get(modId)) {
+                    SearchTreeInstaller.install(tab.get());
+                }
+            }));
+        }
+        LOGGER.debug("Завершение регистрации вкладок для мода: {}", modId);
     }
 }
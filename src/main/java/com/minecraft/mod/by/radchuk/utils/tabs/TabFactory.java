@@ -27,7 +27,7 @@ public class TabFactory {
      * @return объект регистрации вкладки
      */
     public static CreativeModeTab createTab(String modId, String tabId, Supplier<ItemStack> iconSupplier, Consumer<Consumer<Item>> itemsConsumer) {
-        LOGGER.info("Создание вкладки: {}.{}", modId, tabId);
+        LOGGER.debug("Создание вкладки: {}.{}", modId, tabId);
 
         return CreativeModeTab.builder()
             .title(Component.translatable("itemGroup." + modId + "." + tabId))
@@ -76,6 +76,26 @@ public class TabFactory {
         );
     }
 
+    /**
+     * Создает новую вкладку креативного режима с полем поиска.
+     * Поиск по вкладке подключается отдельно, см. {@code SearchTreeInstaller}.
+     *
+     * @param modId ID мода
+     * @param tabId идентификатор вкладки
+     * @param iconItem предмет, который будет использоваться как иконка
+     * @param itemsConsumer потребитель для добавления предметов во вкладку
+     * @return объект регистрации вкладки
+     */
+    public static CreativeModeTab createSearchTab(String modId, String tabId, Supplier<Item> iconItem, Consumer<Consumer<Item>> itemsConsumer) {
+        return createCustomTab(
+            modId,
+            tabId,
+            () -> new ItemStack(iconItem.get()),
+            CreativeModeTab.Builder::withSearchBar,
+            itemsConsumer
+        );
+    }
+
     /**
      * Создает новую вкладку креативного режима с настраиваемыми свойствами.
      *
@@ -93,7 +113,7 @@ public class TabFactory {
         Consumer<CreativeModeTab.Builder> configurator,
         Consumer<Consumer<Item>> itemsConsumer) {
 
-        LOGGER.info("Создание настраиваемой вкладки: {}.{}", modId, tabId);
+        LOGGER.debug("Создание настраиваемой вкладки: {}.{}", modId, tabId);
 
         CreativeModeTab.Builder builder = CreativeModeTab.builder()
             .title(Component.translatable("itemGroup." + modId + "." + tabId))
@@ -0,0 +1,46 @@
+package com.minecraft.mod.by.radchuk.utils.tabs.search;
+
+import net.minecraft.client.searchtree.RefreshableSearchTree;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Дерево поиска вкладки креативного режима на основе {@link ItemSearchIndex}.
+ * <p>
+ * Заполняется Minecraft содержимым вкладки при ее пересборке, индекс строится
+ * при заполнении и заново при перезагрузке ресурсов, например после смены языка.
+ */
+public class IndexedSearchTree implements RefreshableSearchTree<ItemStack> {
+    private final List<ItemStack> stacks;
+    private final Function<ItemStack, List<String>> terms;
+    private volatile ItemSearchIndex index;
+
+    /**
+     * Создает дерево поиска.
+     *
+     * @param stacks Содержимое вкладки
+     * @param terms Функция индексируемых строк стека
+     */
+    public IndexedSearchTree(List<ItemStack> stacks, Function<ItemStack, List<String>> terms) {
+        this.stacks = List.copyOf(stacks);
+        this.terms = terms;
+    }
+
+    @Override
+    public void refresh() {
+        this.index = ItemSearchIndex.build(stacks, terms);
+    }
+
+    @Override
+    public @NotNull List<ItemStack> search(@NotNull String query) {
+        ItemSearchIndex current = index;
+        if (current == null) {
+            refresh();
+            current = index;
+        }
+        return current.search(query);
+    }
+}
@@ -0,0 +1,226 @@
+package com.minecraft.mod.by.radchuk.utils.tabs.search;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.ItemStack;
+import net.minecraftforge.registries.ForgeRegistries;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Поисковый индекс по стекам предметов.
+ * <p>
+ * Для каждого стека индексируются строки, заданные функцией терминов:
+ * локализованное название и ID предмета ({@link #nameTerms(ItemStack)}) или
+ * его теги ({@link #tagTerms(ItemStack)}). Запрос разбивается на слова, стек
+ * подходит, если подходит каждое слово:
+ * <ul>
+ *   <li>слово короче трех символов ищется как начало слова термина по
+ *   отсортированному массиву слов (двоичный поиск);</li>
+ *   <li>более длинное слово ищется как подстрока: кандидаты берутся из
+ *   пересечения списков стеков по триграммам и проверяются по тексту.</li>
+ * </ul>
+ * Время запроса зависит от числа совпадений, а не от размера каталога.
+ * Индекс неизменяем, названия фиксируются при построении.
+ */
+public final class ItemSearchIndex {
+    private static final int GRAM = 3;
+
+    private final List<ItemStack> stacks;
+    /** Тексты стеков в нижнем регистре, термины разделены переводом строки. */
+    private final String[] texts;
+    /** Отсортированные слова терминов и номера стеков, которым они принадлежат. */
+    private final String[] words;
+    private final int[] owners;
+    /** Возрастающие номера стеков по триграммам текста. */
+    private final Map<String, int[]> grams;
+
+    private ItemSearchIndex(List<ItemStack> stacks, String[] texts, String[] words, int[] owners, Map<String, int[]> grams) {
+        this.stacks = stacks;
+        this.texts = texts;
+        this.words = words;
+        this.owners = owners;
+        this.grams = grams;
+    }
+
+    /**
+     * Строит индекс по стекам.
+     *
+     * @param stacks Стеки в порядке выдачи результатов
+     * @param terms Функция индексируемых строк стека
+     * @return Индекс
+     */
+    public static ItemSearchIndex build(List<ItemStack> stacks, Function<ItemStack, List<String>> terms) {
+        List<ItemStack> copy = List.copyOf(stacks);
+        String[] texts = new String[copy.size()];
+        List<WordEntry> wordEntries = new ArrayList<>();
+        Map<String, IntArrayList> postings = new HashMap<>();
+
+        for (int i = 0; i < copy.size(); i++) {
+            List<String> stackTerms = terms.apply(copy.get(i)).stream().map(ItemSearchIndex::normalize).toList();
+            texts[i] = String.join("\n", stackTerms);
+            for (String term : stackTerms) {
+                wordEntries.add(new WordEntry(term, i));
+                for (String word : term.split("[^\\p{L}\\p{N}]+")) {
+                    if (!word.isEmpty() && !word.equals(term)) {
+                        wordEntries.add(new WordEntry(word, i));
+                    }
+                }
+            }
+            String text = texts[i];
+            for (int start = 0; start + GRAM <= text.length(); start++) {
+                String gram = text.substring(start, start + GRAM);
+                if (gram.indexOf('\n') >= 0) {
+                    continue;
+                }
+                IntArrayList owners = postings.computeIfAbsent(gram, key -> new IntArrayList());
+                // Стеки обходятся по порядку, поэтому достаточно сравнить с последним номером
+                if (owners.isEmpty() || owners.getInt(owners.size() - 1) != i) {
+                    owners.add(i);
+                }
+            }
+        }
+
+        wordEntries.sort(Comparator.comparing(WordEntry::word).thenComparingInt(WordEntry::owner));
+        String[] words = new String[wordEntries.size()];
+        int[] owners = new int[wordEntries.size()];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = wordEntries.get(i).word();
+            owners[i] = wordEntries.get(i).owner();
+        }
+        Map<String, int[]> grams = new HashMap<>(postings.size() * 2);
+        postings.forEach((gram, list) -> grams.put(gram, list.toIntArray()));
+        return new ItemSearchIndex(copy, texts, words, owners, grams);
+    }
+
+    /**
+     * Термины поиска по названию: локализованное название, полный ID и путь ID.
+     *
+     * @param stack Стек предмета
+     * @return Индексируемые строки
+     */
+    public static List<String> nameTerms(ItemStack stack) {
+        ResourceLocation id = ForgeRegistries.ITEMS.getKey(stack.getItem());
+        if (id == null) {
+            return List.of(stack.getHoverName().getString());
+        }
+        return List.of(stack.getHoverName().getString(), id.toString(), id.getPath());
+    }
+
+    /**
+     * Термины поиска по тегам: ID всех тегов предмета.
+     *
+     * @param stack Стек предмета
+     * @return Индексируемые строки
+     */
+    public static List<String> tagTerms(ItemStack stack) {
+        return stack.getTags().map(tag -> tag.location().toString()).toList();
+    }
+
+    /**
+     * Количество стеков в индексе.
+     *
+     * @return Количество стеков
+     */
+    public int size() {
+        return stacks.size();
+    }
+
+    /**
+     * Ищет стеки, подходящие под каждое слово запроса.
+     *
+     * @param query Запрос
+     * @return Подходящие стеки в исходном порядке, для пустого запроса - все стеки
+     */
+    public List<ItemStack> search(String query) {
+        String[] tokens = normalize(query).trim().split("\\s+");
+        BitSet result = null;
+        for (String token : tokens) {
+            if (token.isEmpty()) {
+                continue;
+            }
+            BitSet matches = token.length() < GRAM ? matchPrefix(token) : matchSubstring(token);
+            if (result == null) {
+                result = matches;
+            } else {
+                result.and(matches);
+            }
+            if (result.isEmpty()) {
+                return List.of();
+            }
+        }
+        if (result == null) {
+            return stacks;
+        }
+        List<ItemStack> found = new ArrayList<>(result.cardinality());
+        for (int i = result.nextSetBit(0); i >= 0; i = result.nextSetBit(i + 1)) {
+            found.add(stacks.get(i));
+        }
+        return found;
+    }
+
+    private BitSet matchPrefix(String prefix) {
+        BitSet matches = new BitSet(stacks.size());
+        int from = lowerBound(prefix);
+        for (int i = from; i < words.length && words[i].startsWith(prefix); i++) {
+            matches.set(owners[i]);
+        }
+        return matches;
+    }
+
+    private BitSet matchSubstring(String token) {
+        BitSet matches = new BitSet(stacks.size());
+        int count = token.length() - GRAM + 1;
+        int[][] lists = new int[count][];
+        for (int i = 0; i < count; i++) {
+            int[] list = grams.get(token.substring(i, i + GRAM));
+            if (list == null) {
+                return matches;
+            }
+            lists[i] = list;
+        }
+        // Кандидаты - самый короткий список, остальные проверяются двоичным поиском
+        Arrays.sort(lists, Comparator.comparingInt(list -> list.length));
+        candidates:
+        for (int candidate : lists[0]) {
+            for (int i = 1; i < lists.length; i++) {
+                if (Arrays.binarySearch(lists[i], candidate) < 0) {
+                    continue candidates;
+                }
+            }
+            // Триграммы могут совпасть в разных местах текста - проверяем подстроку целиком
+            if (texts[candidate].contains(token)) {
+                matches.set(candidate);
+            }
+        }
+        return matches;
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = words.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (words[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private record WordEntry(String word, int owner) {}
+}
@@ -0,0 +1,80 @@
+package com.minecraft.mod.by.radchuk.utils.tabs.search;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.screens.inventory.CreativeModeInventoryScreen;
+import net.minecraft.client.searchtree.SearchRegistry;
+import net.minecraft.world.item.CreativeModeTab;
+import net.minecraft.world.item.ItemStack;
+import net.minecraftforge.client.CreativeModeTabSearchRegistry;
+import net.minecraftforge.client.event.ScreenEvent;
+import net.minecraftforge.common.MinecraftForge;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Подключение {@link IndexedSearchTree} к вкладкам с полем поиска.
+ * Только для клиента.
+ * <p>
+ * Реестр деревьев поиска {@code Minecraft.searchRegistry} открыт через
+ * {@code META-INF/accesstransformer.cfg}. Minecraft регистрирует деревья вкладок
+ * один раз, в своем конструкторе, до первой перезагрузки ресурсов, во время
+ * которой выполняется {@code FMLClientSetupEvent}. Поэтому деревья, замененные
+ * в {@code enqueueWork}, больше не перезаписываются. Это проверяется после первого
+ * открытия творческого инвентаря: если у вкладки оказалось чужое дерево,
+ * в лог выводится предупреждение.
+ */
+public final class SearchTreeInstaller {
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final AtomicBoolean REGISTERED = new AtomicBoolean();
+    private static final AtomicBoolean VERIFIED = new AtomicBoolean();
+    private static final List<CreativeModeTab> INSTALLED = new CopyOnWriteArrayList<>();
+
+    /**
+     * Приватный конструктор для предотвращения создания экземпляров класса.
+     */
+    private SearchTreeInstaller() {}
+
+    /**
+     * Заменяет деревья поиска по названию и по тегам вкладки на индексированные.
+     * Вызывается после создания деревьев поиска Minecraft, например в
+     * {@code FMLClientSetupEvent#enqueueWork}. Если у вкладки нет ключей поиска,
+     * она продолжает использовать поиск Minecraft.
+     *
+     * @param tab Вкладка с полем поиска
+     */
+    public static void install(CreativeModeTab tab) {
+        SearchRegistry.Key<ItemStack> names = CreativeModeTabSearchRegistry.getNameSearchKey(tab);
+        SearchRegistry.Key<ItemStack> tags = CreativeModeTabSearchRegistry.getTagSearchKey(tab);
+        if (names == null || tags == null) {
+            LOGGER.warn("Не удалось подключить индексированный поиск к вкладке {}: нет ключей поиска",
+                tab.getDisplayName().getString());
+            return;
+        }
+        SearchRegistry registry = Minecraft.getInstance().searchRegistry;
+        registry.register(names, stacks -> new IndexedSearchTree(stacks, ItemSearchIndex::nameTerms));
+        registry.register(tags, stacks -> new IndexedSearchTree(stacks, ItemSearchIndex::tagTerms));
+        INSTALLED.add(tab);
+        if (REGISTERED.compareAndSet(false, true)) {
+            MinecraftForge.EVENT_BUS.addListener(SearchTreeInstaller::onScreenInit);
+        }
+    }
+
+    private static void onScreenInit(ScreenEvent.Init.Post event) {
+        // Деревья заполняются при построении содержимого вкладок в init экрана
+        if (!(event.getScreen() instanceof CreativeModeInventoryScreen) || !VERIFIED.compareAndSet(false, true)) {
+            return;
+        }
+        SearchRegistry registry = Minecraft.getInstance().searchRegistry;
+        for (CreativeModeTab tab : INSTALLED) {
+            SearchRegistry.Key<ItemStack> names = CreativeModeTabSearchRegistry.getNameSearchKey(tab);
+            if (names != null && !(registry.getTree(names) instanceof IndexedSearchTree)) {
+                LOGGER.warn("Дерево поиска вкладки {} было заменено после подключения индексированного поиска",
+                    tab.getDisplayName().getString());
+            }
+        }
+    }
+}